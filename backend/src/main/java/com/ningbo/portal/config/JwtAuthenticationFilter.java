@@ -1,67 +1,111 @@
-package com.ningbo.portal.config;
-
-import com.ningbo.portal.service.CustomUserDetailsService;
-import com.ningbo.portal.util.JwtUtil;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
-import org.springframework.stereotype.Component;
-import org.springframework.web.filter.OncePerRequestFilter;
-
-import javax.servlet.FilterChain;
-import javax.servlet.ServletException;
-import javax.servlet.http.HttpServletRequest;
-import javax.servlet.http.HttpServletResponse;
-import java.io.IOException;
-
-@Component
-public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    
-    @Autowired
-    private CustomUserDetailsService userDetailsService;
-    
-    @Autowired
-    private JwtUtil jwtUtil;
-    
-    @Override
-    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
-            throws ServletException, IOException {
-        
-        final String requestTokenHeader = request.getHeader("Authorization");
-        
-        String username = null;
-        String jwtToken = null;
-        
-        // JWT Token 格式为 "Bearer token"，去除Bearer获取token
-        if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
-            try {
-                username = jwtUtil.getUsernameFromToken(jwtToken);
-            } catch (Exception e) {
-                logger.error("无法获取JWT Token中的用户名", e);
-            }
-        }
-        
-        // 如果token存在但用户未认证
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-            
-            // 如果token有效，配置Spring Security手动设置认证
-            if (jwtUtil.validateToken(jwtToken, userDetails.getUsername())) {
-                
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, null, userDetails.getAuthorities());
-                usernamePasswordAuthenticationToken
-                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                // 设置认证后，指定用户已登录
-                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
-            }
-        }
-        chain.doFilter(request, response);
-    }
+package com.ningbo.portal.config;
+
+import com.ningbo.portal.service.PrincipalCache;
+import com.ningbo.portal.service.TokenDenyList;
+import com.ningbo.portal.service.TokenVersionRegistry;
+import com.ningbo.portal.util.JwtUtil;
+import com.ningbo.portal.util.VerifiedToken;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+    
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+    
+    @Autowired
+    private TokenDenyList tokenDenyList;
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        
+        final String requestTokenHeader = request.getHeader("Authorization");
+        
+        VerifiedToken verifiedToken = null;
+        
+        // JWT Token 格式为 "Bearer token"，去除Bearer获取token；签名和有效期在此一次验证
+        if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
+            try {
+                verifiedToken = jwtUtil.verify(requestTokenHeader.substring(7));
+            } catch (Exception e) {
+                logger.error("JWT Token 验证失败", e);
+            }
+        }
+        
+        // 已退出登录或被管理员吊销的token按未认证处理
+        if (verifiedToken != null && tokenDenyList.isRevoked(verifiedToken.getTokenId())) {
+            logger.debug("JWT Token 已被吊销: " + verifiedToken.getTokenId());
+            verifiedToken = null;
+        }
+        
+        // 如果token存在但用户未认证
+        if (verifiedToken != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            
+            // 无状态模式下携带角色和令牌版本的token不查询用户表，旧token仍按用户名加载
+            UserDetails userDetails = jwtUtil.isStateless() && verifiedToken.isStateless()
+                    ? fromToken(verifiedToken)
+                    : loadUser(verifiedToken.getSubject());
+            
+            // 用户存在且未被禁用时，配置Spring Security手动设置认证
+            if (userDetails != null && userDetails.isEnabled()) {
+                
+                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
+                        new UsernamePasswordAuthenticationToken(
+                                userDetails, null, userDetails.getAuthorities());
+                usernamePasswordAuthenticationToken
+                        .setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                
+                // 设置认证后，指定用户已登录
+                SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+            }
+        }
+        chain.doFilter(request, response);
+    }
+    
+    private UserDetails loadUser(String username) {
+        try {
+            return principalCache.get(username);
+        } catch (UsernameNotFoundException e) {
+            // 用户已被删除，按未认证处理
+            logger.debug("JWT Token 对应的用户不存在: " + username);
+            return null;
+        }
+    }
+    
+    // 令牌版本已变化 (用户被修改、禁用或删除) 时返回 null
+    private UserDetails fromToken(VerifiedToken token) {
+        if (!tokenVersionRegistry.isCurrent(token.getUserId(), token.getTokenVersion())) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (String role : token.getRoles()) {
+            authorities.add(new SimpleGrantedAuthority(role));
+        }
+        return new User(token.getSubject(), "", authorities);
+    }
 }
\ No newline at end of file
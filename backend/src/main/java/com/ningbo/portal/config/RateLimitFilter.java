@@ -0,0 +1,132 @@
+package com.ningbo.portal.config;
+
+import com.ningbo.portal.service.RateLimiter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 留言提交和登录接口限流，在 Spring Security 过滤器链之前执行
+ * <p>
+ * 路径按 Spring MVC 的方式规范化 (去掉 ;jsessionid 等路径参数、解码、合并重复斜杠、去掉末尾斜杠) 后匹配，
+ * 同一接口的不同写法共用一个限额。只有直连地址属于 rate-limit.trusted-proxies 时才读取 X-Forwarded-For，
+ * 从右向左跳过受信任的代理，取第一个不受信任的地址作为客户端；否则以直连地址限流。
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+    
+    private static final int TOO_MANY_REQUESTS = 429;
+    
+    private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+    
+    // IPv4 点分十进制，或含冒号的 IPv6 (InetAddress 按字面量解析，格式错误时直接失败)
+    private static final Pattern IP_LITERAL = Pattern.compile(
+            "((25[0-5]|2[0-4]\\d|1?\\d?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1?\\d?\\d)|[0-9a-fA-F:.]*:[0-9a-fA-F:.]*");
+    
+    @Autowired
+    private RateLimiter rateLimiter;
+    
+    @Value("${rate-limit.trusted-proxies:127.0.0.1,::1}")
+    private List<String> trustedProxyAddresses;
+    
+    private final List<IpAddressMatcher> trustedProxies = new ArrayList<>();
+    
+    @PostConstruct
+    public void init() {
+        for (String address : trustedProxyAddresses) {
+            if (!address.trim().isEmpty()) {
+                trustedProxies.add(new IpAddressMatcher(address.trim()));
+            }
+        }
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        
+        String route = resolveRoute(request);
+        if (route != null && !rateLimiter.tryAcquire(route, clientAddress(request))) {
+            response.setStatus(TOO_MANY_REQUESTS);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(rateLimiter.getRetryAfterSeconds(route)));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("请求过于频繁，请稍后重试");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+    
+    // 只限制写入类的 POST 请求
+    String resolveRoute(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        String path = normalizePath(request);
+        if ("/api/messages".equals(path)) {
+            return RateLimiter.ROUTE_MESSAGES;
+        }
+        if ("/api/auth/login".equals(path)) {
+            return RateLimiter.ROUTE_LOGIN;
+        }
+        return null;
+    }
+    
+    private static String normalizePath(HttpServletRequest request) {
+        String path = PATH_HELPER.getPathWithinApplication(request);
+        int end = path.length();
+        while (end > 1 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        return path.substring(0, end);
+    }
+    
+    // X-Forwarded-For 中受信任代理左侧的地址可由客户端任意填写，只信任到第一个不受信任的地址为止
+    String clientAddress(HttpServletRequest request) {
+        String remote = request.getRemoteAddr();
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded == null || forwarded.trim().isEmpty() || !isTrustedProxy(remote)) {
+            return remote;
+        }
+        String[] hops = forwarded.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!hop.isEmpty() && !isTrustedProxy(hop)) {
+                return hop;
+            }
+        }
+        return remote;
+    }
+    
+    private boolean isTrustedProxy(String address) {
+        // 只匹配 IP 字面量，X-Forwarded-For 中的主机名不会触发 DNS 解析
+        if (!IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher proxy : trustedProxies) {
+            try {
+                if (proxy.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
\ No newline at end of file
@@ -1,67 +1,122 @@
-package com.ningbo.portal.config;
-
-import com.ningbo.portal.service.CustomUserDetailsService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Bean;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
-import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
-import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
-import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
-import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import org.springframework.web.cors.CorsConfiguration;
-import org.springframework.web.cors.CorsConfigurationSource;
-import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
-
-import java.util.Arrays;
-
-@Configuration
-@EnableWebSecurity
-@EnableGlobalMethodSecurity(prePostEnabled = true)
-public class SecurityConfig extends WebSecurityConfigurerAdapter {
-    
-    @Autowired
-    private CustomUserDetailsService userDetailsService;
-    
-    @Autowired
-    private JwtAuthenticationFilter jwtAuthenticationFilter;
-    
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-    
-    @Bean
-    @Override
-    public AuthenticationManager authenticationManagerBean() throws Exception {
-        return super.authenticationManagerBean();
-    }
-    
-    @Override
-    protected void configure(AuthenticationManagerBuilder auth) throws Exception {
-        auth.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder());
-    }
-    
-    @Override
-    protected void configure(HttpSecurity http) throws Exception {
-        http.cors().and().csrf().disable()
-                .authorizeRequests()
-                .antMatchers("/api/auth/**").permitAll()
-                .antMatchers("/api/public/**").permitAll()
-                .antMatchers("/api/company/**").permitAll()
-                .antMatchers("/api/products/**").permitAll()
-                .antMatchers("/api/news/**").permitAll()
-                .antMatchers("/api/messages").permitAll()  // 允许匿名用户提交留言
-                .antMatchers("/api/admin/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
-                .anyRequest().authenticated()
-                .and()
-                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
-        
-        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
-    }
+package com.ningbo.portal.config;
+
+import com.ningbo.portal.service.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
+import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.header.writers.StaticHeadersWriter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.Arrays;
+
+@Configuration
+@EnableWebSecurity
+@EnableGlobalMethodSecurity(prePostEnabled = true)
+public class SecurityConfig extends WebSecurityConfigurerAdapter {
+    
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+    
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    
+    // 调高后，旧哈希在用户下次登录成功时按新强度重新计算
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+    
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return new BCryptPasswordEncoder(bcryptStrength);
+    }
+    
+    // JWT 过滤器只在安全过滤器链中执行，不再作为 Servlet 过滤器自动注册到所有请求
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+    
+    @Bean
+    @Override
+    public AuthenticationManager authenticationManagerBean() throws Exception {
+        return super.authenticationManagerBean();
+    }
+    
+    @Override
+    protected void configure(AuthenticationManagerBuilder auth) throws Exception {
+        auth.userDetailsService(userDetailsService).passwordEncoder(passwordEncoder());
+    }
+    
+    @Override
+    protected void configure(HttpSecurity http) throws Exception {
+        http.cors().and().csrf().disable()
+                .authorizeRequests()
+                .antMatchers("/api/auth/**").permitAll()
+                .antMatchers("/api/public/**").permitAll()
+                .antMatchers("/api/company/**").permitAll()
+                .antMatchers("/api/products/**").permitAll()
+                .antMatchers("/api/news/**").permitAll()
+                .antMatchers("/api/messages").permitAll()  // 允许匿名用户提交留言
+                .antMatchers("/api/admin/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
+                .anyRequest().authenticated()
+                .and()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+        
+        http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+    }
+    
+    /**
+     * 公开内容的匿名 GET 请求 (新闻、产品、公司信息) 走单独的精简过滤器链：
+     * 不解析 token、不建立 SecurityContext、不做权限判断，只保留 CORS 和安全响应头。
+     * 限流在 Spring Security 之前的 RateLimitFilter 中完成，不受影响；这些路径的写操作仍走默认过滤器链。
+     * 这些响应带 ETag，默认的 no-store 会让浏览器无法缓存和发送条件请求，因此改为 no-cache (缓存但每次校验)，
+     * 接口自己设置了 Cache-Control 时保留接口的设置。
+     * security.public-read-chain=false 时不注册该过滤器链，公开内容与其他请求一样经过完整的过滤器链。
+     */
+    @Configuration
+    @Order(1)
+    @ConditionalOnProperty(name = "security.public-read-chain", havingValue = "true", matchIfMissing = true)
+    public static class PublicReadSecurityConfig extends WebSecurityConfigurerAdapter {
+        
+        private static final RequestMatcher PUBLIC_READS = new OrRequestMatcher(
+                new AntPathRequestMatcher("/api/news/**", "GET"),
+                new AntPathRequestMatcher("/api/products/**", "GET"),
+                new AntPathRequestMatcher("/api/company/**", "GET"));
+        
+        public PublicReadSecurityConfig() {
+            // 不启用默认过滤器 (SecurityContext、匿名认证、请求缓存、退出登录等)
+            super(true);
+        }
+        
+        @Override
+        protected void configure(HttpSecurity http) throws Exception {
+            http.requestMatcher(PUBLIC_READS)
+                    .cors().and()
+                    .headers()
+                    .cacheControl().disable()
+                    .addHeaderWriter(new StaticHeadersWriter(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue()));
+        }
+    }
 }
\ No newline at end of file
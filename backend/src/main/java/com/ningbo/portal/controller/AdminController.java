@@ -1,428 +1,587 @@
-package com.ningbo.portal.controller;
-
-import com.ningbo.portal.entity.AdminUser;
-import com.ningbo.portal.entity.SystemConfig;
-import com.ningbo.portal.entity.Product;
-import com.ningbo.portal.entity.News;
-import com.ningbo.portal.entity.Message;
-import com.ningbo.portal.service.AdminUserService;
-import com.ningbo.portal.service.SystemConfigService;
-import com.ningbo.portal.service.DashboardService;
-import com.ningbo.portal.service.ProductService;
-import com.ningbo.portal.service.NewsService;
-import com.ningbo.portal.service.MessageService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.*;
-
-import javax.validation.Valid;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-
-@RestController
-@RequestMapping("/api/admin")
-@CrossOrigin(origins = "*")
-public class AdminController {
-    
-    @Autowired
-    private AdminUserService adminUserService;
-    
-    @Autowired
-    private SystemConfigService systemConfigService;
-    
-    @Autowired
-    private DashboardService dashboardService;
-    
-    @Autowired
-    private ProductService productService;
-    
-    @Autowired
-    private NewsService newsService;
-    
-    @Autowired
-    private MessageService messageService;
-    
-    // ========== 用户管理 ==========
-    
-    @GetMapping("/users")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<Page<AdminUser>> getUsers(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "id") String sort,
-            @RequestParam(defaultValue = "desc") String direction) {
-        
-        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? 
-                Sort.Direction.DESC : Sort.Direction.ASC;
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
-        
-        Page<AdminUser> users = adminUserService.findAll(pageable);
-        return ResponseEntity.ok(users);
-    }
-    
-    @GetMapping("/users/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<AdminUser> getUser(@PathVariable Long id) {
-        Optional<AdminUser> user = adminUserService.findById(id);
-        return user.map(ResponseEntity::ok)
-                  .orElse(ResponseEntity.notFound().build());
-    }
-    
-    @PostMapping("/users")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> createUser(@Valid @RequestBody AdminUser adminUser) {
-        try {
-            // 检查用户名是否已存在
-            if (adminUserService.existsByUsername(adminUser.getUsername())) {
-                return ResponseEntity.badRequest().body("用户名已存在");
-            }
-            
-            // 检查邮箱是否已存在
-            if (adminUser.getEmail() != null && 
-                adminUserService.existsByEmail(adminUser.getEmail())) {
-                return ResponseEntity.badRequest().body("邮箱已存在");
-            }
-            
-            AdminUser savedUser = adminUserService.save(adminUser);
-            return ResponseEntity.ok(savedUser);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("创建用户失败：" + e.getMessage());
-        }
-    }
-    
-    @PutMapping("/users/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> updateUser(@PathVariable Long id, @Valid @RequestBody AdminUser adminUser) {
-        try {
-            adminUser.setId(id);
-            AdminUser updatedUser = adminUserService.update(adminUser);
-            return ResponseEntity.ok(updatedUser);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("更新用户失败：" + e.getMessage());
-        }
-    }
-    
-    @DeleteMapping("/users/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
-        try {
-            adminUserService.deleteById(id);
-            return ResponseEntity.ok("用户删除成功");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("删除用户失败：" + e.getMessage());
-        }
-    }
-    
-    @PostMapping("/users/{id}/change-password")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> changePassword(@PathVariable Long id, @RequestBody Map<String, String> request) {
-        try {
-            String newPassword = request.get("password");
-            if (newPassword == null || newPassword.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body("密码不能为空");
-            }
-            
-            adminUserService.changePassword(id, newPassword);
-            return ResponseEntity.ok("密码修改成功");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("修改密码失败：" + e.getMessage());
-        }
-    }
-    
-    // ========== 系统配置管理 ==========
-    
-    @GetMapping("/configs")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<List<SystemConfig>> getConfigs() {
-        List<SystemConfig> configs = systemConfigService.findAll();
-        return ResponseEntity.ok(configs);
-    }
-    
-    @GetMapping("/configs/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<SystemConfig> getConfig(@PathVariable Long id) {
-        Optional<SystemConfig> config = systemConfigService.findById(id);
-        return config.map(ResponseEntity::ok)
-                    .orElse(ResponseEntity.notFound().build());
-    }
-    
-    @PostMapping("/configs")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> createConfig(@Valid @RequestBody SystemConfig systemConfig) {
-        try {
-            if (systemConfigService.existsByConfigKey(systemConfig.getConfigKey())) {
-                return ResponseEntity.badRequest().body("配置键已存在");
-            }
-            
-            SystemConfig savedConfig = systemConfigService.save(systemConfig);
-            return ResponseEntity.ok(savedConfig);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("创建配置失败：" + e.getMessage());
-        }
-    }
-    
-    @PutMapping("/configs/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> updateConfig(@PathVariable Long id, @Valid @RequestBody SystemConfig systemConfig) {
-        try {
-            systemConfig.setId(id);
-            SystemConfig savedConfig = systemConfigService.save(systemConfig);
-            return ResponseEntity.ok(savedConfig);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("更新配置失败：" + e.getMessage());
-        }
-    }
-    
-    @DeleteMapping("/configs/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN')")
-    public ResponseEntity<?> deleteConfig(@PathVariable Long id) {
-        try {
-            systemConfigService.deleteById(id);
-            return ResponseEntity.ok("配置删除成功");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("删除配置失败：" + e.getMessage());
-        }
-    }
-    
-    // ========== 仪表盘统计 ==========
-    
-    @GetMapping("/dashboard/stats")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<Map<String, Object>> getDashboardStats() {
-        try {
-            Map<String, Object> stats = dashboardService.getDashboardStats();
-            return ResponseEntity.ok(stats);
-        } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "获取统计数据失败：" + e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
-        }
-    }
-    
-    @GetMapping("/dashboard/activities")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<List<Map<String, Object>>> getRecentActivities(
-            @RequestParam(defaultValue = "5") int limit) {
-        try {
-            List<Map<String, Object>> activities = dashboardService.getRecentActivities(limit);
-            return ResponseEntity.ok(activities);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(new ArrayList<>());
-        }
-    }
-    
-    // ========== 产品管理 ==========
-    
-    @GetMapping("/products")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<List<Product>> getAllProductsForAdmin() {
-        try {
-            List<Product> products = productService.findAll(); // 返回全量数据，包括isActive=false
-            return ResponseEntity.ok(products);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(new ArrayList<>());
-        }
-    }
-    
-    @GetMapping("/products/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<Product> getProductForAdmin(@PathVariable Long id) {
-        Optional<Product> product = productService.findById(id);
-        return product.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
-    }
-    
-    @PostMapping("/products")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> createProduct(@Valid @RequestBody Product product) {
-        try {
-            Product savedProduct = productService.save(product);
-            return ResponseEntity.ok(savedProduct);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("创建产品失败：" + e.getMessage());
-        }
-    }
-    
-    @PutMapping("/products/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product) {
-        try {
-            product.setId(id);
-            Product updatedProduct = productService.save(product);
-            return ResponseEntity.ok(updatedProduct);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("更新产品失败：" + e.getMessage());
-        }
-    }
-    
-    @DeleteMapping("/products/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> deleteProduct(@PathVariable Long id) {
-        try {
-            productService.deleteById(id);
-            return ResponseEntity.ok("产品删除成功");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("删除产品失败：" + e.getMessage());
-        }
-    }
-    
-    // ========== 新闻管理 ==========
-    
-    @GetMapping("/news")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<List<News>> getAllNewsForAdmin() {
-        try {
-            List<News> newsList = newsService.findAll(); // 返回全量数据，包括isPublished=false
-            return ResponseEntity.ok(newsList);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(new ArrayList<>());
-        }
-    }
-    
-    @GetMapping("/news/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<News> getNewsForAdmin(@PathVariable Long id) {
-        Optional<News> news = newsService.findById(id);
-        return news.map(ResponseEntity::ok)
-                   .orElse(ResponseEntity.notFound().build());
-    }
-    
-    @PostMapping("/news")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> createNews(@Valid @RequestBody News news) {
-        try {
-            News savedNews = newsService.save(news);
-            return ResponseEntity.ok(savedNews);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("创建新闻失败：" + e.getMessage());
-        }
-    }
-    
-    @PutMapping("/news/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> updateNews(@PathVariable Long id, @Valid @RequestBody News news) {
-        try {
-            news.setId(id);
-            News updatedNews = newsService.save(news);
-            return ResponseEntity.ok(updatedNews);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("更新新闻失败：" + e.getMessage());
-        }
-    }
-    
-    @DeleteMapping("/news/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> deleteNews(@PathVariable Long id) {
-        try {
-            newsService.deleteById(id);
-            return ResponseEntity.ok("新闻删除成功");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("删除新闻失败：" + e.getMessage());
-        }
-    }
-    
-    // ========== 留言管理 ==========
-    
-    @GetMapping("/messages")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<Page<Message>> getAllMessages(
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false) Boolean isRead,
-            @RequestParam(required = false) Boolean isReplied) {
-        try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Message> messages;
-            
-            if (isRead != null) {
-                messages = messageService.findByReadStatus(isRead, pageable);
-            } else if (isReplied != null) {
-                messages = messageService.findByReplyStatus(isReplied, pageable);
-            } else {
-                messages = messageService.findAllMessages(pageable);
-            }
-            
-            return ResponseEntity.ok(messages);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Page.empty());
-        }
-    }
-    
-    @GetMapping("/messages/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<Message> getMessage(@PathVariable Long id) {
-        Optional<Message> message = messageService.findById(id);
-        return message.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
-    }
-    
-    @PostMapping("/messages/{id}/mark-read")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> markMessageAsRead(@PathVariable Long id) {
-        try {
-            Message message = messageService.markAsRead(id);
-            if (message != null) {
-                return ResponseEntity.ok("已标记为已读");
-            } else {
-                return ResponseEntity.notFound().build();
-            }
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("标记失败：" + e.getMessage());
-        }
-    }
-    
-    @PostMapping("/messages/{id}/reply")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> replyMessage(@PathVariable Long id, @RequestBody Map<String, String> request) {
-        try {
-            String replyContent = request.get("replyContent");
-            if (replyContent == null || replyContent.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body("回复内容不能为空");
-            }
-            
-            Message message = messageService.replyMessage(id, replyContent);
-            if (message != null) {
-                return ResponseEntity.ok(message);
-            } else {
-                return ResponseEntity.notFound().build();
-            }
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("回复失败：" + e.getMessage());
-        }
-    }
-    
-    @DeleteMapping("/messages/{id}")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<?> deleteMessage(@PathVariable Long id) {
-        try {
-            messageService.deleteById(id);
-            return ResponseEntity.ok("留言删除成功");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("删除留言失败：" + e.getMessage());
-        }
-    }
-    
-    @GetMapping("/messages/stats")
-    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
-    public ResponseEntity<Map<String, Object>> getMessageStats() {
-        try {
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("unreadCount", messageService.getUnreadCount());
-            stats.put("unrepliedCount", messageService.getUnrepliedCount());
-            stats.put("totalCount", messageService.findAll().size());
-            return ResponseEntity.ok(stats);
-        } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("error", "获取统计信息失败：" + e.getMessage());
-            return ResponseEntity.badRequest().body(errorResponse);
-        }
-    }
+package com.ningbo.portal.controller;
+
+import com.ningbo.portal.dto.BulkMessageRequest;
+import com.ningbo.portal.dto.CursorPage;
+import com.ningbo.portal.dto.MessageFilter;
+import com.ningbo.portal.dto.NewsSummary;
+import com.ningbo.portal.dto.ProductCard;
+import com.ningbo.portal.entity.AdminUser;
+import com.ningbo.portal.entity.SystemConfig;
+import com.ningbo.portal.entity.Product;
+import com.ningbo.portal.entity.News;
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.service.AdminEventHub;
+import com.ningbo.portal.service.AdminUserService;
+import com.ningbo.portal.service.CompanyInfoService;
+import com.ningbo.portal.service.SystemConfigService;
+import com.ningbo.portal.service.DashboardService;
+import com.ningbo.portal.service.ProductService;
+import com.ningbo.portal.service.NewsService;
+import com.ningbo.portal.service.MessageService;
+import com.ningbo.portal.service.TokenDenyList;
+import com.ningbo.portal.util.JwtUtil;
+import com.ningbo.portal.util.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = "*")
+public class AdminController {
+    
+    private static final int MAX_INBOX_SIZE = 100;
+    
+    @Autowired
+    private AdminUserService adminUserService;
+    
+    @Autowired
+    private SystemConfigService systemConfigService;
+    
+    @Autowired
+    private CompanyInfoService companyInfoService;
+    
+    @Autowired
+    private DashboardService dashboardService;
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private NewsService newsService;
+    
+    @Autowired
+    private MessageService messageService;
+    
+    @Autowired
+    private AdminEventHub adminEventHub;
+    
+    @Autowired
+    private TokenDenyList tokenDenyList;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    // ========== 用户管理 ==========
+    
+    @GetMapping("/users")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<Page<AdminUser>> getUsers(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(defaultValue = "desc") String direction) {
+        
+        Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction) ? 
+                Sort.Direction.DESC : Sort.Direction.ASC;
+        Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sort));
+        
+        Page<AdminUser> users = adminUserService.findAll(pageable);
+        return ResponseEntity.ok(users);
+    }
+    
+    @GetMapping("/users/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<AdminUser> getUser(@PathVariable Long id) {
+        Optional<AdminUser> user = adminUserService.findById(id);
+        return user.map(ResponseEntity::ok)
+                  .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/users")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> createUser(@Valid @RequestBody AdminUser adminUser) {
+        try {
+            // 检查用户名是否已存在
+            if (adminUserService.existsByUsername(adminUser.getUsername())) {
+                return ResponseEntity.badRequest().body("用户名已存在");
+            }
+            
+            // 检查邮箱是否已存在
+            if (adminUser.getEmail() != null && 
+                adminUserService.existsByEmail(adminUser.getEmail())) {
+                return ResponseEntity.badRequest().body("邮箱已存在");
+            }
+            
+            AdminUser savedUser = adminUserService.save(adminUser);
+            return ResponseEntity.ok(savedUser);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("创建用户失败：" + e.getMessage());
+        }
+    }
+    
+    @PutMapping("/users/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> updateUser(@PathVariable Long id, @Valid @RequestBody AdminUser adminUser) {
+        try {
+            adminUser.setId(id);
+            AdminUser updatedUser = adminUserService.update(adminUser);
+            return ResponseEntity.ok(updatedUser);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("更新用户失败：" + e.getMessage());
+        }
+    }
+    
+    @DeleteMapping("/users/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
+        try {
+            adminUserService.deleteById(id);
+            return ResponseEntity.ok("用户删除成功");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("删除用户失败：" + e.getMessage());
+        }
+    }
+    
+    @PostMapping("/users/{id}/change-password")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> changePassword(@PathVariable Long id, @RequestBody Map<String, String> request) {
+        try {
+            String newPassword = request.get("password");
+            if (newPassword == null || newPassword.trim().isEmpty()) {
+                return ResponseEntity.badRequest().body("密码不能为空");
+            }
+            
+            adminUserService.changePassword(id, newPassword);
+            return ResponseEntity.ok("密码修改成功");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("修改密码失败：" + e.getMessage());
+        }
+    }
+    
+    // 吊销指定的访问令牌 (如已泄露的令牌)，令牌过期前各节点都不再接受
+    @PostMapping("/tokens/revoke")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> revokeToken(@RequestBody Map<String, String> request) {
+        String token = request.get("token");
+        if (token == null || token.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body("令牌不能为空");
+        }
+        
+        VerifiedToken verified;
+        try {
+            verified = jwtUtil.verify(token.trim());
+        } catch (JwtException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("令牌无效或已过期");
+        }
+        if (verified.getTokenId() == null) {
+            return ResponseEntity.badRequest().body("该令牌不支持吊销，将在过期后失效");
+        }
+        tokenDenyList.revoke(verified.getTokenId(), verified.getExpiresAtMillis());
+        return ResponseEntity.ok("令牌已吊销");
+    }
+    
+    // ========== 系统配置管理 ==========
+    
+    @GetMapping("/configs")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<List<SystemConfig>> getConfigs() {
+        List<SystemConfig> configs = systemConfigService.findAll();
+        return ResponseEntity.ok(configs);
+    }
+    
+    @GetMapping("/configs/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<SystemConfig> getConfig(@PathVariable Long id) {
+        Optional<SystemConfig> config = systemConfigService.findById(id);
+        return config.map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/configs")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> createConfig(@Valid @RequestBody SystemConfig systemConfig) {
+        try {
+            if (systemConfigService.existsByConfigKey(systemConfig.getConfigKey())) {
+                return ResponseEntity.badRequest().body("配置键已存在");
+            }
+            
+            SystemConfig savedConfig = systemConfigService.save(systemConfig);
+            return ResponseEntity.ok(savedConfig);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("创建配置失败：" + e.getMessage());
+        }
+    }
+    
+    @PutMapping("/configs/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> updateConfig(@PathVariable Long id, @Valid @RequestBody SystemConfig systemConfig) {
+        try {
+            systemConfig.setId(id);
+            SystemConfig savedConfig = systemConfigService.save(systemConfig);
+            return ResponseEntity.ok(savedConfig);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("更新配置失败：" + e.getMessage());
+        }
+    }
+    
+    @DeleteMapping("/configs/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    public ResponseEntity<?> deleteConfig(@PathVariable Long id) {
+        try {
+            systemConfigService.deleteById(id);
+            return ResponseEntity.ok("配置删除成功");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("删除配置失败：" + e.getMessage());
+        }
+    }
+    
+    // ========== 企业信息 ==========
+    
+    // 指定首页展示的主公司
+    @PostMapping("/company/{id}/main")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> setMainCompany(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(companyInfoService.setMainCompany(id));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("设置主公司失败：" + e.getMessage());
+        }
+    }
+    
+    // ========== 仪表盘统计 ==========
+    
+    @GetMapping("/dashboard/stats")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getDashboardStats() {
+        try {
+            Map<String, Object> stats = dashboardService.getDashboardStats();
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "获取统计数据失败：" + e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
+    
+    // 事件推送：新留言、回复和留言计数变化 (Server-Sent Events)，替代轮询统计接口
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public SseEmitter stream(HttpServletResponse response) {
+        SseEmitter emitter = adminEventHub.subscribe();
+        if (emitter == null) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "订阅人数已满，请稍后重试");
+        }
+        response.setHeader("Cache-Control", "no-cache");
+        // 禁止反向代理缓冲事件流
+        response.setHeader("X-Accel-Buffering", "no");
+        return emitter;
+    }
+    
+    @GetMapping("/dashboard/activities")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<List<Map<String, Object>>> getRecentActivities(
+            @RequestParam(defaultValue = "5") int limit) {
+        try {
+            List<Map<String, Object>> activities = dashboardService.getRecentActivities(limit);
+            return ResponseEntity.ok(activities);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ArrayList<>());
+        }
+    }
+    
+    // ========== 产品管理 ==========
+    
+    @GetMapping("/products")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<List<ProductCard>> getAllProductsForAdmin() {
+        try {
+            List<ProductCard> products = productService.findAllCards(); // 返回全量数据，包括isActive=false
+            return ResponseEntity.ok(products);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ArrayList<>());
+        }
+    }
+    
+    @GetMapping("/products/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<Product> getProductForAdmin(@PathVariable Long id) {
+        Optional<Product> product = productService.findById(id);
+        return product.map(ResponseEntity::ok)
+                     .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/products")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> createProduct(@Valid @RequestBody Product product) {
+        try {
+            Product savedProduct = productService.save(product);
+            return ResponseEntity.ok(savedProduct);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("创建产品失败：" + e.getMessage());
+        }
+    }
+    
+    @PutMapping("/products/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> updateProduct(@PathVariable Long id, @Valid @RequestBody Product product) {
+        try {
+            product.setId(id);
+            Product updatedProduct = productService.save(product);
+            return ResponseEntity.ok(updatedProduct);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("更新产品失败：" + e.getMessage());
+        }
+    }
+    
+    @DeleteMapping("/products/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> deleteProduct(@PathVariable Long id) {
+        try {
+            productService.deleteById(id);
+            return ResponseEntity.ok("产品删除成功");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("删除产品失败：" + e.getMessage());
+        }
+    }
+    
+    // ========== 新闻管理 ==========
+    
+    @GetMapping("/news")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<List<NewsSummary>> getAllNewsForAdmin() {
+        try {
+            List<NewsSummary> newsList = newsService.findAllSummaries(); // 返回全量数据，包括isPublished=false
+            return ResponseEntity.ok(newsList);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(new ArrayList<>());
+        }
+    }
+    
+    @GetMapping("/news/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<News> getNewsForAdmin(@PathVariable Long id) {
+        Optional<News> news = newsService.findById(id);
+        return news.map(ResponseEntity::ok)
+                   .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/news")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> createNews(@Valid @RequestBody News news) {
+        try {
+            News savedNews = newsService.save(news);
+            return ResponseEntity.ok(savedNews);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("创建新闻失败：" + e.getMessage());
+        }
+    }
+    
+    @PutMapping("/news/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> updateNews(@PathVariable Long id, @Valid @RequestBody News news) {
+        try {
+            news.setId(id);
+            News updatedNews = newsService.save(news);
+            return ResponseEntity.ok(updatedNews);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("更新新闻失败：" + e.getMessage());
+        }
+    }
+    
+    @DeleteMapping("/news/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> deleteNews(@PathVariable Long id) {
+        try {
+            newsService.deleteById(id);
+            return ResponseEntity.ok("新闻删除成功");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("删除新闻失败：" + e.getMessage());
+        }
+    }
+    
+    // ========== 留言管理 ==========
+    
+    @GetMapping("/messages")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<Page<Message>> getAllMessages(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) Boolean isReplied) {
+        try {
+            Pageable pageable = PageRequest.of(page, size);
+            Page<Message> messages;
+            
+            if (isRead != null) {
+                messages = messageService.findByReadStatus(isRead, pageable);
+            } else if (isReplied != null) {
+                messages = messageService.findByReplyStatus(isReplied, pageable);
+            } else {
+                messages = messageService.findAllMessages(pageable);
+            }
+            
+            return ResponseEntity.ok(messages);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Page.empty());
+        }
+    }
+    
+    // 收件箱：阅读状态、回复状态、提交时间范围 [from, to) 和邮箱可任意组合，游标分页
+    @GetMapping("/messages/inbox")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> getMessageInbox(
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) Boolean isReplied,
+            @RequestParam(required = false) Boolean isArchived,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            MessageFilter filter = normalize(new MessageFilter(isRead, isReplied, isArchived, from, to, email));
+            CursorPage<Message> inbox = messageService.findInbox(filter, cursor, Math.max(1, Math.min(size, MAX_INBOX_SIZE)));
+            return ResponseEntity.ok(inbox);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
+    @GetMapping("/messages/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<Message> getMessage(@PathVariable Long id) {
+        Optional<Message> message = messageService.findById(id);
+        return message.map(ResponseEntity::ok)
+                     .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping("/messages/{id}/mark-read")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> markMessageAsRead(@PathVariable Long id) {
+        try {
+            Message message = messageService.markAsRead(id);
+            if (message != null) {
+                return ResponseEntity.ok("已标记为已读");
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("标记失败：" + e.getMessage());
+        }
+    }
+    
+    @PostMapping("/messages/{id}/reply")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> replyMessage(@PathVariable Long id, @RequestBody Map<String, String> request) {
+        try {
+            String replyContent = request.get("replyContent");
+            if (replyContent == null || replyContent.trim().isEmpty()) {
+                return ResponseEntity.badRequest().body("回复内容不能为空");
+            }
+            
+            Message message = messageService.replyMessage(id, replyContent);
+            if (message != null) {
+                return ResponseEntity.ok(message);
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("回复失败：" + e.getMessage());
+        }
+    }
+    
+    @DeleteMapping("/messages/{id}")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> deleteMessage(@PathVariable Long id) {
+        try {
+            messageService.deleteById(id);
+            return ResponseEntity.ok("留言删除成功");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("删除留言失败：" + e.getMessage());
+        }
+    }
+    
+    // ========== 留言批量操作：请求体为 {"ids": [...]} 或 {"filter": {...}}，返回实际变化的条数 ==========
+    
+    @PostMapping("/messages/bulk/mark-read")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> bulkMarkRead(@RequestBody BulkMessageRequest request) {
+        try {
+            return bulkResult(messageService.bulkMarkRead(request.getIds(), normalize(request.getFilter()), true));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("批量标记失败：" + e.getMessage());
+        }
+    }
+    
+    @PostMapping("/messages/bulk/mark-unread")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> bulkMarkUnread(@RequestBody BulkMessageRequest request) {
+        try {
+            return bulkResult(messageService.bulkMarkRead(request.getIds(), normalize(request.getFilter()), false));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("批量标记失败：" + e.getMessage());
+        }
+    }
+    
+    @PostMapping("/messages/bulk/archive")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> bulkArchive(@RequestBody BulkMessageRequest request) {
+        try {
+            return bulkResult(messageService.bulkArchive(request.getIds(), normalize(request.getFilter())));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("批量归档失败：" + e.getMessage());
+        }
+    }
+    
+    @PostMapping("/messages/bulk/delete")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<?> bulkDelete(@RequestBody BulkMessageRequest request) {
+        try {
+            return bulkResult(messageService.bulkDelete(request.getIds(), normalize(request.getFilter())));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("批量删除失败：" + e.getMessage());
+        }
+    }
+    
+    private ResponseEntity<Map<String, Object>> bulkResult(int affected) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("affected", affected);
+        return ResponseEntity.ok(result);
+    }
+    
+    // 空白邮箱视为未指定
+    private MessageFilter normalize(MessageFilter filter) {
+        if (filter != null && filter.getEmail() != null) {
+            String email = filter.getEmail().trim();
+            filter.setEmail(email.isEmpty() ? null : email);
+        }
+        return filter;
+    }
+    
+    @GetMapping("/messages/stats")
+    @PreAuthorize("hasRole('SUPER_ADMIN') or hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> getMessageStats() {
+        try {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("unreadCount", messageService.getUnreadCount());
+            stats.put("unrepliedCount", messageService.getUnrepliedCount());
+            stats.put("totalCount", messageService.getTotalCount());
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("error", "获取统计信息失败：" + e.getMessage());
+            return ResponseEntity.badRequest().body(errorResponse);
+        }
+    }
 }
\ No newline at end of file
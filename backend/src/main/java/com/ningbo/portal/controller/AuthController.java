@@ -1,74 +1,104 @@
-package com.ningbo.portal.controller;
-
-import com.ningbo.portal.dto.LoginRequest;
-import com.ningbo.portal.dto.LoginResponse;
-import com.ningbo.portal.entity.AdminUser;
-import com.ningbo.portal.service.AdminUserService;
-import com.ningbo.portal.util.JwtUtil;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.web.bind.annotation.*;
-
-import javax.validation.Valid;
-import java.util.Optional;
-
-@RestController
-@RequestMapping("/api/auth")
-@CrossOrigin(origins = "http://localhost:3000")
-public class AuthController {
-    
-    @Autowired
-    private AuthenticationManager authenticationManager;
-    
-    @Autowired
-    private AdminUserService adminUserService;
-    
-    @Autowired
-    private JwtUtil jwtUtil;
-    
-    @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest loginRequest) {
-        try {
-            // 认证用户
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getUsername(),
-                            loginRequest.getPassword()
-                    )
-            );
-            
-            // 生成JWT token
-            String token = jwtUtil.generateToken(loginRequest.getUsername());
-            
-            // 获取用户信息
-            Optional<AdminUser> userOpt = adminUserService.findByUsername(loginRequest.getUsername());
-            if (userOpt.isPresent()) {
-                AdminUser user = userOpt.get();
-                LoginResponse response = new LoginResponse(
-                        token,
-                        user.getUsername(),
-                        user.getFullName(),
-                        user.getRole().name()
-                );
-                return ResponseEntity.ok(response);
-            } else {
-                return ResponseEntity.badRequest().body("用户不存在");
-            }
-            
-        } catch (BadCredentialsException e) {
-            return ResponseEntity.badRequest().body("用户名或密码错误");
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("登录失败：" + e.getMessage());
-        }
-    }
-    
-    @PostMapping("/logout")
-    public ResponseEntity<?> logout() {
-        // JWT是无状态的，logout主要在前端处理，删除本地存储的token
-        return ResponseEntity.ok("退出登录成功");
-    }
+package com.ningbo.portal.controller;
+
+import com.ningbo.portal.dto.LoginRequest;
+import com.ningbo.portal.dto.LoginResponse;
+import com.ningbo.portal.entity.AdminUser;
+import com.ningbo.portal.service.AdminUserService;
+import com.ningbo.portal.service.LoginService;
+import com.ningbo.portal.service.TokenDenyList;
+import com.ningbo.portal.util.JwtUtil;
+import com.ningbo.portal.util.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/auth")
+@CrossOrigin(origins = "http://localhost:3000")
+public class AuthController {
+    
+    @Autowired
+    private LoginService loginService;
+    
+    @Autowired
+    private AdminUserService adminUserService;
+    
+    @Autowired
+    private JwtUtil jwtUtil;
+    
+    @Autowired
+    private TokenDenyList tokenDenyList;
+    
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<?>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        CompletableFuture<AdminUser> authentication;
+        try {
+            // 密码校验在登录线程池中执行，请求线程立即释放
+            authentication = loginService.authenticate(loginRequest.getUsername(), loginRequest.getPassword());
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body("登录请求过多，请稍后重试"));
+        }
+        return authentication.handle((user, error) -> error == null ? loginResponse(user) : loginFailure(error));
+    }
+    
+    private ResponseEntity<?> loginResponse(AdminUser user) {
+        // 生成JWT token，携带角色、用户id和令牌版本
+        List<String> roles = Collections.singletonList("ROLE_" + user.getRole().name());
+        String token = jwtUtil.generateToken(user.getUsername(), roles,
+                user.getId(), adminUserService.currentTokenVersion(user));
+        
+        LoginResponse response = new LoginResponse(
+                token,
+                user.getUsername(),
+                user.getFullName(),
+                user.getRole().name()
+        );
+        return ResponseEntity.ok(response);
+    }
+    
+    private ResponseEntity<?> loginFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof BadCredentialsException) {
+            return ResponseEntity.badRequest().body("用户名或密码错误");
+        }
+        if (cause instanceof DisabledException) {
+            return ResponseEntity.badRequest().body("账号已被禁用");
+        }
+        return ResponseEntity.badRequest().body("登录失败：" + cause.getMessage());
+    }
+    
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestHeader(value = "Authorization", required = false) String authorization) {
+        // 吊销当前token直到其过期，前端同时删除本地存储的token；token无效时无需处理
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                VerifiedToken token = jwtUtil.verify(authorization.substring(7));
+                if (token.getTokenId() != null) {
+                    tokenDenyList.revoke(token.getTokenId(), token.getExpiresAtMillis());
+                }
+            } catch (JwtException | IllegalArgumentException e) {
+                // token 已过期或无效
+            }
+        }
+        // 返回 JSON，前端 apiPost 按 JSON 解析响应
+        Map<String, Object> response = new HashMap<>();
+        response.put("message", "退出登录成功");
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
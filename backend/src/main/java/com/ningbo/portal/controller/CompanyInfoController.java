@@ -1,11 +1,18 @@
 package com.ningbo.portal.controller;
 
+import com.ningbo.portal.dto.EntityVersion;
 import com.ningbo.portal.entity.CompanyInfo;
 import com.ningbo.portal.service.CompanyInfoService;
+import com.ningbo.portal.service.ResponseBodyCache;
+import com.ningbo.portal.util.EntityTags;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,24 +24,41 @@ public class CompanyInfoController {
     @Autowired
     private CompanyInfoService companyInfoService;
     
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
     @GetMapping
-    public ResponseEntity<List<CompanyInfo>> getAllCompanyInfo() {
+    public ResponseEntity<List<CompanyInfo>> getAllCompanyInfo(WebRequest request) {
+        if (isCollectionNotModified(request)) {
+            return null;
+        }
         List<CompanyInfo> companies = companyInfoService.findAll();
         return ResponseEntity.ok(companies);
     }
     
     @GetMapping("/main")
-    public ResponseEntity<CompanyInfo> getMainCompanyInfo() {
-        CompanyInfo company = companyInfoService.getMainCompanyInfo();
-        if (company != null) {
-            return ResponseEntity.ok(company);
-        } else {
-            return ResponseEntity.notFound().build();
+    public void getMainCompanyInfo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CompanyInfo main = companyInfoService.getMainCompanyInfo();
+        if (main == null) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
+        // 缓存键包含主公司id和更新时间，切换或修改主公司后不会读到旧的响应
+        String key = "company:main:" + main.getId() + ':' + EntityTags.toEpochMillis(main.getUpdatedAt());
+        responseBodyCache.write(responseBodyCache.get(key, () -> main), request, response);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<CompanyInfo> getCompanyInfoById(@PathVariable Long id) {
+    public ResponseEntity<CompanyInfo> getCompanyInfoById(@PathVariable Long id, WebRequest request) {
+        Optional<EntityVersion> version = companyInfoService.findVersion(id);
+        if (!version.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(EntityTags.of("company", version.get()),
+                EntityTags.toEpochMillis(version.get().getUpdatedAt()))) {
+            return null;
+        }
+        
         Optional<CompanyInfo> company = companyInfoService.findById(id);
         return company.map(ResponseEntity::ok)
                      .orElse(ResponseEntity.notFound().build());
@@ -68,4 +92,8 @@ public class CompanyInfoController {
             return ResponseEntity.notFound().build();
         }
     }
+    
+    private boolean isCollectionNotModified(WebRequest request) {
+        return request.checkNotModified(companyInfoService.getListTag());
+    }
 }
\ No newline at end of file
@@ -1,37 +1,89 @@
-package com.ningbo.portal.controller;
-
-import com.ningbo.portal.entity.Message;
-import com.ningbo.portal.service.MessageService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import javax.validation.Valid;
-
-@RestController
-@RequestMapping("/api/messages")
-@CrossOrigin(origins = "*")
-public class MessageController {
-    
-    @Autowired
-    private MessageService messageService;
-    
-    @PostMapping
-    public ResponseEntity<?> createMessage(@Valid @RequestBody Message message) {
-        try {
-            // 新留言默认为未读未回复状态
-            message.setIsRead(false);
-            message.setIsReplied(false);
-            
-            // 如果主题为空，设置默认主题
-            if (message.getSubject() == null || message.getSubject().trim().isEmpty()) {
-                message.setSubject("留言咨询");
-            }
-            
-            Message savedMessage = messageService.save(message);
-            return ResponseEntity.ok(savedMessage);
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body("提交留言失败：" + e.getMessage());
-        }
-    }
+package com.ningbo.portal.controller;
+
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.service.MessageIngestQueue;
+import com.ningbo.portal.service.MessageService;
+import com.ningbo.portal.service.MessageSpamFilter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.validation.Valid;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/messages")
+@CrossOrigin(origins = "*")
+public class MessageController {
+    
+    // 队列已满时建议客户端等待的秒数
+    private static final int RETRY_AFTER_SECONDS = 5;
+    
+    @Autowired
+    private MessageService messageService;
+    
+    @Autowired
+    private MessageIngestQueue messageIngestQueue;
+    
+    @Autowired
+    private MessageSpamFilter messageSpamFilter;
+    
+    @PostMapping
+    public ResponseEntity<?> createMessage(@Valid @RequestBody Message message) {
+        try {
+            // 新留言默认为未读未回复状态
+            message.setIsRead(false);
+            message.setIsReplied(false);
+            message.setTicketId(UUID.randomUUID().toString());
+            
+            // 如果主题为空，设置默认主题
+            if (message.getSubject() == null || message.getSubject().trim().isEmpty()) {
+                message.setSubject("留言咨询");
+            }
+            
+            if (messageSpamFilter.check(message) != MessageSpamFilter.Verdict.CLEAN) {
+                if (messageSpamFilter.isDropEnabled()) {
+                    // 丢弃时仍返回正常响应，不向提交方暴露判定结果
+                    return messageIngestQueue.isEnabled() ? accepted(message) : ResponseEntity.ok(message);
+                }
+                message.setIsSpam(true);
+            }
+            
+            if (messageIngestQueue.isEnabled()) {
+                return enqueue(message);
+            }
+            
+            Message savedMessage = messageService.save(message);
+            messageSpamFilter.record(savedMessage);
+            return ResponseEntity.ok(savedMessage);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("提交留言失败：" + e.getMessage());
+        }
+    }
+    
+    // 异步受理：入队后返回 202 和回执号，由 MessageIngestQueue 批量写入数据库
+    private ResponseEntity<?> enqueue(Message message) throws Exception {
+        message.setCreatedAt(LocalDateTime.now());
+        if (!messageIngestQueue.offer(message)) {
+            // 未受理的留言不记入重复检测，客户端按 Retry-After 重试时不会被判为重复
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS))
+                    .body("提交人数较多，请稍后重试");
+        }
+        messageSpamFilter.record(message);
+        
+        return accepted(message);
+    }
+    
+    private ResponseEntity<?> accepted(Message message) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("ticketId", message.getTicketId());
+        response.put("status", "queued");
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
 }
\ No newline at end of file
@@ -1,14 +1,24 @@
 package com.ningbo.portal.controller;
 
+import com.ningbo.portal.dto.CursorPage;
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.dto.NewsSummary;
 import com.ningbo.portal.entity.News;
 import com.ningbo.portal.service.NewsService;
+import com.ningbo.portal.service.NewsTrendingRanker;
+import com.ningbo.portal.service.ResponseBodyCache;
+import com.ningbo.portal.util.EntityTags;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,46 +27,131 @@ import java.util.Optional;
 @CrossOrigin(origins = "http://localhost:3000")
 public class NewsController {
     
+    private static final int MAX_FEED_SIZE = 50;
+    
+    private static final int MAX_QUERY_LENGTH = 100;
+    
     @Autowired
     private NewsService newsService;
     
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
     @GetMapping
-    public ResponseEntity<Page<News>> getAllNews(
+    public ResponseEntity<Page<NewsSummary>> getAllNews(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        if (isListNotModified(request)) {
+            return null;
+        }
         Pageable pageable = PageRequest.of(page, size);
-        Page<News> news = newsService.findPublishedNews(pageable);
+        Page<NewsSummary> news = newsService.findPublishedNews(pageable);
         return ResponseEntity.ok(news);
     }
     
+    // 游标分页，深翻页不做 OFFSET 扫描和 COUNT 查询
+    @GetMapping("/feed")
+    public ResponseEntity<?> getNewsFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        if (isListNotModified(request)) {
+            return null;
+        }
+        try {
+            CursorPage<NewsSummary> feed = newsService.findPublishedFeed(cursor, clampFeedSize(size));
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
     @GetMapping("/latest")
-    public ResponseEntity<List<News>> getLatestNews() {
-        List<News> news = newsService.findLatestNews();
-        return ResponseEntity.ok(news);
+    public void getLatestNews(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ResponseBodyCache.CachedBody body = responseBodyCache.get(NewsService.LATEST_NEWS_CACHE_KEY, newsService::findLatestNews);
+        responseBodyCache.write(body, request, response);
+    }
+    
+    @GetMapping("/trending")
+    public void getTrendingNews(
+            @RequestParam(defaultValue = "6") int size,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        int limit = Math.max(1, Math.min(size, NewsTrendingRanker.TOP_K));
+        ResponseBodyCache.CachedBody body = responseBodyCache.get("news:trending:" + limit,
+                () -> newsService.findTrendingNews(limit));
+        responseBodyCache.write(body, request, response);
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<?> searchNews(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int size) {
+        if (query.trim().isEmpty() || query.length() > MAX_QUERY_LENGTH) {
+            return ResponseEntity.badRequest().body("搜索关键词不能为空且不能超过" + MAX_QUERY_LENGTH + "字符");
+        }
+        List<NewsSummary> results = newsService.search(query, clampFeedSize(size));
+        return ResponseEntity.ok(results);
     }
     
     @GetMapping("/categories")
-    public ResponseEntity<List<String>> getNewsCategories() {
+    public ResponseEntity<List<String>> getNewsCategories(WebRequest request) {
+        if (isListNotModified(request)) {
+            return null;
+        }
         List<String> categories = newsService.findDistinctCategories();
         return ResponseEntity.ok(categories);
     }
     
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<News>> getNewsByCategory(
+    public ResponseEntity<Page<NewsSummary>> getNewsByCategory(
             @PathVariable String category,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        if (request.checkNotModified(newsService.getCategoryListTag(category))) {
+            return null;
+        }
         Pageable pageable = PageRequest.of(page, size);
-        Page<News> news = newsService.findNewsByCategory(category, pageable);
+        Page<NewsSummary> news = newsService.findNewsByCategory(category, pageable);
         return ResponseEntity.ok(news);
     }
     
+    @GetMapping("/category/{category}/feed")
+    public ResponseEntity<?> getNewsFeedByCategory(
+            @PathVariable String category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+        if (request.checkNotModified(newsService.getCategoryListTag(category))) {
+            return null;
+        }
+        try {
+            CursorPage<NewsSummary> feed = newsService.findCategoryFeed(category, cursor, clampFeedSize(size));
+            return ResponseEntity.ok(feed);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+    
     @GetMapping("/{id}")
-    public ResponseEntity<News> getNewsById(@PathVariable Long id) {
+    public ResponseEntity<News> getNewsById(@PathVariable Long id, WebRequest request) {
+        // 先用轻量版本查询校验 ETag，命中时只记录浏览，不加载和序列化新闻
+        Optional<EntityVersion> version = newsService.findVersion(id);
+        if (!version.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(EntityTags.of("news", version.get()),
+                EntityTags.toEpochMillis(version.get().getUpdatedAt()))) {
+            newsService.recordView(id);
+            return null;
+        }
+        
         Optional<News> news = newsService.findById(id);
         if (news.isPresent()) {
             // 增加访问次数
-            News updatedNews = newsService.incrementViewCount(id);
+            News updatedNews = newsService.incrementViewCount(news.get());
             return ResponseEntity.ok(updatedNews);
         } else {
             return ResponseEntity.notFound().build();
@@ -91,4 +186,13 @@ public class NewsController {
             return ResponseEntity.notFound().build();
         }
     }
+    
+    // 已发布新闻列表版本，命中时 Spring 已写好 304 响应；分类列表使用各自分类的版本
+    private boolean isListNotModified(WebRequest request) {
+        return request.checkNotModified(newsService.getPublishedListTag());
+    }
+    
+    private int clampFeedSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_SIZE));
+    }
 }
\ No newline at end of file
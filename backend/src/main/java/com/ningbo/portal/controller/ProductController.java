@@ -1,73 +1,107 @@
-package com.ningbo.portal.controller;
-
-import com.ningbo.portal.entity.Product;
-import com.ningbo.portal.service.ProductService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
-import java.util.Optional;
-
-@RestController
-@RequestMapping("/api/products")
-@CrossOrigin(origins = "http://localhost:3000")
-public class ProductController {
-    
-    @Autowired
-    private ProductService productService;
-    
-    @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        List<Product> products = productService.findActiveProducts();
-        return ResponseEntity.ok(products);
-    }
-    
-    @GetMapping("/categories")
-    public ResponseEntity<List<String>> getProductCategories() {
-        List<String> categories = productService.findDistinctCategories();
-        return ResponseEntity.ok(categories);
-    }
-    
-    @GetMapping("/category/{category}")
-    public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable String category) {
-        List<Product> products = productService.findByCategory(category);
-        return ResponseEntity.ok(products);
-    }
-    
-    @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
-        Optional<Product> product = productService.findById(id);
-        return product.map(ResponseEntity::ok)
-                     .orElse(ResponseEntity.notFound().build());
-    }
-    
-    @PostMapping
-    public ResponseEntity<Product> createProduct(@RequestBody Product product) {
-        Product savedProduct = productService.save(product);
-        return ResponseEntity.ok(savedProduct);
-    }
-    
-    @PutMapping("/{id}")
-    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
-        Optional<Product> existingProduct = productService.findById(id);
-        if (existingProduct.isPresent()) {
-            product.setId(id);
-            Product updatedProduct = productService.save(product);
-            return ResponseEntity.ok(updatedProduct);
-        } else {
-            return ResponseEntity.notFound().build();
-        }
-    }
-    
-    @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
-        Optional<Product> product = productService.findById(id);
-        if (product.isPresent()) {
-            productService.deleteById(id);
-            return ResponseEntity.noContent().build();
-        } else {
-            return ResponseEntity.notFound().build();
-        }
-    }
+package com.ningbo.portal.controller;
+
+import com.ningbo.portal.dto.CollectionVersion;
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.entity.Product;
+import com.ningbo.portal.service.ProductService;
+import com.ningbo.portal.service.ResponseBodyCache;
+import com.ningbo.portal.util.EntityTags;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/products")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ProductController {
+    
+    @Autowired
+    private ProductService productService;
+    
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
+    // 响应字节由 ResponseBodyCache 缓存，ETag 取内容摘要
+    @GetMapping
+    public void getAllProducts(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ResponseBodyCache.CachedBody body = responseBodyCache.get("products:active", productService::findActiveProducts);
+        responseBodyCache.write(body, request, response);
+    }
+    
+    @GetMapping("/categories")
+    public ResponseEntity<List<String>> getProductCategories(WebRequest request) {
+        if (isCatalogNotModified(request)) {
+            return null;
+        }
+        List<String> categories = productService.findDistinctCategories();
+        return ResponseEntity.ok(categories);
+    }
+    
+    @GetMapping("/category/{category}")
+    public ResponseEntity<List<Product>> getProductsByCategory(@PathVariable String category, WebRequest request) {
+        if (isCatalogNotModified(request)) {
+            return null;
+        }
+        List<Product> products = productService.findByCategory(category);
+        return ResponseEntity.ok(products);
+    }
+    
+    @GetMapping("/{id}")
+    public ResponseEntity<Product> getProductById(@PathVariable Long id, WebRequest request) {
+        Optional<EntityVersion> version = productService.findVersion(id);
+        if (!version.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (request.checkNotModified(EntityTags.of("product", version.get()),
+                EntityTags.toEpochMillis(version.get().getUpdatedAt()))) {
+            return null;
+        }
+        
+        Optional<Product> product = productService.findById(id);
+        return product.map(ResponseEntity::ok)
+                     .orElse(ResponseEntity.notFound().build());
+    }
+    
+    @PostMapping
+    public ResponseEntity<Product> createProduct(@RequestBody Product product) {
+        Product savedProduct = productService.save(product);
+        return ResponseEntity.ok(savedProduct);
+    }
+    
+    @PutMapping("/{id}")
+    public ResponseEntity<Product> updateProduct(@PathVariable Long id, @RequestBody Product product) {
+        Optional<Product> existingProduct = productService.findById(id);
+        if (existingProduct.isPresent()) {
+            product.setId(id);
+            Product updatedProduct = productService.save(product);
+            return ResponseEntity.ok(updatedProduct);
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
+        Optional<Product> product = productService.findById(id);
+        if (product.isPresent()) {
+            productService.deleteById(id);
+            return ResponseEntity.noContent().build();
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+    
+    // 公开列表的版本来自内存目录快照，校验时不访问数据库
+    private boolean isCatalogNotModified(WebRequest request) {
+        CollectionVersion version = productService.getCatalogVersion();
+        return request.checkNotModified(EntityTags.ofCollection("product", version),
+                EntityTags.toEpochMillis(version.getLastModified()));
+    }
 }
\ No newline at end of file
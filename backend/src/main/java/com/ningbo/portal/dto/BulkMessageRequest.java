@@ -0,0 +1,29 @@
+package com.ningbo.portal.dto;
+
+import java.util.List;
+
+/**
+ * 留言批量操作请求：ids 与 filter 二选一，同时提供时以 ids 为准
+ */
+public class BulkMessageRequest {
+    
+    private List<Long> ids;
+    private MessageFilter filter;
+    
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+    
+    public MessageFilter getFilter() {
+        return filter;
+    }
+    
+    public void setFilter(MessageFilter filter) {
+        this.filter = filter;
+    }
+}
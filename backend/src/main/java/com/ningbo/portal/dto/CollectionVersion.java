@@ -0,0 +1,34 @@
+package com.ningbo.portal.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 集合版本信息 (行数 + 版本摘要 + 最近更新时间)，用于列表接口的 ETag
+ * <p>
+ * 版本摘要由各行的 id 和版本号按顺序计算，新增、修改、删除和排序变化都会改变摘要；
+ * 最近更新时间只精确到秒，仅用于 Last-Modified。
+ */
+public class CollectionVersion {
+
+    private final long count;
+    private final long digest;
+    private final LocalDateTime lastModified;
+
+    public CollectionVersion(long count, long digest, LocalDateTime lastModified) {
+        this.count = count;
+        this.digest = digest;
+        this.lastModified = lastModified;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getDigest() {
+        return digest;
+    }
+
+    public LocalDateTime getLastModified() {
+        return lastModified;
+    }
+}
@@ -0,0 +1,57 @@
+package com.ningbo.portal.dto;
+
+import java.util.List;
+
+/**
+ * 游标分页结果，不包含总数 (不执行 COUNT 查询)
+ */
+public class CursorPage<T> {
+    
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+    
+    // Constructors
+    public CursorPage() {}
+    
+    public CursorPage(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+    
+    // Getters and Setters
+    public List<T> getContent() {
+        return content;
+    }
+    
+    public void setContent(List<T> content) {
+        this.content = content;
+    }
+    
+    public int getSize() {
+        return size;
+    }
+    
+    public void setSize(int size) {
+        this.size = size;
+    }
+    
+    public boolean isHasNext() {
+        return hasNext;
+    }
+    
+    public void setHasNext(boolean hasNext) {
+        this.hasNext = hasNext;
+    }
+    
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ningbo.portal.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 实体版本信息 (id + 版本号 + 更新时间)，用于生成 ETag，不加载整行数据
+ * <p>
+ * ETag 取版本号，更新时间只精确到秒，仅用于 Last-Modified。
+ */
+public class EntityVersion {
+    
+    private final Long id;
+    private final long version;
+    private final LocalDateTime updatedAt;
+    
+    // JPQL 构造器表达式使用
+    public EntityVersion(Long id, Long version, LocalDateTime updatedAt) {
+        this.id = id;
+        this.version = version == null ? 0L : version;
+        this.updatedAt = updatedAt;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public long getVersion() {
+        return version;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
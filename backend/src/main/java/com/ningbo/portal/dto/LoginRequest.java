@@ -1,37 +1,37 @@
-package com.ningbo.portal.dto;
-
-import javax.validation.constraints.NotBlank;
-
-public class LoginRequest {
-    
-    @NotBlank(message = "用户名不能为空")
-    private String username;
-    
-    @NotBlank(message = "密码不能为空")
-    private String password;
-    
-    // Constructors
-    public LoginRequest() {}
-    
-    public LoginRequest(String username, String password) {
-        this.username = username;
-        this.password = password;
-    }
-    
-    // Getters and Setters
-    public String getUsername() {
-        return username;
-    }
-    
-    public void setUsername(String username) {
-        this.username = username;
-    }
-    
-    public String getPassword() {
-        return password;
-    }
-    
-    public void setPassword(String password) {
-        this.password = password;
-    }
+package com.ningbo.portal.dto;
+
+import javax.validation.constraints.NotBlank;
+
+public class LoginRequest {
+    
+    @NotBlank(message = "用户名不能为空")
+    private String username;
+    
+    @NotBlank(message = "密码不能为空")
+    private String password;
+    
+    // Constructors
+    public LoginRequest() {}
+    
+    public LoginRequest(String username, String password) {
+        this.username = username;
+        this.password = password;
+    }
+    
+    // Getters and Setters
+    public String getUsername() {
+        return username;
+    }
+    
+    public void setUsername(String username) {
+        this.username = username;
+    }
+    
+    public String getPassword() {
+        return password;
+    }
+    
+    public void setPassword(String password) {
+        this.password = password;
+    }
 }
\ No newline at end of file
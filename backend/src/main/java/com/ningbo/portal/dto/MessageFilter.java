@@ -0,0 +1,85 @@
+package com.ningbo.portal.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 留言收件箱查询条件，为 null 的条件不参与过滤
+ */
+public class MessageFilter {
+    
+    private Boolean isRead;
+    private Boolean isReplied;
+    private Boolean isArchived;
+    // 提交时间范围：[from, to)
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private String email;
+    
+    // Constructors
+    public MessageFilter() {}
+    
+    public MessageFilter(Boolean isRead, Boolean isReplied, Boolean isArchived,
+                         LocalDateTime from, LocalDateTime to, String email) {
+        this.isRead = isRead;
+        this.isReplied = isReplied;
+        this.isArchived = isArchived;
+        this.from = from;
+        this.to = to;
+        this.email = email;
+    }
+    
+    // Getters and Setters
+    public Boolean getIsRead() {
+        return isRead;
+    }
+    
+    public void setIsRead(Boolean isRead) {
+        this.isRead = isRead;
+    }
+    
+    public Boolean getIsReplied() {
+        return isReplied;
+    }
+    
+    public void setIsReplied(Boolean isReplied) {
+        this.isReplied = isReplied;
+    }
+    
+    public Boolean getIsArchived() {
+        return isArchived;
+    }
+    
+    public void setIsArchived(Boolean isArchived) {
+        this.isArchived = isArchived;
+    }
+    
+    // 是否至少指定了一个条件
+    public boolean hasConditions() {
+        return isRead != null || isReplied != null || isArchived != null
+                || from != null || to != null || email != null;
+    }
+    
+    public LocalDateTime getFrom() {
+        return from;
+    }
+    
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+    
+    public LocalDateTime getTo() {
+        return to;
+    }
+    
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+}
@@ -0,0 +1,142 @@
+package com.ningbo.portal.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 新闻列表摘要，不包含正文 content
+ * <p>
+ * 由 NewsRepository 以构造器表达式直接查询，列表 SQL 只选取需要的列。
+ */
+public class NewsSummary {
+    
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String category;
+    private String imageUrl;
+    private String author;
+    private String readTime;
+    private Boolean isPublished;
+    private Boolean isScheduled;
+    private Long viewCount;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+    
+    // Constructors
+    public NewsSummary() {}
+    
+    // JPQL 构造器表达式使用，参数顺序与查询一致
+    public NewsSummary(Long id, String title, String excerpt, String category, String imageUrl,
+                       String author, String readTime, Boolean isPublished, Boolean isScheduled,
+                       Long viewCount, LocalDateTime publishedAt, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.category = category;
+        this.imageUrl = imageUrl;
+        this.author = author;
+        this.readTime = readTime;
+        this.isPublished = isPublished;
+        this.isScheduled = isScheduled;
+        this.viewCount = viewCount;
+        this.publishedAt = publishedAt;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getExcerpt() {
+        return excerpt;
+    }
+    
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+    
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public String getImageUrl() {
+        return imageUrl;
+    }
+    
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+    
+    public String getAuthor() {
+        return author;
+    }
+    
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+    
+    public String getReadTime() {
+        return readTime;
+    }
+    
+    public void setReadTime(String readTime) {
+        this.readTime = readTime;
+    }
+    
+    public Boolean getIsPublished() {
+        return isPublished;
+    }
+    
+    public void setIsPublished(Boolean isPublished) {
+        this.isPublished = isPublished;
+    }
+    
+    public Boolean getIsScheduled() {
+        return isScheduled;
+    }
+    
+    public void setIsScheduled(Boolean isScheduled) {
+        this.isScheduled = isScheduled;
+    }
+    
+    public Long getViewCount() {
+        return viewCount;
+    }
+    
+    public void setViewCount(Long viewCount) {
+        this.viewCount = viewCount;
+    }
+    
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+    
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
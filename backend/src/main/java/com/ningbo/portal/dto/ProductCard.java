@@ -0,0 +1,101 @@
+package com.ningbo.portal.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * 产品列表卡片，不包含特性说明和时间戳
+ * <p>
+ * 由 ProductRepository 以构造器表达式直接查询，用于管理后台产品列表。
+ */
+public class ProductCard {
+    
+    private Long id;
+    private String name;
+    private String description;
+    private String category;
+    private BigDecimal price;
+    private String imageUrl;
+    private Boolean isActive;
+    private Integer sortOrder;
+    
+    // Constructors
+    public ProductCard() {}
+    
+    // JPQL 构造器表达式使用，参数顺序与查询一致
+    public ProductCard(Long id, String name, String description, String category,
+                       BigDecimal price, String imageUrl, Boolean isActive, Integer sortOrder) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.category = category;
+        this.price = price;
+        this.imageUrl = imageUrl;
+        this.isActive = isActive;
+        this.sortOrder = sortOrder;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public BigDecimal getPrice() {
+        return price;
+    }
+    
+    public void setPrice(BigDecimal price) {
+        this.price = price;
+    }
+    
+    public String getImageUrl() {
+        return imageUrl;
+    }
+    
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+    
+    public Boolean getIsActive() {
+        return isActive;
+    }
+    
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+    
+    public Integer getSortOrder() {
+        return sortOrder;
+    }
+    
+    public void setSortOrder(Integer sortOrder) {
+        this.sortOrder = sortOrder;
+    }
+}
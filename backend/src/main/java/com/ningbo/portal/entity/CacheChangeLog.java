@@ -0,0 +1,100 @@
+package com.ningbo.portal.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 缓存失效记录
+ * <p>
+ * 服务写入数据后追加一条 (实体类型、实体id、版本)，各节点按 id 顺序读取并失效本地缓存；
+ * nodeId 为写入节点，写入节点自身已在本地失效，读取时跳过。
+ */
+@Entity
+@Table(name = "cache_change_log", indexes = {
+        @Index(name = "idx_cache_change_log_created_at", columnList = "created_at")
+})
+public class CacheChangeLog {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private String entityType;
+    
+    @Column(name = "entity_id")
+    private Long entityId;
+    
+    // 变更后的实体版本 (如更新时间的毫秒数、令牌版本)，删除时为 null
+    private Long version;
+    
+    @Column(name = "node_id", nullable = false, length = 64)
+    private String nodeId;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // 构造函数
+    public CacheChangeLog() {}
+    
+    public CacheChangeLog(String entityType, Long entityId, Long version, String nodeId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.version = version;
+        this.nodeId = nodeId;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    // Getter 和 Setter 方法
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getEntityType() {
+        return entityType;
+    }
+    
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+    
+    public Long getEntityId() {
+        return entityId;
+    }
+    
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -1,142 +1,155 @@
-package com.ningbo.portal.entity;
-
-import javax.persistence.*;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
-
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "company_info")
-public class CompanyInfo {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @NotBlank(message = "公司名称不能为空")
-    @Column(nullable = false)
-    private String name;
-    
-    @NotBlank(message = "公司描述不能为空")
-    @Column(length = 1000)
-    private String description;
-    
-    @Column(name = "phone_number")
-    private String phoneNumber;
-    
-    private String email;
-    
-    private String address;
-    
-    @Column(name = "business_scope", length = 500)
-    private String businessScope;
-    
-    @Column(name = "established_year")
-    private Integer establishedYear;
-    
-    @Column(name = "employee_count")
-    private Integer employeeCount;
-    
-    @CreationTimestamp
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-    
-    @UpdateTimestamp
-    @Column(name = "updated_at")
-    private LocalDateTime updatedAt;
-    
-    // 构造函数
-    public CompanyInfo() {}
-    
-    // Getter 和 Setter 方法
-    public Long getId() {
-        return id;
-    }
-    
-    public void setId(Long id) {
-        this.id = id;
-    }
-    
-    public String getName() {
-        return name;
-    }
-    
-    public void setName(String name) {
-        this.name = name;
-    }
-    
-    public String getDescription() {
-        return description;
-    }
-    
-    public void setDescription(String description) {
-        this.description = description;
-    }
-    
-    public String getPhoneNumber() {
-        return phoneNumber;
-    }
-    
-    public void setPhoneNumber(String phoneNumber) {
-        this.phoneNumber = phoneNumber;
-    }
-    
-    public String getEmail() {
-        return email;
-    }
-    
-    public void setEmail(String email) {
-        this.email = email;
-    }
-    
-    public String getAddress() {
-        return address;
-    }
-    
-    public void setAddress(String address) {
-        this.address = address;
-    }
-    
-    public String getBusinessScope() {
-        return businessScope;
-    }
-    
-    public void setBusinessScope(String businessScope) {
-        this.businessScope = businessScope;
-    }
-    
-    public Integer getEstablishedYear() {
-        return establishedYear;
-    }
-    
-    public void setEstablishedYear(Integer establishedYear) {
-        this.establishedYear = establishedYear;
-    }
-    
-    public Integer getEmployeeCount() {
-        return employeeCount;
-    }
-    
-    public void setEmployeeCount(Integer employeeCount) {
-        this.employeeCount = employeeCount;
-    }
-    
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-    
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-    
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-    
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
-    }
+package com.ningbo.portal.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotNull;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "company_info")
+public class CompanyInfo {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotBlank(message = "公司名称不能为空")
+    @Column(nullable = false)
+    private String name;
+    
+    @NotBlank(message = "公司描述不能为空")
+    @Column(length = 1000)
+    private String description;
+    
+    @Column(name = "phone_number")
+    private String phoneNumber;
+    
+    private String email;
+    
+    private String address;
+    
+    @Column(name = "business_scope", length = 500)
+    private String businessScope;
+    
+    @Column(name = "established_year")
+    private Integer establishedYear;
+    
+    @Column(name = "employee_count")
+    private Integer employeeCount;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // 乐观锁版本号，每次更新加一，用于生成 ETag (updated_at 只精确到秒)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
+    // 构造函数
+    public CompanyInfo() {}
+    
+    // Getter 和 Setter 方法
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public void setName(String name) {
+        this.name = name;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getPhoneNumber() {
+        return phoneNumber;
+    }
+    
+    public void setPhoneNumber(String phoneNumber) {
+        this.phoneNumber = phoneNumber;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public void setEmail(String email) {
+        this.email = email;
+    }
+    
+    public String getAddress() {
+        return address;
+    }
+    
+    public void setAddress(String address) {
+        this.address = address;
+    }
+    
+    public String getBusinessScope() {
+        return businessScope;
+    }
+    
+    public void setBusinessScope(String businessScope) {
+        this.businessScope = businessScope;
+    }
+    
+    public Integer getEstablishedYear() {
+        return establishedYear;
+    }
+    
+    public void setEstablishedYear(Integer establishedYear) {
+        this.establishedYear = establishedYear;
+    }
+    
+    public Integer getEmployeeCount() {
+        return employeeCount;
+    }
+    
+    public void setEmployeeCount(Integer employeeCount) {
+        this.employeeCount = employeeCount;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -1,164 +1,194 @@
-package com.ningbo.portal.entity;
-
-import javax.persistence.*;
-import javax.validation.constraints.NotBlank;
-import org.hibernate.annotations.CreationTimestamp;
-import org.hibernate.annotations.UpdateTimestamp;
-
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "news")
-public class News {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @NotBlank(message = "新闻标题不能为空")
-    @Column(nullable = false)
-    private String title;
-    
-    @NotBlank(message = "新闻摘要不能为空")
-    @Column(length = 500)
-    private String excerpt;
-    
-    @NotBlank(message = "新闻内容不能为空")
-    @Column(length = 5000)
-    private String content;
-    
-    private String category;
-    
-    @Column(name = "image_url")
-    private String imageUrl;
-    
-    private String author;
-    
-    @Column(name = "read_time")
-    private String readTime;
-    
-    @Column(name = "is_published")
-    private Boolean isPublished = false;
-    
-    @Column(name = "view_count")
-    private Long viewCount = 0L;
-    
-    @Column(name = "published_at")
-    private LocalDateTime publishedAt;
-    
-    @CreationTimestamp
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private LocalDateTime createdAt;
-    
-    @UpdateTimestamp
-    @Column(name = "updated_at")
-    private LocalDateTime updatedAt;
-    
-    // 构造函数
-    public News() {}
-    
-    // Getter 和 Setter 方法
-    public Long getId() {
-        return id;
-    }
-    
-    public void setId(Long id) {
-        this.id = id;
-    }
-    
-    public String getTitle() {
-        return title;
-    }
-    
-    public void setTitle(String title) {
-        this.title = title;
-    }
-    
-    public String getExcerpt() {
-        return excerpt;
-    }
-    
-    public void setExcerpt(String excerpt) {
-        this.excerpt = excerpt;
-    }
-    
-    public String getContent() {
-        return content;
-    }
-    
-    public void setContent(String content) {
-        this.content = content;
-    }
-    
-    public String getCategory() {
-        return category;
-    }
-    
-    public void setCategory(String category) {
-        this.category = category;
-    }
-    
-    public String getImageUrl() {
-        return imageUrl;
-    }
-    
-    public void setImageUrl(String imageUrl) {
-        this.imageUrl = imageUrl;
-    }
-    
-    public String getAuthor() {
-        return author;
-    }
-    
-    public void setAuthor(String author) {
-        this.author = author;
-    }
-    
-    public String getReadTime() {
-        return readTime;
-    }
-    
-    public void setReadTime(String readTime) {
-        this.readTime = readTime;
-    }
-    
-    public Boolean getIsPublished() {
-        return isPublished;
-    }
-    
-    public void setIsPublished(Boolean isPublished) {
-        this.isPublished = isPublished;
-    }
-    
-    public Long getViewCount() {
-        return viewCount;
-    }
-    
-    public void setViewCount(Long viewCount) {
-        this.viewCount = viewCount;
-    }
-    
-    public LocalDateTime getPublishedAt() {
-        return publishedAt;
-    }
-    
-    public void setPublishedAt(LocalDateTime publishedAt) {
-        this.publishedAt = publishedAt;
-    }
-    
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-    
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-    
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-    
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
-    }
+package com.ningbo.portal.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "news", indexes = {
+        @Index(name = "idx_news_published_feed", columnList = "is_published, published_at, id"),
+        @Index(name = "idx_news_category_feed", columnList = "category, is_published, published_at, id"),
+        @Index(name = "idx_news_scheduled", columnList = "is_scheduled, published_at")
+})
+public class News {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotBlank(message = "新闻标题不能为空")
+    @Column(nullable = false)
+    private String title;
+    
+    @NotBlank(message = "新闻摘要不能为空")
+    @Column(length = 500)
+    private String excerpt;
+    
+    @NotBlank(message = "新闻内容不能为空")
+    @Column(length = 5000)
+    private String content;
+    
+    private String category;
+    
+    @Column(name = "image_url")
+    private String imageUrl;
+    
+    private String author;
+    
+    @Column(name = "read_time")
+    private String readTime;
+    
+    @Column(name = "is_published")
+    private Boolean isPublished = false;
+    
+    // 定时发布：到达 publishedAt 时由 NewsPublishScheduler 改为已发布
+    @Column(name = "is_scheduled")
+    private Boolean isScheduled = false;
+    
+    // 浏览量由 NewsViewCounter 以增量方式写回，实体更新时不覆盖该列
+    @Column(name = "view_count", updatable = false)
+    private Long viewCount = 0L;
+    
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // 乐观锁版本号，每次更新加一，用于生成 ETag (updated_at 只精确到秒)
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+    
+    // 构造函数
+    public News() {}
+    
+    // Getter 和 Setter 方法
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getExcerpt() {
+        return excerpt;
+    }
+    
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+    
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getCategory() {
+        return category;
+    }
+    
+    public void setCategory(String category) {
+        this.category = category;
+    }
+    
+    public String getImageUrl() {
+        return imageUrl;
+    }
+    
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+    
+    public String getAuthor() {
+        return author;
+    }
+    
+    public void setAuthor(String author) {
+        this.author = author;
+    }
+    
+    public String getReadTime() {
+        return readTime;
+    }
+    
+    public void setReadTime(String readTime) {
+        this.readTime = readTime;
+    }
+    
+    public Boolean getIsPublished() {
+        return isPublished;
+    }
+    
+    public void setIsPublished(Boolean isPublished) {
+        this.isPublished = isPublished;
+    }
+    
+    public Boolean getIsScheduled() {
+        return isScheduled;
+    }
+    
+    public void setIsScheduled(Boolean isScheduled) {
+        this.isScheduled = isScheduled;
+    }
+    
+    public Long getViewCount() {
+        return viewCount;
+    }
+    
+    public void setViewCount(Long viewCount) {
+        this.viewCount = viewCount;
+    }
+    
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+    
+    public void setPublishedAt(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.ningbo.portal.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 新闻热度得分检查点
+ * <p>
+ * score 为 scoredAt 时刻的衰减后得分，由 NewsTrendingRanker 定时写入，重启后据此恢复排行。
+ */
+@Entity
+@Table(name = "news_trending_scores")
+public class NewsTrendingScore {
+    
+    @Id
+    @Column(name = "news_id")
+    private Long newsId;
+    
+    @Column(nullable = false)
+    private Double score;
+    
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+    
+    // 构造函数
+    public NewsTrendingScore() {}
+    
+    // Getter 和 Setter 方法
+    public Long getNewsId() {
+        return newsId;
+    }
+    
+    public void setNewsId(Long newsId) {
+        this.newsId = newsId;
+    }
+    
+    public Double getScore() {
+        return score;
+    }
+    
+    public void setScore(Double score) {
+        this.score = score;
+    }
+    
+    public LocalDateTime getScoredAt() {
+        return scoredAt;
+    }
+    
+    public void setScoredAt(LocalDateTime scoredAt) {
+        this.scoredAt = scoredAt;
+    }
+}
@@ -0,0 +1,76 @@
+package com.ningbo.portal.entity;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 已吊销的访问令牌
+ * <p>
+ * 按令牌 id (jti) 记录，expiresAt 为令牌本身的过期时间，过期后的记录由 TokenDenyList 定时清理。
+ */
+@Entity
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "idx_revoked_tokens_created_at", columnList = "created_at"),
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "token_id", unique = true, nullable = false, length = 64)
+    private String tokenId;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    // 构造函数
+    public RevokedToken() {}
+    
+    public RevokedToken(String tokenId, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    // Getter 和 Setter 方法
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTokenId() {
+        return tokenId;
+    }
+    
+    public void setTokenId(String tokenId) {
+        this.tokenId = tokenId;
+    }
+    
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+    
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
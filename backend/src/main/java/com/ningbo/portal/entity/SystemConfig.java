@@ -1,101 +1,101 @@
-package com.ningbo.portal.entity;
-
-import javax.persistence.*;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.Size;
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "system_configs")
-public class SystemConfig {
-    
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-    
-    @NotBlank(message = "配置键不能为空")
-    @Size(max = 100, message = "配置键长度不能超过100字符")
-    @Column(name = "config_key", unique = true, nullable = false)
-    private String configKey;
-    
-    @Column(name = "config_value", columnDefinition = "TEXT")
-    private String configValue;
-    
-    @Size(max = 255, message = "描述长度不能超过255字符")
-    private String description;
-    
-    @Column(name = "created_at", nullable = false)
-    private LocalDateTime createdAt;
-    
-    @Column(name = "updated_at")
-    private LocalDateTime updatedAt;
-    
-    @PrePersist
-    protected void onCreate() {
-        createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
-    }
-    
-    @PreUpdate
-    protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
-    }
-    
-    // Constructors
-    public SystemConfig() {}
-    
-    public SystemConfig(String configKey, String configValue, String description) {
-        this.configKey = configKey;
-        this.configValue = configValue;
-        this.description = description;
-    }
-    
-    // Getters and Setters
-    public Long getId() {
-        return id;
-    }
-    
-    public void setId(Long id) {
-        this.id = id;
-    }
-    
-    public String getConfigKey() {
-        return configKey;
-    }
-    
-    public void setConfigKey(String configKey) {
-        this.configKey = configKey;
-    }
-    
-    public String getConfigValue() {
-        return configValue;
-    }
-    
-    public void setConfigValue(String configValue) {
-        this.configValue = configValue;
-    }
-    
-    public String getDescription() {
-        return description;
-    }
-    
-    public void setDescription(String description) {
-        this.description = description;
-    }
-    
-    public LocalDateTime getCreatedAt() {
-        return createdAt;
-    }
-    
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
-    
-    public LocalDateTime getUpdatedAt() {
-        return updatedAt;
-    }
-    
-    public void setUpdatedAt(LocalDateTime updatedAt) {
-        this.updatedAt = updatedAt;
-    }
+package com.ningbo.portal.entity;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "system_configs")
+public class SystemConfig {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @NotBlank(message = "配置键不能为空")
+    @Size(max = 100, message = "配置键长度不能超过100字符")
+    @Column(name = "config_key", unique = true, nullable = false)
+    private String configKey;
+    
+    @Column(name = "config_value", columnDefinition = "TEXT")
+    private String configValue;
+    
+    @Size(max = 255, message = "描述长度不能超过255字符")
+    private String description;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+    
+    // Constructors
+    public SystemConfig() {}
+    
+    public SystemConfig(String configKey, String configValue, String description) {
+        this.configKey = configKey;
+        this.configValue = configValue;
+        this.description = description;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getConfigKey() {
+        return configKey;
+    }
+    
+    public void setConfigKey(String configKey) {
+        this.configKey = configKey;
+    }
+    
+    public String getConfigValue() {
+        return configValue;
+    }
+    
+    public void setConfigValue(String configValue) {
+        this.configValue = configValue;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.ningbo.portal.entity;
+
+import javax.persistence.*;
+
+/**
+ * 系统配置版本号
+ * <p>
+ * 表中只有一行 (id = 1)，每次修改系统配置后递增；各节点轮询该行，版本变化时重新加载配置。
+ */
+@Entity
+@Table(name = "system_config_version")
+public class SystemConfigVersion {
+    
+    public static final long SINGLETON_ID = 1L;
+    
+    @Id
+    private Long id;
+    
+    @Column(nullable = false)
+    private Long version;
+    
+    // 构造函数
+    public SystemConfigVersion() {}
+    
+    public SystemConfigVersion(Long id, Long version) {
+        this.id = id;
+        this.version = version;
+    }
+    
+    // Getter 和 Setter 方法
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
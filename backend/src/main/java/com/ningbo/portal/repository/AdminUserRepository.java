@@ -1,19 +1,34 @@
-package com.ningbo.portal.repository;
-
-import com.ningbo.portal.entity.AdminUser;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
-
-import java.util.Optional;
-
-@Repository
-public interface AdminUserRepository extends JpaRepository<AdminUser, Long> {
-    
-    Optional<AdminUser> findByUsername(String username);
-    
-    Optional<AdminUser> findByEmail(String email);
-    
-    boolean existsByUsername(String username);
-    
-    boolean existsByEmail(String email);
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.entity.AdminUser;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AdminUserRepository extends JpaRepository<AdminUser, Long> {
+    
+    Optional<AdminUser> findByUsername(String username);
+    
+    Optional<AdminUser> findByEmail(String email);
+    
+    boolean existsByUsername(String username);
+    
+    boolean existsByEmail(String email);
+    
+    // 令牌版本表：id、令牌版本、是否启用
+    @Query("SELECT u.id, u.tokenVersion, u.enabled FROM AdminUser u")
+    List<Object[]> findTokenVersions();
+    
+    // 以新的加密强度重新计算密码哈希；密码在此期间被修改时不覆盖 (返回 0)
+    @Modifying
+    @Transactional
+    @Query("UPDATE AdminUser u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int rehashPassword(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.entity.CacheChangeLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CacheChangeLogRepository extends JpaRepository<CacheChangeLog, Long> {
+    
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM CacheChangeLog c")
+    Long findMaxId();
+    
+    // 高水位之后的记录，按主键顺序分批读取
+    List<CacheChangeLog> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+    
+    // 重新检查读取时尚未提交的记录 (id 空洞)
+    List<CacheChangeLog> findByIdIn(Collection<Long> ids);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheChangeLog c WHERE c.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
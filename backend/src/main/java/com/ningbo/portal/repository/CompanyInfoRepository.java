@@ -1,9 +1,21 @@
 package com.ningbo.portal.repository;
 
+import com.ningbo.portal.dto.EntityVersion;
 import com.ningbo.portal.entity.CompanyInfo;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface CompanyInfoRepository extends JpaRepository<CompanyInfo, Long> {
+    
+    // 条件请求校验用的轻量版本查询
+    @Query("SELECT new com.ningbo.portal.dto.EntityVersion(c.id, c.version, c.updatedAt) FROM CompanyInfo c WHERE c.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+    
+    // 未指定主公司时以最早创建的公司作为主公司
+    Optional<CompanyInfo> findFirstByOrderByIdAsc();
 }
\ No newline at end of file
@@ -1,31 +1,58 @@
-package com.ningbo.portal.repository;
-
-import com.ningbo.portal.entity.Message;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-
-@Repository
-public interface MessageRepository extends JpaRepository<Message, Long> {
-    
-    // 按阅读状态查询
-    Page<Message> findByIsReadOrderByCreatedAtDesc(Boolean isRead, Pageable pageable);
-    
-    // 按回复状态查询
-    Page<Message> findByIsRepliedOrderByCreatedAtDesc(Boolean isReplied, Pageable pageable);
-    
-    // 按创建时间倒序查询所有
-    Page<Message> findAllByOrderByCreatedAtDesc(Pageable pageable);
-    
-    // 统计未读留言数量
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.isRead = false")
-    long countUnreadMessages();
-    
-    // 统计未回复留言数量
-    @Query("SELECT COUNT(m) FROM Message m WHERE m.isReplied = false")
-    long countUnrepliedMessages();
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.entity.Message;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MessageRepository extends JpaRepository<Message, Long>, MessageRepositoryCustom {
+    
+    // 按阅读状态查询
+    Page<Message> findByIsReadOrderByCreatedAtDesc(Boolean isRead, Pageable pageable);
+    
+    // 按回复状态查询
+    Page<Message> findByIsRepliedOrderByCreatedAtDesc(Boolean isReplied, Pageable pageable);
+    
+    // 按创建时间倒序查询所有
+    Page<Message> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    
+    // 一次查询统计留言总数、未读数和未回复数
+    @Query("SELECT COUNT(m), " +
+           "SUM(CASE WHEN m.isRead = false THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN m.isReplied = false THEN 1 ELSE 0 END) FROM Message m")
+    List<Object[]> countByStatus();
+    
+    @Query("SELECT COUNT(m), " +
+           "SUM(CASE WHEN m.isRead = false THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN m.isReplied = false THEN 1 ELSE 0 END) FROM Message m WHERE m.id IN :ids")
+    List<Object[]> countByStatusAndIdIn(@Param("ids") Collection<Long> ids);
+    
+    // 批量操作：条件中排除状态已相同的留言，返回值即状态实际发生变化的条数
+    @Modifying
+    @Transactional
+    @Query("UPDATE Message m SET m.isRead = :isRead, m.updatedAt = :now WHERE m.id IN :ids AND m.isRead <> :isRead")
+    int updateReadStatusByIdIn(@Param("ids") Collection<Long> ids,
+                               @Param("isRead") Boolean isRead,
+                               @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE Message m SET m.isArchived = true, m.updatedAt = :now " +
+           "WHERE m.id IN :ids AND (m.isArchived IS NULL OR m.isArchived = false)")
+    int archiveByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM Message m WHERE m.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
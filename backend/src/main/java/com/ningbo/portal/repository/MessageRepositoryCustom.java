@@ -0,0 +1,26 @@
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.dto.MessageFilter;
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.util.KeysetCursor;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+
+/**
+ * 需要动态拼接条件的留言查询
+ */
+public interface MessageRepositoryCustom {
+    
+    // 按组合条件键集分页，按 (createdAt, id) 倒序；after 为 null 时返回第一页
+    Slice<Message> findInbox(MessageFilter filter, KeysetCursor after, int size);
+    
+    // 以下为按条件的批量操作，语义与 MessageRepository 中按 id 的版本相同
+    Object[] countByStatusAndFilter(MessageFilter filter);
+    
+    int updateReadStatusByFilter(MessageFilter filter, Boolean isRead, LocalDateTime now);
+    
+    int archiveByFilter(MessageFilter filter, LocalDateTime now);
+    
+    int deleteByFilter(MessageFilter filter);
+}
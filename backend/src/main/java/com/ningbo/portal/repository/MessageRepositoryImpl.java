@@ -0,0 +1,151 @@
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.dto.MessageFilter;
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.util.KeysetCursor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaDelete;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.CriteriaUpdate;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 留言收件箱查询与按条件的批量操作
+ * <p>
+ * 等值条件 (阅读状态、回复状态、邮箱) 在前、(created_at, id) 在后，与 messages 表上的组合索引对应，
+ * 翻页条件 (created_at, id) < 游标 直接在索引上定位，深翻页不做 OFFSET 扫描；多取一条判断是否有下一页，
+ * 不执行 COUNT 查询。批量操作以同样的条件生成单条 UPDATE / DELETE 语句。
+ */
+public class MessageRepositoryImpl implements MessageRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Message> findInbox(MessageFilter filter, KeysetCursor after, int size) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Message> query = cb.createQuery(Message.class);
+        Root<Message> message = query.from(Message.class);
+
+        List<Predicate> predicates = toPredicates(cb, message, filter);
+        if (after != null) {
+            // 冗余的 created_at <= 游标时间给出索引扫描的起点，否则 OR 条件可能退化为从最新一条开始逐条过滤
+            predicates.add(cb.lessThanOrEqualTo(message.<LocalDateTime>get("createdAt"), after.getTimestamp()));
+            predicates.add(cb.or(
+                    cb.lessThan(message.<LocalDateTime>get("createdAt"), after.getTimestamp()),
+                    cb.and(cb.equal(message.get("createdAt"), after.getTimestamp()),
+                           cb.lessThan(message.<Long>get("id"), after.getId()))));
+        }
+
+        query.select(message)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(message.get("createdAt")), cb.desc(message.get("id")));
+
+        List<Message> rows = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > size;
+        List<Message> content = hasNext ? new ArrayList<>(rows.subList(0, size)) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    @Override
+    public Object[] countByStatusAndFilter(MessageFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        Root<Message> message = query.from(Message.class);
+
+        query.multiselect(
+                cb.count(message),
+                cb.sum(statusFlag(cb, message.<Boolean>get("isRead"))),
+                cb.sum(statusFlag(cb, message.<Boolean>get("isReplied"))))
+                .where(toPredicates(cb, message, filter).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    @Transactional
+    public int updateReadStatusByFilter(MessageFilter filter, Boolean isRead, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Message> update = cb.createCriteriaUpdate(Message.class);
+        Root<Message> message = update.from(Message.class);
+
+        List<Predicate> predicates = toPredicates(cb, message, filter);
+        predicates.add(cb.notEqual(message.get("isRead"), isRead));
+        update.set(message.<Boolean>get("isRead"), isRead)
+                .set(message.<LocalDateTime>get("updatedAt"), now)
+                .where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int archiveByFilter(MessageFilter filter, LocalDateTime now) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Message> update = cb.createCriteriaUpdate(Message.class);
+        Root<Message> message = update.from(Message.class);
+
+        List<Predicate> predicates = toPredicates(cb, message, filter);
+        predicates.add(cb.or(cb.isNull(message.get("isArchived")), cb.isFalse(message.<Boolean>get("isArchived"))));
+        update.set(message.<Boolean>get("isArchived"), true)
+                .set(message.<LocalDateTime>get("updatedAt"), now)
+                .where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteByFilter(MessageFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<Message> delete = cb.createCriteriaDelete(Message.class);
+        Root<Message> message = delete.from(Message.class);
+
+        delete.where(toPredicates(cb, message, filter).toArray(new Predicate[0]));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    private static List<Predicate> toPredicates(CriteriaBuilder cb, Root<Message> message, MessageFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getIsRead() != null) {
+            predicates.add(cb.equal(message.get("isRead"), filter.getIsRead()));
+        }
+        if (filter.getIsReplied() != null) {
+            predicates.add(cb.equal(message.get("isReplied"), filter.getIsReplied()));
+        }
+        if (filter.getIsArchived() != null) {
+            // 新增列之前的留言该列为 NULL，视为未归档
+            predicates.add(filter.getIsArchived()
+                    ? cb.isTrue(message.<Boolean>get("isArchived"))
+                    : cb.or(cb.isNull(message.get("isArchived")), cb.isFalse(message.<Boolean>get("isArchived"))));
+        }
+        if (filter.getEmail() != null) {
+            predicates.add(cb.equal(message.get("email"), filter.getEmail()));
+        }
+        if (filter.getFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(message.<LocalDateTime>get("createdAt"), filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            predicates.add(cb.lessThan(message.<LocalDateTime>get("createdAt"), filter.getTo()));
+        }
+        return predicates;
+    }
+
+    // 与 countByStatus 一致：只有明确为 false 的才计入未读、未回复
+    private static Expression<Long> statusFlag(CriteriaBuilder cb, Expression<Boolean> flag) {
+        return cb.<Long>selectCase()
+                .when(cb.isFalse(flag), 1L)
+                .otherwise(0L);
+    }
+}
@@ -1,23 +1,99 @@
-package com.ningbo.portal.repository;
-
-import com.ningbo.portal.entity.News;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.stereotype.Repository;
-
-import java.util.List;
-
-@Repository
-public interface NewsRepository extends JpaRepository<News, Long> {
-    
-    Page<News> findByIsPublishedTrueOrderByPublishedAtDesc(Pageable pageable);
-    
-    List<News> findTop6ByIsPublishedTrueOrderByPublishedAtDesc();
-    
-    Page<News> findByCategoryAndIsPublishedTrueOrderByPublishedAtDesc(String category, Pageable pageable);
-    
-    @Query("SELECT DISTINCT n.category FROM News n WHERE n.isPublished = true")
-    List<String> findDistinctCategories();
-}
\ No newline at end of file
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.dto.NewsSummary;
+import com.ningbo.portal.entity.News;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface NewsRepository extends JpaRepository<News, Long> {
+    
+    // 列表查询只选取摘要列，不加载正文 content
+    String SUMMARY_SELECT = "SELECT new com.ningbo.portal.dto.NewsSummary(" +
+            "n.id, n.title, n.excerpt, n.category, n.imageUrl, n.author, n.readTime, " +
+            "n.isPublished, n.isScheduled, n.viewCount, n.publishedAt, n.createdAt) FROM News n ";
+    
+    @Query(value = SUMMARY_SELECT + "WHERE n.isPublished = true ORDER BY n.publishedAt DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.isPublished = true")
+    Page<NewsSummary> findPublishedSummaries(Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE n.isPublished = true AND n.category = :category ORDER BY n.publishedAt DESC",
+           countQuery = "SELECT COUNT(n) FROM News n WHERE n.isPublished = true AND n.category = :category")
+    Page<NewsSummary> findPublishedSummariesByCategory(@Param("category") String category, Pageable pageable);
+    
+    // 最新新闻，条数由 Pageable 限定
+    @Query(SUMMARY_SELECT + "WHERE n.isPublished = true ORDER BY n.publishedAt DESC")
+    List<NewsSummary> findLatestSummaries(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE n.isPublished = true AND n.id IN :ids")
+    List<NewsSummary> findPublishedSummariesByIds(@Param("ids") Collection<Long> ids);
+    
+    // 已写入数据库的浏览量 (id, viewCount)，检索结果用
+    @Query("SELECT n.id, n.viewCount FROM News n WHERE n.id IN :ids")
+    List<Object[]> findViewCountsByIds(@Param("ids") Collection<Long> ids);
+    
+    // 管理后台列表，包含未发布新闻
+    @Query(SUMMARY_SELECT + "ORDER BY n.id")
+    List<NewsSummary> findAllSummaries();
+    
+    // 按 id 分批加载已发布新闻 (构建检索索引用)
+    List<News> findTop500ByIsPublishedTrueAndIdGreaterThanOrderByIdAsc(Long id);
+    
+    // 等待定时发布的新闻
+    List<News> findByIsScheduledTrueOrderByPublishedAtAsc();
+    
+    /**
+     * 认领一篇到期的定时新闻并改为已发布，条件更新保证多节点下只有一个节点成功 (返回 1)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE News n SET n.isPublished = true, n.isScheduled = false, n.updatedAt = :now, " +
+           "n.version = n.version + 1 " +
+           "WHERE n.id = :id AND n.isScheduled = true AND n.publishedAt <= :now")
+    int claimScheduled(@Param("id") Long id, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT DISTINCT n.category FROM News n WHERE n.isPublished = true")
+    List<String> findDistinctCategories();
+    
+    // 条件请求校验用的轻量版本查询
+    @Query("SELECT new com.ningbo.portal.dto.EntityVersion(n.id, n.version, n.updatedAt) FROM News n WHERE n.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
+    
+    // 键集分页：按 (publishedAt, id) 倒序，Slice 不执行 COUNT 查询；
+    // 缺少发布时间的记录无法编码为游标，不进入游标分页
+    @Query(SUMMARY_SELECT + "WHERE n.isPublished = true AND n.publishedAt IS NOT NULL " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    Slice<NewsSummary> findPublishedFirstSlice(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE n.isPublished = true AND n.publishedAt IS NOT NULL " +
+           "AND (n.publishedAt < :publishedAt OR (n.publishedAt = :publishedAt AND n.id < :id)) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    Slice<NewsSummary> findPublishedBefore(@Param("publishedAt") LocalDateTime publishedAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE n.isPublished = true AND n.publishedAt IS NOT NULL AND n.category = :category " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    Slice<NewsSummary> findPublishedByCategoryFirstSlice(@Param("category") String category, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE n.isPublished = true AND n.publishedAt IS NOT NULL AND n.category = :category " +
+           "AND (n.publishedAt < :publishedAt OR (n.publishedAt = :publishedAt AND n.id < :id)) " +
+           "ORDER BY n.publishedAt DESC, n.id DESC")
+    Slice<NewsSummary> findPublishedByCategoryBefore(@Param("category") String category,
+                                                     @Param("publishedAt") LocalDateTime publishedAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.entity.NewsTrendingScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NewsTrendingScoreRepository extends JpaRepository<NewsTrendingScore, Long> {
+}
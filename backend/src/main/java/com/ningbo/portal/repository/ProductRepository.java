@@ -1,11 +1,15 @@
 package com.ningbo.portal.repository;
 
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.dto.ProductCard;
 import com.ningbo.portal.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -16,4 +20,14 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     
     @Query("SELECT DISTINCT p.category FROM Product p WHERE p.isActive = true")
     List<String> findDistinctCategories();
+    
+    // 管理后台列表只选取卡片所需的列
+    @Query("SELECT new com.ningbo.portal.dto.ProductCard(" +
+           "p.id, p.name, p.description, p.category, p.price, p.imageUrl, p.isActive, p.sortOrder) " +
+           "FROM Product p ORDER BY p.sortOrder, p.id")
+    List<ProductCard> findAllCards();
+    
+    // 条件请求校验用的轻量版本查询
+    @Query("SELECT new com.ningbo.portal.dto.EntityVersion(p.id, p.version, p.updatedAt) FROM Product p WHERE p.id = :id")
+    Optional<EntityVersion> findVersionById(@Param("id") Long id);
 }
\ No newline at end of file
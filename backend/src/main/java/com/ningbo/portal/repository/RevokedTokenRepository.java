@@ -0,0 +1,29 @@
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+    
+    boolean existsByTokenId(String tokenId);
+    
+    // 启动时加载尚未过期的记录
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime now);
+    
+    // 增量同步其他节点写入的记录
+    List<RevokedToken> findByCreatedAtGreaterThanEqual(LocalDateTime since);
+    
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RevokedToken t WHERE t.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,20 @@
+package com.ningbo.portal.repository;
+
+import com.ningbo.portal.entity.SystemConfigVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface SystemConfigVersionRepository extends JpaRepository<SystemConfigVersion, Long> {
+    
+    @Query("SELECT v.version FROM SystemConfigVersion v WHERE v.id = 1")
+    Long findCurrentVersion();
+    
+    @Modifying
+    @Transactional
+    @Query("UPDATE SystemConfigVersion v SET v.version = v.version + 1 WHERE v.id = 1")
+    int increment();
+}
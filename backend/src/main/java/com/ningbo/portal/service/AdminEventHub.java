@@ -0,0 +1,241 @@
+package com.ningbo.portal.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ningbo.portal.entity.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 管理后台事件推送 (Server-Sent Events)
+ * <p>
+ * 每个订阅者有一个有界事件缓冲区，发布事件只做入队，不在调用线程上写网络；
+ * 由少量分发线程逐个订阅者串行发送，同一订阅者同时最多占用一个分发线程。
+ * 缓冲区写满说明客户端跟不上，直接断开该订阅者 (浏览器会自动重连并重新拉取数据)。
+ * 连接以异步 Servlet 方式保持，不占用请求线程。
+ */
+@Component
+public class AdminEventHub {
+    
+    private static final Logger log = LoggerFactory.getLogger(AdminEventHub.class);
+    
+    public static final String EVENT_MESSAGE_CREATED = "message.created";
+    public static final String EVENT_MESSAGE_REPLIED = "message.replied";
+    public static final String EVENT_COUNTERS = "counters";
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private MessageCounters messageCounters;
+    
+    @Value("${admin.stream.buffer-size:64}")
+    private int bufferSize;
+    
+    @Value("${admin.stream.max-subscribers:100}")
+    private int maxSubscribers;
+    
+    @Value("${admin.stream.timeout:1800000}")
+    private long timeoutMillis;
+    
+    @Value("${admin.stream.dispatcher-threads:2}")
+    private int dispatcherThreads;
+    
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    
+    private ExecutorService dispatcher;
+    
+    private Counter droppedCounter;
+    
+    // 上次推送的留言计数，只在变化时推送
+    private long[] lastCounters = new long[3];
+    
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadIndex = new AtomicInteger();
+        dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "admin-events-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        droppedCounter = Counter.builder("admin.stream.dropped")
+                .description("缓冲区写满被断开的订阅者数")
+                .register(meterRegistry);
+        Gauge.builder("admin.stream.subscribers", subscribers, Map::size)
+                .description("事件推送订阅者数")
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        subscribers.keySet().forEach(SseEmitter::complete);
+        dispatcher.shutdownNow();
+    }
+    
+    /**
+     * 新建订阅，订阅者已满时返回 null；连接建立后先推送一次当前计数
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> subscribers.remove(emitter));
+        emitter.onError(e -> subscribers.remove(emitter));
+        subscribers.put(emitter, subscriber);
+        
+        enqueue(subscriber, SseEmitter.event().name(EVENT_COUNTERS).data(toJson(countersPayload()), MediaType.APPLICATION_JSON));
+        return emitter;
+    }
+    
+    /**
+     * 向全部订阅者发布事件，payload 只序列化一次
+     */
+    public void publish(String name, Object payload) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        String json = toJson(payload);
+        if (json == null) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers.values()) {
+            enqueue(subscriber, SseEmitter.event().name(name).data(json, MediaType.APPLICATION_JSON));
+        }
+    }
+    
+    // 新留言只推送摘要，详情由管理端按需加载
+    public void messageCreated(Message message) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("id", message.getId());
+        payload.put("ticketId", message.getTicketId());
+        payload.put("name", message.getName());
+        payload.put("subject", message.getSubject());
+        payload.put("isSpam", message.getIsSpam());
+        payload.put("createdAt", message.getCreatedAt());
+        publish(EVENT_MESSAGE_CREATED, payload);
+    }
+    
+    public void messageReplied(Message message) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("id", message.getId());
+        payload.put("replyTime", message.getReplyTime());
+        publish(EVENT_MESSAGE_REPLIED, payload);
+    }
+    
+    // 留言计数变化时推送，批量操作造成的连续变化合并为一次
+    @Scheduled(fixedDelayString = "${admin.stream.counters-interval:1000}")
+    public void publishCounters() {
+        long[] current = {messageCounters.getTotal(), messageCounters.getUnread(), messageCounters.getUnreplied()};
+        if (current[0] == lastCounters[0] && current[1] == lastCounters[1] && current[2] == lastCounters[2]) {
+            return;
+        }
+        lastCounters = current;
+        publish(EVENT_COUNTERS, countersPayload());
+    }
+    
+    // 心跳注释行：保持代理连接不被回收，同时及时发现已断开的客户端
+    @Scheduled(fixedDelayString = "${admin.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers.values()) {
+            enqueue(subscriber, SseEmitter.event().comment("ping"));
+        }
+    }
+    
+    private Map<String, Object> countersPayload() {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("totalCount", messageCounters.getTotal());
+        payload.put("unreadCount", messageCounters.getUnread());
+        payload.put("unrepliedCount", messageCounters.getUnreplied());
+        return payload;
+    }
+    
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.buffer.offer(event)) {
+            drop(subscriber);
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+    
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 客户端已断开或连接已结束
+                    subscribers.remove(subscriber.emitter);
+                    subscriber.buffer.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // 释放标记后再次检查，避免漏掉期间入队的事件
+            if (subscriber.buffer.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+                return;
+            }
+        }
+    }
+    
+    private void drop(Subscriber subscriber) {
+        if (subscribers.remove(subscriber.emitter) != null) {
+            droppedCounter.increment();
+            log.debug("事件推送订阅者处理过慢，已断开");
+            subscriber.buffer.clear();
+            // 结束连接可能要等正在进行的发送完成，交给分发线程执行
+            dispatcher.execute(subscriber.emitter::complete);
+        }
+    }
+    
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.error("事件序列化失败", e);
+            return null;
+        }
+    }
+    
+    private static final class Subscriber {
+        
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
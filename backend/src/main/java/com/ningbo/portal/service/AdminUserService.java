@@ -1,84 +1,150 @@
-package com.ningbo.portal.service;
-
-import com.ningbo.portal.entity.AdminUser;
-import com.ningbo.portal.repository.AdminUserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Service;
-
-import java.util.Optional;
-
-@Service
-public class AdminUserService {
-    
-    @Autowired
-    private AdminUserRepository adminUserRepository;
-    
-    @Autowired
-    private PasswordEncoder passwordEncoder;
-    
-    public Page<AdminUser> findAll(Pageable pageable) {
-        return adminUserRepository.findAll(pageable);
-    }
-    
-    public Optional<AdminUser> findById(Long id) {
-        return adminUserRepository.findById(id);
-    }
-    
-    public Optional<AdminUser> findByUsername(String username) {
-        return adminUserRepository.findByUsername(username);
-    }
-    
-    public AdminUser save(AdminUser adminUser) {
-        if (adminUser.getId() == null) {
-            // 新用户，加密密码
-            adminUser.setPassword(passwordEncoder.encode(adminUser.getPassword()));
-        }
-        return adminUserRepository.save(adminUser);
-    }
-    
-    public AdminUser update(AdminUser adminUser) {
-        Optional<AdminUser> existingUser = adminUserRepository.findById(adminUser.getId());
-        if (existingUser.isPresent()) {
-            AdminUser user = existingUser.get();
-            user.setUsername(adminUser.getUsername());
-            user.setEmail(adminUser.getEmail());
-            user.setFullName(adminUser.getFullName());
-            user.setRole(adminUser.getRole());
-            user.setEnabled(adminUser.getEnabled());
-            
-            // 如果密码不为空，则更新密码
-            if (adminUser.getPassword() != null && !adminUser.getPassword().trim().isEmpty()) {
-                user.setPassword(passwordEncoder.encode(adminUser.getPassword()));
-            }
-            
-            return adminUserRepository.save(user);
-        }
-        throw new RuntimeException("用户不存在");
-    }
-    
-    public void deleteById(Long id) {
-        adminUserRepository.deleteById(id);
-    }
-    
-    public boolean existsByUsername(String username) {
-        return adminUserRepository.existsByUsername(username);
-    }
-    
-    public boolean existsByEmail(String email) {
-        return adminUserRepository.existsByEmail(email);
-    }
-    
-    public void changePassword(Long userId, String newPassword) {
-        Optional<AdminUser> userOpt = adminUserRepository.findById(userId);
-        if (userOpt.isPresent()) {
-            AdminUser user = userOpt.get();
-            user.setPassword(passwordEncoder.encode(newPassword));
-            adminUserRepository.save(user);
-        } else {
-            throw new RuntimeException("用户不存在");
-        }
-    }
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.AdminUser;
+import com.ningbo.portal.repository.AdminUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.Objects;
+import java.util.Optional;
+
+@Service
+public class AdminUserService {
+    
+    @Autowired
+    private AdminUserRepository adminUserRepository;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private PrincipalCache principalCache;
+    
+    @Autowired
+    private TokenVersionRegistry tokenVersionRegistry;
+    
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    
+    // 其他节点修改用户后：失效本节点缓存的用户信息 (记录中只有用户id，整体清空)，并按数据库更新令牌版本
+    @PostConstruct
+    public void subscribeChanges() {
+        cacheInvalidationBus.subscribe(CacheInvalidationBus.ADMIN_USER, ids -> {
+            principalCache.invalidateAll();
+            for (Long id : ids) {
+                Optional<AdminUser> user = adminUserRepository.findById(id);
+                if (user.isPresent()) {
+                    tokenVersionRegistry.update(id, currentTokenVersion(user.get()), Boolean.TRUE.equals(user.get().getEnabled()));
+                } else {
+                    tokenVersionRegistry.remove(id);
+                }
+            }
+        });
+    }
+    
+    public Page<AdminUser> findAll(Pageable pageable) {
+        return adminUserRepository.findAll(pageable);
+    }
+    
+    public Optional<AdminUser> findById(Long id) {
+        return adminUserRepository.findById(id);
+    }
+    
+    public Optional<AdminUser> findByUsername(String username) {
+        return adminUserRepository.findByUsername(username);
+    }
+    
+    public AdminUser save(AdminUser adminUser) {
+        if (adminUser.getId() == null) {
+            // 新用户，加密密码
+            adminUser.setPassword(passwordEncoder.encode(adminUser.getPassword()));
+        }
+        AdminUser saved = adminUserRepository.save(adminUser);
+        userChanged(saved);
+        return saved;
+    }
+    
+    public AdminUser update(AdminUser adminUser) {
+        Optional<AdminUser> existingUser = adminUserRepository.findById(adminUser.getId());
+        if (existingUser.isPresent()) {
+            AdminUser user = existingUser.get();
+            String previousUsername = user.getUsername();
+            // 用户名、角色、启用状态或密码变化后，之前签发的无状态令牌作废
+            boolean revokeTokens = !Objects.equals(user.getUsername(), adminUser.getUsername())
+                    || user.getRole() != adminUser.getRole()
+                    || !Objects.equals(user.getEnabled(), adminUser.getEnabled());
+            user.setUsername(adminUser.getUsername());
+            user.setEmail(adminUser.getEmail());
+            user.setFullName(adminUser.getFullName());
+            user.setRole(adminUser.getRole());
+            user.setEnabled(adminUser.getEnabled());
+            
+            // 如果密码不为空，则更新密码
+            if (adminUser.getPassword() != null && !adminUser.getPassword().trim().isEmpty()) {
+                user.setPassword(passwordEncoder.encode(adminUser.getPassword()));
+                revokeTokens = true;
+            }
+            if (revokeTokens) {
+                bumpTokenVersion(user);
+            }
+            
+            AdminUser saved = adminUserRepository.save(user);
+            // 角色、启用状态或用户名变化后立即失效缓存的用户信息
+            principalCache.invalidate(previousUsername);
+            principalCache.invalidate(saved.getUsername());
+            userChanged(saved);
+            return saved;
+        }
+        throw new RuntimeException("用户不存在");
+    }
+    
+    public void deleteById(Long id) {
+        Optional<AdminUser> user = adminUserRepository.findById(id);
+        adminUserRepository.deleteById(id);
+        user.ifPresent(deleted -> principalCache.invalidate(deleted.getUsername()));
+        tokenVersionRegistry.remove(id);
+        cacheInvalidationBus.publish(CacheInvalidationBus.ADMIN_USER, id, null);
+    }
+    
+    public boolean existsByUsername(String username) {
+        return adminUserRepository.existsByUsername(username);
+    }
+    
+    public boolean existsByEmail(String email) {
+        return adminUserRepository.existsByEmail(email);
+    }
+    
+    public void changePassword(Long userId, String newPassword) {
+        Optional<AdminUser> userOpt = adminUserRepository.findById(userId);
+        if (userOpt.isPresent()) {
+            AdminUser user = userOpt.get();
+            user.setPassword(passwordEncoder.encode(newPassword));
+            bumpTokenVersion(user);
+            AdminUser saved = adminUserRepository.save(user);
+            principalCache.invalidate(saved.getUsername());
+            userChanged(saved);
+        } else {
+            throw new RuntimeException("用户不存在");
+        }
+    }
+    
+    // 令牌版本，新增该列之前的用户为 null，视为 0
+    public long currentTokenVersion(AdminUser user) {
+        return user.getTokenVersion() == null ? 0L : user.getTokenVersion();
+    }
+    
+    // 使该用户之前签发的无状态令牌失效
+    private void bumpTokenVersion(AdminUser user) {
+        user.setTokenVersion(currentTokenVersion(user) + 1);
+    }
+    
+    // 更新本节点的令牌版本表并通知其他节点
+    private void userChanged(AdminUser saved) {
+        tokenVersionRegistry.update(saved.getId(), currentTokenVersion(saved), Boolean.TRUE.equals(saved.getEnabled()));
+        cacheInvalidationBus.publish(CacheInvalidationBus.ADMIN_USER, saved.getId(), currentTokenVersion(saved));
+    }
 }
\ No newline at end of file
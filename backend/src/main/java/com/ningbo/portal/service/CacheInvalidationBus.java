@@ -0,0 +1,168 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.CacheChangeLog;
+import com.ningbo.portal.repository.CacheChangeLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 多节点缓存失效总线
+ * <p>
+ * 服务写入数据后先失效本节点缓存，再向 cache_change_log 表追加一条变更记录；
+ * 各节点定时按主键高水位读取新记录，跳过本节点写入的记录，按实体类型合并后交给订阅者失效本地缓存。
+ * 自增主键按分配顺序而非提交顺序可见，读取时发现的 id 空洞在 cache.bus.gap-timeout 内持续重查，
+ * 晚提交的记录不会被跳过；回滚留下的空洞超时后放弃。记录保留 cache.bus.retention 后清理。
+ */
+@Component
+public class CacheInvalidationBus {
+    
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    
+    public static final String PRODUCT = "product";
+    public static final String NEWS = "news";
+    public static final String COMPANY = "company";
+    public static final String SYSTEM_CONFIG = "system_config";
+    public static final String ADMIN_USER = "admin_user";
+    
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_GAPS = 1000;
+    
+    @Autowired
+    private CacheChangeLogRepository cacheChangeLogRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${cache.bus.gap-timeout:60000}")
+    private long gapTimeoutMillis;
+    
+    @Value("${cache.bus.retention:3600000}")
+    private long retentionMillis;
+    
+    // 本节点标识，每次启动重新生成
+    private final String nodeId = UUID.randomUUID().toString();
+    
+    // 实体类型 -> 订阅者，参数为本次读取到的该类型实体id (整体失效的记录 id 为 null)
+    private final Map<String, Consumer<Set<Long>>> subscribers = new ConcurrentHashMap<>();
+    
+    // 以下仅轮询任务访问
+    private long highWater;
+    
+    // 尚未读取到的 id -> 放弃重查的时间
+    private final Map<Long, Long> gaps = new LinkedHashMap<>();
+    
+    private Counter appliedCounter;
+    
+    @PostConstruct
+    public void init() {
+        // 启动时各缓存从数据库全新加载，之前的变更无需处理
+        highWater = cacheChangeLogRepository.findMaxId();
+        appliedCounter = Counter.builder("cache.bus.applied")
+                .description("应用的其他节点缓存失效记录数")
+                .register(meterRegistry);
+    }
+    
+    public void subscribe(String entityType, Consumer<Set<Long>> subscriber) {
+        subscribers.put(entityType, subscriber);
+    }
+    
+    /**
+     * 通知其他节点失效缓存，应在本节点写入已提交、本地缓存已失效后调用；写入失败只记录日志
+     */
+    public void publish(String entityType, Long entityId, Long version) {
+        try {
+            cacheChangeLogRepository.save(new CacheChangeLog(entityType, entityId, version, nodeId));
+        } catch (Exception e) {
+            log.error("写入缓存失效记录失败: {} {}", entityType, entityId, e);
+        }
+    }
+    
+    // 以更新时间作为实体版本
+    public static Long versionOf(LocalDateTime updatedAt) {
+        return updatedAt == null ? null : updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+    
+    @Scheduled(fixedDelayString = "${cache.bus.poll-interval:1000}")
+    public synchronized void poll() {
+        List<CacheChangeLog> changes = new ArrayList<>();
+        try {
+            long now = System.currentTimeMillis();
+            if (!gaps.isEmpty()) {
+                for (CacheChangeLog change : cacheChangeLogRepository.findByIdIn(new ArrayList<>(gaps.keySet()))) {
+                    gaps.remove(change.getId());
+                    changes.add(change);
+                }
+                gaps.values().removeIf(deadline -> deadline <= now);
+            }
+            
+            List<CacheChangeLog> batch;
+            do {
+                batch = cacheChangeLogRepository.findTop500ByIdGreaterThanOrderByIdAsc(highWater);
+                for (CacheChangeLog change : batch) {
+                    for (long missing = highWater + 1; missing < change.getId() && gaps.size() < MAX_GAPS; missing++) {
+                        gaps.put(missing, now + gapTimeoutMillis);
+                    }
+                    highWater = change.getId();
+                    changes.add(change);
+                }
+            } while (batch.size() == BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("读取缓存失效记录失败", e);
+        }
+        dispatch(changes);
+    }
+    
+    @Scheduled(fixedDelayString = "${cache.bus.prune-interval:600000}")
+    public void prune() {
+        try {
+            int deleted = cacheChangeLogRepository.deleteOlderThan(LocalDateTime.now().minus(Duration.ofMillis(retentionMillis)));
+            if (deleted > 0) {
+                log.debug("清理缓存失效记录 {} 条", deleted);
+            }
+        } catch (Exception e) {
+            log.error("清理缓存失效记录失败", e);
+        }
+    }
+    
+    private void dispatch(List<CacheChangeLog> changes) {
+        Map<String, Set<Long>> byType = new HashMap<>();
+        for (CacheChangeLog change : changes) {
+            if (!nodeId.equals(change.getNodeId())) {
+                byType.computeIfAbsent(change.getEntityType(), type -> new HashSet<>()).add(change.getEntityId());
+                appliedCounter.increment();
+            }
+        }
+        byType.forEach((type, ids) -> {
+            Consumer<Set<Long>> subscriber = subscribers.get(type);
+            if (subscriber == null) {
+                return;
+            }
+            try {
+                subscriber.accept(ids);
+            } catch (Exception e) {
+                log.error("应用缓存失效记录失败: {} {}", type, ids, e);
+            }
+        });
+    }
+}
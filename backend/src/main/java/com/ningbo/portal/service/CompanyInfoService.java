@@ -1,37 +1,150 @@
-package com.ningbo.portal.service;
-
-import com.ningbo.portal.entity.CompanyInfo;
-import com.ningbo.portal.repository.CompanyInfoRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Service;
-
-import java.util.List;
-import java.util.Optional;
-
-@Service
-public class CompanyInfoService {
-    
-    @Autowired
-    private CompanyInfoRepository companyInfoRepository;
-    
-    public List<CompanyInfo> findAll() {
-        return companyInfoRepository.findAll();
-    }
-    
-    public Optional<CompanyInfo> findById(Long id) {
-        return companyInfoRepository.findById(id);
-    }
-    
-    public CompanyInfo save(CompanyInfo companyInfo) {
-        return companyInfoRepository.save(companyInfo);
-    }
-    
-    public void deleteById(Long id) {
-        companyInfoRepository.deleteById(id);
-    }
-    
-    public CompanyInfo getMainCompanyInfo() {
-        List<CompanyInfo> companies = companyInfoRepository.findAll();
-        return companies.isEmpty() ? null : companies.get(0);
-    }
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.entity.CompanyInfo;
+import com.ningbo.portal.repository.CompanyInfoRepository;
+import com.ningbo.portal.util.ListingVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 企业信息
+ * <p>
+ * 主公司由系统配置 main_company_id 指定 (未指定或已删除时取 id 最小的公司)，主公司信息缓存在内存中，
+ * 公开读取不查询数据库；企业信息写入、其他节点的变更通知或主公司配置变化时重新加载。
+ */
+@Service
+public class CompanyInfoService {
+    
+    public static final String MAIN_COMPANY_CONFIG_KEY = "main_company_id";
+    
+    private static final String LIST_SCOPE = "all";
+    
+    @Autowired
+    private CompanyInfoRepository companyInfoRepository;
+    
+    @Autowired
+    private SystemConfigService systemConfigService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    
+    private volatile MainCompany mainCompany;
+    
+    // 企业信息列表版本，写入或其他节点的变更通知时递增
+    private final ListingVersions listingVersions = new ListingVersions("company");
+    
+    private Counter refreshCounter;
+    
+    @PostConstruct
+    public void init() {
+        refreshCounter = Counter.builder("company.main.refresh")
+                .description("主公司信息缓存刷新次数")
+                .register(meterRegistry);
+        cacheInvalidationBus.subscribe(CacheInvalidationBus.COMPANY, ids -> {
+            listingVersions.bump(LIST_SCOPE);
+            responseBodyCache.invalidate("company:");
+            refreshMainCompany();
+        });
+    }
+    
+    public List<CompanyInfo> findAll() {
+        return companyInfoRepository.findAll();
+    }
+    
+    public Optional<CompanyInfo> findById(Long id) {
+        return companyInfoRepository.findById(id);
+    }
+    
+    public Optional<EntityVersion> findVersion(Long id) {
+        return companyInfoRepository.findVersionById(id);
+    }
+    
+    public String getListTag() {
+        return listingVersions.etag(LIST_SCOPE);
+    }
+    
+    public CompanyInfo save(CompanyInfo companyInfo) {
+        // 表单提交的实体不带版本号，更新时沿用库中的版本，保持原有的整行覆盖语义
+        if (companyInfo.getId() != null) {
+            companyInfoRepository.findVersionById(companyInfo.getId()).ifPresent(version -> companyInfo.setVersion(version.getVersion()));
+        }
+        CompanyInfo savedCompany = companyInfoRepository.save(companyInfo);
+        listingVersions.bump(LIST_SCOPE);
+        responseBodyCache.invalidate("company:");
+        refreshMainCompany();
+        cacheInvalidationBus.publish(CacheInvalidationBus.COMPANY, savedCompany.getId(),
+                CacheInvalidationBus.versionOf(savedCompany.getUpdatedAt()));
+        return savedCompany;
+    }
+    
+    public void deleteById(Long id) {
+        companyInfoRepository.deleteById(id);
+        listingVersions.bump(LIST_SCOPE);
+        responseBodyCache.invalidate("company:");
+        refreshMainCompany();
+        cacheInvalidationBus.publish(CacheInvalidationBus.COMPANY, id, null);
+    }
+    
+    /**
+     * 主公司信息，没有任何公司时返回 null；只读取内存，主公司配置变化后的首次读取时重新加载
+     */
+    public CompanyInfo getMainCompanyInfo() {
+        MainCompany current = mainCompany;
+        if (current == null || current.configuredId != configuredMainCompanyId()) {
+            current = refreshMainCompany();
+        }
+        return current.company;
+    }
+    
+    // 指定主公司，其他节点在系统配置同步后生效
+    public CompanyInfo setMainCompany(Long id) {
+        if (!companyInfoRepository.existsById(id)) {
+            throw new RuntimeException("企业信息不存在");
+        }
+        systemConfigService.saveOrUpdate(MAIN_COMPANY_CONFIG_KEY, String.valueOf(id), "首页展示的主公司id");
+        return refreshMainCompany().company;
+    }
+    
+    private synchronized MainCompany refreshMainCompany() {
+        long configuredId = configuredMainCompanyId();
+        Optional<CompanyInfo> company = configuredId > 0 ? companyInfoRepository.findById(configuredId) : Optional.empty();
+        if (!company.isPresent()) {
+            company = companyInfoRepository.findFirstByOrderByIdAsc();
+        }
+        MainCompany refreshed = new MainCompany(configuredId, company.orElse(null));
+        mainCompany = refreshed;
+        refreshCounter.increment();
+        return refreshed;
+    }
+    
+    private long configuredMainCompanyId() {
+        return systemConfigService.getLong(MAIN_COMPANY_CONFIG_KEY, 0L);
+    }
+    
+    /**
+     * 主公司缓存：加载时的配置值和对应的公司
+     */
+    private static final class MainCompany {
+        
+        private final long configuredId;
+        private final CompanyInfo company;
+        
+        private MainCompany(long configuredId, CompanyInfo company) {
+            this.configuredId = configuredId;
+            this.company = company;
+        }
+    }
 }
\ No newline at end of file
@@ -1,41 +1,41 @@
-package com.ningbo.portal.service;
-
-import com.ningbo.portal.entity.AdminUser;
-import com.ningbo.portal.repository.AdminUserRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.stereotype.Service;
-
-import java.util.ArrayList;
-import java.util.List;
-
-@Service
-public class CustomUserDetailsService implements UserDetailsService {
-    
-    @Autowired
-    private AdminUserRepository adminUserRepository;
-    
-    @Override
-    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        AdminUser adminUser = adminUserRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("用户不存在: " + username));
-        
-        List<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + adminUser.getRole().name()));
-        
-        return new User(
-                adminUser.getUsername(),
-                adminUser.getPassword(),
-                adminUser.getEnabled(),
-                true,
-                true,
-                true,
-                authorities
-        );
-    }
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.AdminUser;
+import com.ningbo.portal.repository.AdminUserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class CustomUserDetailsService implements UserDetailsService {
+    
+    @Autowired
+    private AdminUserRepository adminUserRepository;
+    
+    @Override
+    public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        AdminUser adminUser = adminUserRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("用户不存在: " + username));
+        
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + adminUser.getRole().name()));
+        
+        return new User(
+                adminUser.getUsername(),
+                adminUser.getPassword(),
+                adminUser.getEnabled(),
+                true,
+                true,
+                true,
+                authorities
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.AdminUser;
+import com.ningbo.portal.repository.AdminUserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 管理员登录校验
+ * <p>
+ * BCrypt 校验刻意耗费 CPU，放在固定大小的线程池中执行，不占用请求线程；等待队列有界，
+ * 队列已满时直接拒绝 (RejectedExecutionException)，由调用方返回 503，登录风暴不会拖垮其他接口。
+ * 每次登录只查询一次用户。用户不存在时仍与一个固定哈希比较，响应时间不暴露用户名是否存在。
+ * 密码哈希的加密强度低于当前配置 (security.bcrypt.strength 调高后) 时，校验通过后以新强度重新计算并保存。
+ */
+@Service
+public class LoginService {
+    
+    private static final Logger log = LoggerFactory.getLogger(LoginService.class);
+    
+    @Autowired
+    private AdminUserRepository adminUserRepository;
+    
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${security.login.threads:0}")
+    private int threads;
+    
+    @Value("${security.login.queue-capacity:50}")
+    private int queueCapacity;
+    
+    private ThreadPoolExecutor executor;
+    
+    private Counter rejectedCounter;
+    
+    // 用户不存在时参与比较的哈希
+    private String dummyHash;
+    
+    @PostConstruct
+    public void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadIndex = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        rejectedCounter = Counter.builder("security.login.rejected")
+                .description("登录线程池已满被拒绝的登录请求数")
+                .register(meterRegistry);
+        Gauge.builder("security.login.queued", executor, pool -> pool.getQueue().size())
+                .description("等待密码校验的登录请求数")
+                .register(meterRegistry);
+        dummyHash = passwordEncoder.encode("portal-login-placeholder");
+    }
+    
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * 校验用户名和密码，成功时返回用户。用户名或密码错误时以 BadCredentialsException 结束，
+     * 账号被禁用时以 DisabledException 结束；线程池已满时直接抛出 RejectedExecutionException
+     */
+    public CompletableFuture<AdminUser> authenticate(String username, String password) {
+        try {
+            return CompletableFuture.supplyAsync(() -> verify(username, password), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+    }
+    
+    private AdminUser verify(String username, String password) {
+        Optional<AdminUser> userOpt = adminUserRepository.findByUsername(username);
+        String hash = userOpt.map(AdminUser::getPassword).orElse(dummyHash);
+        boolean matches = passwordEncoder.matches(password, hash);
+        if (!userOpt.isPresent() || !matches) {
+            throw new BadCredentialsException("用户名或密码错误");
+        }
+        
+        AdminUser user = userOpt.get();
+        if (!Boolean.TRUE.equals(user.getEnabled())) {
+            throw new DisabledException("账号已被禁用");
+        }
+        if (passwordEncoder.upgradeEncoding(hash)) {
+            rehash(user, password);
+        }
+        return user;
+    }
+    
+    // 重新计算失败不影响本次登录，下次登录时再试
+    private void rehash(AdminUser user, String password) {
+        try {
+            String newHash = passwordEncoder.encode(password);
+            if (adminUserRepository.rehashPassword(user.getId(), user.getPassword(), newHash) > 0) {
+                user.setPassword(newHash);
+                log.info("用户 {} 的密码哈希已按当前加密强度重新计算", user.getUsername());
+            }
+        } catch (Exception e) {
+            log.warn("重新计算用户 {} 的密码哈希失败", user.getUsername(), e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.repository.MessageRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 留言数量计数器
+ * <p>
+ * 启动时用一条聚合查询初始化总数、未读数和未回复数，此后在新增、标记已读、回复和删除时增量维护，
+ * 读取为 O(1)。修改留言的数据库操作与计数更新在读锁内完成，定时校准在写锁内执行聚合查询，
+ * 因此校准结果不会与进行中的修改交错；并发修改同一条留言造成的偏差由校准修正。
+ */
+@Component
+public class MessageCounters {
+    
+    private static final Logger log = LoggerFactory.getLogger(MessageCounters.class);
+    
+    @Autowired
+    private MessageRepository messageRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong unread = new AtomicLong();
+    private final AtomicLong unreplied = new AtomicLong();
+    
+    @PostConstruct
+    public void init() {
+        reconcile();
+        Gauge.builder("message.count", total, AtomicLong::get).tag("status", "total")
+                .description("留言总数").register(meterRegistry);
+        Gauge.builder("message.count", unread, AtomicLong::get).tag("status", "unread")
+                .description("未读留言数").register(meterRegistry);
+        Gauge.builder("message.count", unreplied, AtomicLong::get).tag("status", "unreplied")
+                .description("未回复留言数").register(meterRegistry);
+    }
+    
+    public long getTotal() {
+        return total.get();
+    }
+    
+    public long getUnread() {
+        return unread.get();
+    }
+    
+    public long getUnreplied() {
+        return unreplied.get();
+    }
+    
+    /**
+     * 在读锁内执行修改留言的操作，操作内应同时调用下面的计数方法
+     */
+    public <T> T track(Supplier<T> action) {
+        lock.readLock().lock();
+        try {
+            return action.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 新增一条留言
+    public void added(Message message) {
+        adjust(1L, isUnread(message), isUnreplied(message));
+    }
+    
+    // 删除一条留言 (删除前的状态)
+    public void removed(Message message) {
+        adjust(-1L, -isUnread(message), -isUnreplied(message));
+    }
+    
+    // 批量删除 (删除的条数及其中未读、未回复的条数)
+    public void removed(long count, long unreadCount, long unrepliedCount) {
+        adjust(-count, -unreadCount, -unrepliedCount);
+    }
+    
+    // 批量修改阅读状态，count 为状态实际变化的条数
+    public void readStatusChanged(boolean read, long count) {
+        adjust(0L, read ? -count : count, 0L);
+    }
+    
+    // 留言状态变化 (修改前的已读、已回复状态与修改后的留言)
+    public void changed(Boolean wasRead, Boolean wasReplied, Message after) {
+        adjust(0L, isUnread(after) - (Boolean.FALSE.equals(wasRead) ? 1L : 0L),
+                isUnreplied(after) - (Boolean.FALSE.equals(wasReplied) ? 1L : 0L));
+    }
+    
+    /**
+     * 以数据库为准校准计数
+     */
+    @Scheduled(fixedDelayString = "${message.counters.reconcile-interval:300000}",
+               initialDelayString = "${message.counters.reconcile-interval:300000}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            List<Object[]> rows = messageRepository.countByStatus();
+            Object[] row = rows.isEmpty() ? new Object[3] : rows.get(0);
+            long dbTotal = toLong(row[0]);
+            long dbUnread = toLong(row[1]);
+            long dbUnreplied = toLong(row[2]);
+            
+            long oldTotal = total.getAndSet(dbTotal);
+            long oldUnread = unread.getAndSet(dbUnread);
+            long oldUnreplied = unreplied.getAndSet(dbUnreplied);
+            if (oldTotal != dbTotal || oldUnread != dbUnread || oldUnreplied != dbUnreplied) {
+                log.debug("留言计数已校准: 总数 {} -> {}，未读 {} -> {}，未回复 {} -> {}",
+                        oldTotal, dbTotal, oldUnread, dbUnread, oldUnreplied, dbUnreplied);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    private void adjust(long totalDelta, long unreadDelta, long unrepliedDelta) {
+        if (totalDelta != 0L) {
+            total.addAndGet(totalDelta);
+        }
+        if (unreadDelta != 0L) {
+            unread.addAndGet(unreadDelta);
+        }
+        if (unrepliedDelta != 0L) {
+            unreplied.addAndGet(unrepliedDelta);
+        }
+    }
+    
+    // 与统计查询一致：只有明确为 false 的才计入未读、未回复
+    private static long isUnread(Message message) {
+        return Boolean.FALSE.equals(message.getIsRead()) ? 1L : 0L;
+    }
+    
+    private static long isUnreplied(Message message) {
+        return Boolean.FALSE.equals(message.getIsReplied()) ? 1L : 0L;
+    }
+    
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+}
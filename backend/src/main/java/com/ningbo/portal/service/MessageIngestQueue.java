@@ -0,0 +1,343 @@
+package com.ningbo.portal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ningbo.portal.entity.Message;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 公开留言异步写入队列
+ * <p>
+ * 开启 message.ingest.async 后，留言校验通过即追加写入本地日志文件 (落盘后才算受理)，
+ * 再放入有界队列，由单个写入线程以 JDBC 批量插入数据库。队列清空后截断日志文件；
+ * 启动时重放日志中的留言，进程崩溃不会丢失已受理的留言。重放、重试等可能重复写入的批次
+ * 先按 ticket_id 查询并跳过已写入的留言；插入语句只容忍 ticket_id 重复，其他错误照常进入重试。
+ */
+@Component
+public class MessageIngestQueue {
+    
+    private static final Logger log = LoggerFactory.getLogger(MessageIngestQueue.class);
+    
+    // 重复键时不修改任何列；与 INSERT IGNORE 不同，数据截断、非空约束等错误不会被降级为警告
+    private static final String INSERT_SQL = "INSERT INTO messages " +
+            "(name, email, phone, company, subject, content, is_read, is_replied, is_spam, is_archived, " +
+            "ticket_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE id = id";
+    
+    private static final String EXISTING_TICKETS_SQL = "SELECT ticket_id FROM messages WHERE ticket_id IN (%s)";
+    
+    private static final String GENERATED_IDS_SQL = "SELECT ticket_id, id FROM messages WHERE ticket_id IN (%s)";
+    
+    private static final long RETRY_DELAY_MILLIS = 1000L;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private MessageCounters messageCounters;
+    
+    @Autowired
+    private AdminEventHub adminEventHub;
+    
+    @Value("${message.ingest.async:false}")
+    private boolean enabled;
+    
+    @Value("${message.ingest.queue-capacity:1000}")
+    private int capacity;
+    
+    @Value("${message.ingest.batch-size:100}")
+    private int batchSize;
+    
+    @Value("${message.ingest.spool-file:data/message-spool.log}")
+    private String spoolFile;
+    
+    private BlockingQueue<Message> queue;
+    
+    // 入队与截断日志都在该锁内进行，保证日志内容覆盖队列中的全部留言
+    private final Object spoolLock = new Object();
+    
+    private FileChannel spool;
+    
+    private Thread writer;
+    
+    // 写入线程正在处理的批次，停机时由 stop() 接手
+    private final List<Message> inFlight = new ArrayList<>();
+    
+    private volatile boolean running;
+    
+    private Counter rejectedCounter;
+    
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        Path path = Paths.get(spoolFile);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        replay(path);
+        spool = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        
+        rejectedCounter = Counter.builder("message.ingest.rejected")
+                .description("队列已满被拒绝的留言数")
+                .register(meterRegistry);
+        Gauge.builder("message.ingest.queue.size", queue, BlockingQueue::size)
+                .description("等待写入数据库的留言数")
+                .register(meterRegistry);
+        
+        running = true;
+        writer = new Thread(this::drainLoop, "message-ingest");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 受理一条留言：写入日志并入队，队列已满时返回 false
+     */
+    public boolean offer(Message message) throws IOException {
+        byte[] line = (objectMapper.writeValueAsString(message) + "\n").getBytes(StandardCharsets.UTF_8);
+        synchronized (spoolLock) {
+            if (queue.remainingCapacity() == 0) {
+                rejectedCounter.increment();
+                return false;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(line);
+            while (buffer.hasRemaining()) {
+                spool.write(buffer);
+            }
+            spool.force(false);
+            queue.add(message);
+        }
+        return true;
+    }
+    
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        if (writer.isAlive()) {
+            log.warn("留言写入线程未能及时停止，未写入的留言将在下次启动时重放");
+            return;
+        }
+        
+        // 停机前写入剩余留言，失败时保留日志，下次启动重放；进行中的批次可能已部分写入
+        List<Message> remaining = new ArrayList<>(inFlight);
+        queue.drainTo(remaining);
+        try {
+            if (!remaining.isEmpty()) {
+                insertBatch(remaining, true);
+            }
+            truncateIfIdle();
+        } catch (Exception e) {
+            log.error("停机时写入 {} 条留言失败，将在下次启动时重放", remaining.size(), e);
+        }
+        spool.close();
+    }
+    
+    private void drainLoop() {
+        while (running) {
+            try {
+                Message first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                inFlight.add(first);
+                queue.drainTo(inFlight, batchSize - 1);
+                if (!writeWithRetry(inFlight)) {
+                    return;
+                }
+                inFlight.clear();
+                truncateIfIdle();
+            } catch (InterruptedException e) {
+                // 停机时由 stop() 接手剩余留言
+                return;
+            } catch (IOException e) {
+                log.error("截断留言日志失败", e);
+            }
+        }
+    }
+    
+    // 数据库不可用时持续重试，不丢弃已受理的留言；停机时返回 false
+    private boolean writeWithRetry(List<Message> batch) throws InterruptedException {
+        boolean retry = false;
+        while (running) {
+            try {
+                // 批量插入逐条自动提交，失败前的留言可能已写入
+                insertBatch(batch, retry);
+                return true;
+            } catch (Exception e) {
+                log.error("批量写入 {} 条留言失败，{} ms 后重试", batch.size(), RETRY_DELAY_MILLIS, e);
+                retry = true;
+                Thread.sleep(RETRY_DELAY_MILLIS);
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * 批量插入留言；mayExist 为 true 时先跳过 ticket_id 已存在的留言，计数和事件不会重复
+     */
+    private void insertBatch(List<Message> messages, boolean mayExist) {
+        List<Message> batch = mayExist ? withoutExisting(messages) : messages;
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (Message message : batch) {
+            Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+            args.add(new Object[]{
+                    message.getName(), message.getEmail(), message.getPhone(), message.getCompany(),
+                    message.getSubject(), message.getContent(), message.getIsRead(), message.getIsReplied(),
+                    Boolean.TRUE.equals(message.getIsSpam()), Boolean.TRUE.equals(message.getIsArchived()),
+                    message.getTicketId(), createdAt, createdAt
+            });
+        }
+        List<Message> inserted = messageCounters.track(() -> {
+            int[] results = jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            List<Message> added = new ArrayList<>(results.length);
+            for (int i = 0; i < results.length; i++) {
+                // 0 表示 ticket_id 已存在；驱动按匹配行数返回或未返回行数时按已插入计，偏差由定时校准修正
+                if (results[i] != 0) {
+                    messageCounters.added(batch.get(i));
+                    added.add(batch.get(i));
+                }
+            }
+            return added;
+        });
+        if (inserted.isEmpty()) {
+            return;
+        }
+        assignGeneratedIds(inserted);
+        for (Message message : inserted) {
+            adminEventHub.messageCreated(message);
+        }
+    }
+    
+    /**
+     * 按 ticket_id 回查自增 id，推送的新留言事件可直接按 id 打开详情
+     * <p>
+     * 批量插入带 ON DUPLICATE KEY 时驱动返回的自增键与语句不能一一对应，因此不使用 getGeneratedKeys。
+     * 回查失败不影响已完成的写入，事件中 id 为空，管理端按 ticketId 定位。
+     */
+    private void assignGeneratedIds(List<Message> inserted) {
+        try {
+            List<String> ticketIds = ticketIds(inserted);
+            Map<String, Long> ids = new HashMap<>(ticketIds.size() * 2);
+            jdbcTemplate.query(String.format(GENERATED_IDS_SQL, placeholders(ticketIds.size())),
+                    rs -> { ids.put(rs.getString(1), rs.getLong(2)); }, ticketIds.toArray());
+            for (Message message : inserted) {
+                message.setId(ids.get(message.getTicketId()));
+            }
+        } catch (Exception e) {
+            log.warn("回查 {} 条留言的 id 失败", inserted.size(), e);
+        }
+    }
+    
+    private List<Message> withoutExisting(List<Message> batch) {
+        List<String> ticketIds = ticketIds(batch);
+        Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+                String.format(EXISTING_TICKETS_SQL, placeholders(ticketIds.size())), String.class, ticketIds.toArray()));
+        if (existing.isEmpty()) {
+            return batch;
+        }
+        List<Message> missing = new ArrayList<>(batch.size() - existing.size());
+        for (Message message : batch) {
+            if (!existing.contains(message.getTicketId())) {
+                missing.add(message);
+            }
+        }
+        return missing;
+    }
+    
+    private static List<String> ticketIds(List<Message> messages) {
+        List<String> ticketIds = new ArrayList<>(messages.size());
+        for (Message message : messages) {
+            ticketIds.add(message.getTicketId());
+        }
+        return ticketIds;
+    }
+    
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+    
+    // 队列为空说明日志中的留言都已写入数据库
+    private void truncateIfIdle() throws IOException {
+        synchronized (spoolLock) {
+            if (queue.isEmpty() && spool.size() > 0) {
+                spool.truncate(0);
+            }
+        }
+    }
+    
+    // 重放上次未写入的留言，ticket_id 已存在的跳过
+    private void replay(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        List<Message> pending = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                pending.add(objectMapper.readValue(line, Message.class));
+            } catch (IOException e) {
+                // 崩溃时可能留下写了一半的最后一行
+                log.warn("跳过无法解析的留言日志行: {}", line);
+            }
+        }
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            insertBatch(pending.subList(from, Math.min(from + batchSize, pending.size())), true);
+        }
+        Files.write(path, new byte[0]);
+        if (!pending.isEmpty()) {
+            log.info("已重放留言日志中的 {} 条留言", pending.size());
+        }
+    }
+}
@@ -1,81 +1,228 @@
-package com.ningbo.portal.service;
-
-import com.ningbo.portal.entity.Message;
-import com.ningbo.portal.repository.MessageRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.stereotype.Service;
-
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Optional;
-
-@Service
-public class MessageService {
-    
-    @Autowired
-    private MessageRepository messageRepository;
-    
-    public List<Message> findAll() {
-        return messageRepository.findAll();
-    }
-    
-    public Page<Message> findAllMessages(Pageable pageable) {
-        return messageRepository.findAllByOrderByCreatedAtDesc(pageable);
-    }
-    
-    public Page<Message> findByReadStatus(Boolean isRead, Pageable pageable) {
-        return messageRepository.findByIsReadOrderByCreatedAtDesc(isRead, pageable);
-    }
-    
-    public Page<Message> findByReplyStatus(Boolean isReplied, Pageable pageable) {
-        return messageRepository.findByIsRepliedOrderByCreatedAtDesc(isReplied, pageable);
-    }
-    
-    public Optional<Message> findById(Long id) {
-        return messageRepository.findById(id);
-    }
-    
-    public Message save(Message message) {
-        return messageRepository.save(message);
-    }
-    
-    public void deleteById(Long id) {
-        messageRepository.deleteById(id);
-    }
-    
-    // 标记为已读
-    public Message markAsRead(Long id) {
-        Optional<Message> messageOptional = messageRepository.findById(id);
-        if (messageOptional.isPresent()) {
-            Message message = messageOptional.get();
-            message.setIsRead(true);
-            return messageRepository.save(message);
-        }
-        return null;
-    }
-    
-    // 回复留言
-    public Message replyMessage(Long id, String replyContent) {
-        Optional<Message> messageOptional = messageRepository.findById(id);
-        if (messageOptional.isPresent()) {
-            Message message = messageOptional.get();
-            message.setReplyContent(replyContent);
-            message.setIsReplied(true);
-            message.setReplyTime(LocalDateTime.now());
-            message.setIsRead(true); // 回复时同时标记为已读
-            return messageRepository.save(message);
-        }
-        return null;
-    }
-    
-    // 获取统计信息
-    public long getUnreadCount() {
-        return messageRepository.countUnreadMessages();
-    }
-    
-    public long getUnrepliedCount() {
-        return messageRepository.countUnrepliedMessages();
-    }
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.CursorPage;
+import com.ningbo.portal.dto.MessageFilter;
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.repository.MessageRepository;
+import com.ningbo.portal.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class MessageService {
+    
+    // 批量操作每条 IN 语句包含的 id 数
+    private static final int BULK_CHUNK_SIZE = 500;
+    
+    private static final int MAX_BULK_IDS = 10_000;
+    
+    @Autowired
+    private MessageRepository messageRepository;
+    
+    @Autowired
+    private MessageCounters messageCounters;
+    
+    @Autowired
+    private AdminEventHub adminEventHub;
+    
+    public List<Message> findAll() {
+        return messageRepository.findAll();
+    }
+    
+    public Page<Message> findAllMessages(Pageable pageable) {
+        return messageRepository.findAllByOrderByCreatedAtDesc(pageable);
+    }
+    
+    public Page<Message> findByReadStatus(Boolean isRead, Pageable pageable) {
+        return messageRepository.findByIsReadOrderByCreatedAtDesc(isRead, pageable);
+    }
+    
+    public Page<Message> findByReplyStatus(Boolean isReplied, Pageable pageable) {
+        return messageRepository.findByIsRepliedOrderByCreatedAtDesc(isReplied, pageable);
+    }
+    
+    /**
+     * 收件箱：组合条件 + 游标分页，cursor 为空时返回第一页
+     */
+    public CursorPage<Message> findInbox(MessageFilter filter, String cursor, int size) {
+        KeysetCursor after = cursor == null || cursor.isEmpty() ? null : KeysetCursor.decode(cursor);
+        Slice<Message> slice = messageRepository.findInbox(filter, after, size);
+        List<Message> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            Message last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, slice.getSize(), slice.hasNext(), nextCursor);
+    }
+    
+    public Optional<Message> findById(Long id) {
+        return messageRepository.findById(id);
+    }
+    
+    public Message save(Message message) {
+        return messageCounters.track(() -> {
+            Optional<Message> previous = message.getId() == null
+                    ? Optional.empty() : messageRepository.findById(message.getId());
+            Message saved = messageRepository.save(message);
+            if (previous.isPresent()) {
+                messageCounters.changed(previous.get().getIsRead(), previous.get().getIsReplied(), saved);
+            } else {
+                messageCounters.added(saved);
+                adminEventHub.messageCreated(saved);
+            }
+            return saved;
+        });
+    }
+    
+    public void deleteById(Long id) {
+        messageCounters.track(() -> {
+            Optional<Message> previous = messageRepository.findById(id);
+            messageRepository.deleteById(id);
+            previous.ifPresent(messageCounters::removed);
+            return null;
+        });
+    }
+    
+    // 标记为已读
+    public Message markAsRead(Long id) {
+        return messageCounters.track(() -> {
+            Optional<Message> messageOptional = messageRepository.findById(id);
+            if (messageOptional.isPresent()) {
+                Message message = messageOptional.get();
+                Boolean wasRead = message.getIsRead();
+                message.setIsRead(true);
+                Message saved = messageRepository.save(message);
+                messageCounters.changed(wasRead, message.getIsReplied(), saved);
+                return saved;
+            }
+            return null;
+        });
+    }
+    
+    // 回复留言
+    public Message replyMessage(Long id, String replyContent) {
+        return messageCounters.track(() -> {
+            Optional<Message> messageOptional = messageRepository.findById(id);
+            if (messageOptional.isPresent()) {
+                Message message = messageOptional.get();
+                Boolean wasRead = message.getIsRead();
+                Boolean wasReplied = message.getIsReplied();
+                message.setReplyContent(replyContent);
+                message.setIsReplied(true);
+                message.setReplyTime(LocalDateTime.now());
+                message.setIsRead(true); // 回复时同时标记为已读
+                Message saved = messageRepository.save(message);
+                messageCounters.changed(wasRead, wasReplied, saved);
+                adminEventHub.messageReplied(saved);
+                return saved;
+            }
+            return null;
+        });
+    }
+    
+    // ========== 批量操作：按 id 列表 (分块) 或按条件执行集合语句，返回实际变化的条数 ==========
+    
+    public int bulkMarkRead(List<Long> ids, MessageFilter filter, boolean read) {
+        return messageCounters.track(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            int affected = 0;
+            if (ids != null) {
+                for (List<Long> chunk : chunk(ids)) {
+                    affected += messageRepository.updateReadStatusByIdIn(chunk, read, now);
+                }
+            } else {
+                affected = messageRepository.updateReadStatusByFilter(requireConditions(filter), read, now);
+            }
+            messageCounters.readStatusChanged(read, affected);
+            return affected;
+        });
+    }
+    
+    public int bulkArchive(List<Long> ids, MessageFilter filter) {
+        LocalDateTime now = LocalDateTime.now();
+        if (ids == null) {
+            return messageRepository.archiveByFilter(requireConditions(filter), now);
+        }
+        int affected = 0;
+        for (List<Long> chunk : chunk(ids)) {
+            affected += messageRepository.archiveByIdIn(chunk, now);
+        }
+        return affected;
+    }
+    
+    // 删除前先统计待删除留言的状态，用于同步计数器
+    public int bulkDelete(List<Long> ids, MessageFilter filter) {
+        return messageCounters.track(() -> {
+            int affected = 0;
+            if (ids != null) {
+                for (List<Long> chunk : chunk(ids)) {
+                    List<Object[]> counts = messageRepository.countByStatusAndIdIn(chunk);
+                    int deleted = messageRepository.deleteByIdIn(chunk);
+                    removeFromCounters(counts.isEmpty() ? null : counts.get(0), deleted);
+                    affected += deleted;
+                }
+            } else {
+                MessageFilter conditions = requireConditions(filter);
+                Object[] counts = messageRepository.countByStatusAndFilter(conditions);
+                affected = messageRepository.deleteByFilter(conditions);
+                removeFromCounters(counts, affected);
+            }
+            return affected;
+        });
+    }
+    
+    private void removeFromCounters(Object[] counts, int deleted) {
+        if (counts == null) {
+            return;
+        }
+        // 统计与删除之间被并发删除的留言会造成偏差，由计数器定时校准修正
+        messageCounters.removed(deleted, toLong(counts[1]), toLong(counts[2]));
+    }
+    
+    private static List<List<Long>> chunk(List<Long> ids) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        if (distinct.size() > MAX_BULK_IDS) {
+            throw new IllegalArgumentException("单次批量操作最多 " + MAX_BULK_IDS + " 条留言");
+        }
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(distinct.subList(from, Math.min(from + BULK_CHUNK_SIZE, distinct.size())));
+        }
+        return chunks;
+    }
+    
+    // 按条件的批量操作至少需要一个条件，避免误操作全部留言
+    private static MessageFilter requireConditions(MessageFilter filter) {
+        if (filter == null || !filter.hasConditions()) {
+            throw new IllegalArgumentException("批量操作需指定留言id或筛选条件");
+        }
+        return filter;
+    }
+    
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+    
+    // 获取统计信息 (增量维护的计数，不查询数据库)
+    public long getUnreadCount() {
+        return messageCounters.getUnread();
+    }
+    
+    public long getUnrepliedCount() {
+        return messageCounters.getUnreplied();
+    }
+    
+    public long getTotalCount() {
+        return messageCounters.getTotal();
+    }
 }
\ No newline at end of file
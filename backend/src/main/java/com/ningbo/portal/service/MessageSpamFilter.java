@@ -0,0 +1,216 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.repository.MessageRepository;
+import com.ningbo.portal.util.RotatingBloomFilter;
+import com.ningbo.portal.util.SimHash;
+import com.ningbo.portal.util.TextTokenizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 留言重复与垃圾检测
+ * <p>
+ * 完全相同的 (邮箱, 内容) 由两代轮换的布隆过滤器识别；近似重复按内容和公司计算 64 位 SimHash，
+ * 在最近 RECENT_CAPACITY 条留言的分段索引中查找：指纹分为 4 段各 16 位，汉明距离不超过 3 的两个指纹
+ * 至少有一段完全相同，因此只需比较同段相同的候选。索引为环形缓冲，最旧的指纹按写入顺序淘汰，内存固定。
+ * 检测 (check) 与记入索引 (record) 分开：留言保存或入队成功后才记录，保存失败或队列已满被拒绝的留言
+ * 重新提交时不会被误判为重复。
+ */
+@Component
+public class MessageSpamFilter {
+    
+    private static final Logger log = LoggerFactory.getLogger(MessageSpamFilter.class);
+    
+    public enum Verdict { CLEAN, DUPLICATE, NEAR_DUPLICATE }
+    
+    private static final int RECENT_CAPACITY = 10_000;
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 16;
+    private static final int MAX_DISTANCE = 3;
+    private static final int MAX_CANDIDATES_PER_BAND = 64;
+    
+    // 内容分词过少时不做近似判断，避免 "咨询价格" 之类的短留言互相误判
+    private static final int MIN_CONTENT_TOKENS = 8;
+    
+    private static final int BLOOM_CAPACITY = 50_000;
+    private static final double BLOOM_FALSE_POSITIVE_RATE = 0.001;
+    
+    @Autowired
+    private MessageRepository messageRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // flag：标记为垃圾后照常保存；drop：直接丢弃
+    @Value("${message.spam.action:flag}")
+    private String action;
+    
+    private final long[] recent = new long[RECENT_CAPACITY];
+    private int head;
+    private int size;
+    
+    // 每段一个索引：段值 -> 环形缓冲中的槽位 (按写入顺序)
+    private final List<Map<Integer, ArrayDeque<Integer>>> bandIndex = new ArrayList<>(BANDS);
+    
+    private final RotatingBloomFilter exactFilter = new RotatingBloomFilter(BLOOM_CAPACITY, BLOOM_FALSE_POSITIVE_RATE);
+    
+    public MessageSpamFilter() {
+        for (int band = 0; band < BANDS; band++) {
+            bandIndex.add(new HashMap<>());
+        }
+    }
+    
+    // 启动后用最近的留言预热索引
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        List<Message> latest = new ArrayList<>(messageRepository.findAll(
+                PageRequest.of(0, RECENT_CAPACITY, Sort.by(Sort.Direction.DESC, "id"))).getContent());
+        Collections.reverse(latest);
+        for (Message message : latest) {
+            Features features = extract(message);
+            synchronized (this) {
+                index(features);
+            }
+        }
+        log.info("留言重复检测索引预热完成，共 {} 条", latest.size());
+    }
+    
+    public boolean isDropEnabled() {
+        return "drop".equalsIgnoreCase(action);
+    }
+    
+    /**
+     * 检测一条新留言，不记入索引
+     */
+    public Verdict check(Message message) {
+        Features features = extract(message);
+        Verdict verdict;
+        synchronized (this) {
+            if (exactFilter.mightContain(features.exactHash)) {
+                verdict = Verdict.DUPLICATE;
+            } else if (features.nearDuplicateCheck && hasNearDuplicate(features.fingerprint)) {
+                verdict = Verdict.NEAR_DUPLICATE;
+            } else {
+                verdict = Verdict.CLEAN;
+            }
+        }
+        if (verdict != Verdict.CLEAN) {
+            meterRegistry.counter("message.spam.detected", "verdict", verdict.name().toLowerCase(Locale.ROOT)).increment();
+        }
+        return verdict;
+    }
+    
+    /**
+     * 把已保存 (或已入队) 的留言记入索引，之后的相同或相近留言会被识别
+     */
+    public void record(Message message) {
+        Features features = extract(message);
+        synchronized (this) {
+            index(features);
+        }
+    }
+    
+    // 以下方法需在持有对象锁时调用
+    private boolean hasNearDuplicate(long fingerprint) {
+        for (int band = 0; band < BANDS; band++) {
+            ArrayDeque<Integer> slots = bandIndex.get(band).get(bandValue(fingerprint, band));
+            if (slots == null) {
+                continue;
+            }
+            // 从最新的候选开始比较
+            Iterator<Integer> iterator = slots.descendingIterator();
+            for (int checked = 0; iterator.hasNext() && checked < MAX_CANDIDATES_PER_BAND; checked++) {
+                if (SimHash.distance(recent[iterator.next()], fingerprint) <= MAX_DISTANCE) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    private void index(Features features) {
+        exactFilter.put(features.exactHash);
+        if (!features.nearDuplicateCheck) {
+            return;
+        }
+        if (size == RECENT_CAPACITY) {
+            evict(head);
+        } else {
+            size++;
+        }
+        recent[head] = features.fingerprint;
+        for (int band = 0; band < BANDS; band++) {
+            bandIndex.get(band).computeIfAbsent(bandValue(features.fingerprint, band), key -> new ArrayDeque<>()).addLast(head);
+        }
+        head = (head + 1) % RECENT_CAPACITY;
+    }
+    
+    // 被淘汰的槽位是最旧的指纹，必然位于各段队列的队首
+    private void evict(int slot) {
+        long fingerprint = recent[slot];
+        for (int band = 0; band < BANDS; band++) {
+            Map<Integer, ArrayDeque<Integer>> index = bandIndex.get(band);
+            int value = bandValue(fingerprint, band);
+            ArrayDeque<Integer> slots = index.get(value);
+            if (slots != null) {
+                slots.pollFirst();
+                if (slots.isEmpty()) {
+                    index.remove(value);
+                }
+            }
+        }
+    }
+    
+    private static int bandValue(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & ((1 << BAND_BITS) - 1));
+    }
+    
+    private static Features extract(Message message) {
+        String email = message.getEmail() == null ? "" : message.getEmail().trim().toLowerCase(Locale.ROOT);
+        String content = message.getContent() == null ? "" : message.getContent().trim().replaceAll("\\s+", " ");
+        
+        SimHash simHash = new SimHash();
+        List<String> contentTokens = TextTokenizer.tokenize(content);
+        for (String token : contentTokens) {
+            simHash.add(token, 1);
+        }
+        // 邮箱只参与完全重复判断：群发垃圾通常轮换发件邮箱，计入指纹会拉大近似重复的距离
+        for (String token : TextTokenizer.tokenize(message.getCompany())) {
+            simHash.add("company:" + token, 1);
+        }
+        
+        return new Features(simHash.value(), SimHash.hash64(email + '\n' + content),
+                contentTokens.size() >= MIN_CONTENT_TOKENS);
+    }
+    
+    private static final class Features {
+        
+        private final long fingerprint;
+        private final long exactHash;
+        private final boolean nearDuplicateCheck;
+        
+        private Features(long fingerprint, long exactHash, boolean nearDuplicateCheck) {
+            this.fingerprint = fingerprint;
+            this.exactHash = exactHash;
+            this.nearDuplicateCheck = nearDuplicateCheck;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.News;
+import com.ningbo.portal.repository.NewsRepository;
+import com.ningbo.portal.util.HashedTimerWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 新闻定时发布调度
+ * <p>
+ * 待发布的新闻按 publishedAt 放入内存时间轮，到期后由 NewsService 以条件更新认领并发布。
+ * 数据库是唯一依据：启动时及之后定时从数据库同步待发布列表 (包括其他节点保存的新闻)，
+ * 过期或重复的定时任务在认领时被条件更新过滤，多节点部署下每篇新闻只发布一次。
+ */
+@Component
+public class NewsPublishScheduler {
+    
+    private static final Logger log = LoggerFactory.getLogger(NewsPublishScheduler.class);
+    
+    private static final long TICK_MILLIS = 1000L;
+    private static final int TICKS_PER_WHEEL = 512;
+    
+    @Autowired
+    private NewsRepository newsRepository;
+    
+    // NewsService 依赖本类安排定时任务，这里延迟注入避免循环依赖
+    @Lazy
+    @Autowired
+    private NewsService newsService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // 新闻id -> 已安排的发布时间，避免同步时重复安排
+    private final ConcurrentHashMap<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+    
+    private HashedTimerWheel<PublishTask> wheel;
+    
+    @PostConstruct
+    public void start() {
+        wheel = new HashedTimerWheel<>("news-publish-wheel", TICK_MILLIS, TICKS_PER_WHEEL, this::fire);
+        wheel.start();
+        Gauge.builder("news.publish.scheduled", scheduled, ConcurrentHashMap::size)
+                .description("等待定时发布的新闻数量")
+                .register(meterRegistry);
+    }
+    
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+    }
+    
+    // 安排在 publishAt 发布，发布时间未变化时不重复安排
+    public void schedule(Long newsId, LocalDateTime publishAt) {
+        LocalDateTime previous = scheduled.put(newsId, publishAt);
+        if (publishAt.equals(previous)) {
+            return;
+        }
+        long delayMillis = Duration.between(LocalDateTime.now(), publishAt).toMillis();
+        wheel.schedule(new PublishTask(newsId, publishAt), delayMillis);
+    }
+    
+    // 取消定时发布：时间轮中的任务保留，到期认领时因 is_scheduled 已清除而失败
+    public void cancel(Long newsId) {
+        scheduled.remove(newsId);
+    }
+    
+    /**
+     * 从数据库同步待发布新闻，已到期的立即发布
+     */
+    @Scheduled(fixedDelayString = "${news.publish.resync-interval:60000}")
+    public void resync() {
+        List<News> pending = newsRepository.findByIsScheduledTrueOrderByPublishedAtAsc();
+        Set<Long> pendingIds = new HashSet<>();
+        for (News news : pending) {
+            if (news.getPublishedAt() != null) {
+                pendingIds.add(news.getId());
+                schedule(news.getId(), news.getPublishedAt());
+            }
+        }
+        // 已被其他节点发布或取消的新闻不再跟踪
+        scheduled.keySet().retainAll(pendingIds);
+    }
+    
+    private void fire(PublishTask task) {
+        scheduled.remove(task.newsId, task.publishAt);
+        if (newsService.activateScheduled(task.newsId)) {
+            log.info("定时新闻已发布: id={}, publishedAt={}", task.newsId, task.publishAt);
+        }
+    }
+    
+    private static final class PublishTask {
+        
+        private final Long newsId;
+        private final LocalDateTime publishAt;
+        
+        private PublishTask(Long newsId, LocalDateTime publishAt) {
+            this.newsId = newsId;
+            this.publishAt = publishAt;
+        }
+        
+        @Override
+        public String toString() {
+            return "PublishTask{newsId=" + newsId + ", publishAt=" + publishAt + "}";
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.NewsSummary;
+import com.ningbo.portal.entity.News;
+import com.ningbo.portal.repository.NewsRepository;
+import com.ningbo.portal.util.TextTokenizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 新闻全文检索内存倒排索引
+ * <p>
+ * 对已发布新闻的标题、摘要、正文分词 (见 TextTokenizer) 后建立倒排表，按 BM25 排序。
+ * 索引同时包含汉字二元组和一元组；查询只取二元组，单字查询按一元组匹配。
+ * 启动时全量构建，之后由 NewsService 的保存、删除增量更新，查询不访问数据库。
+ * 摘要中的浏览量是建索引时的快照，不随浏览更新，展示前由 NewsService 按 id 替换为数据库中的值。
+ */
+@Component
+public class NewsSearchIndex {
+    
+    private static final Logger log = LoggerFactory.getLogger(NewsSearchIndex.class);
+    
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    
+    // 字段权重：标题命中比正文更重要
+    private static final int TITLE_WEIGHT = 3;
+    private static final int EXCERPT_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    
+    private static final int BUILD_BATCH_SIZE = 500;
+    
+    @Autowired
+    private NewsRepository newsRepository;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 词 -> (新闻id -> 加权词频)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    
+    private final Map<Long, Document> documents = new HashMap<>();
+    
+    private long totalLength;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0L;
+            
+            Long lastId = 0L;
+            List<News> batch;
+            do {
+                batch = newsRepository.findTop500ByIsPublishedTrueAndIdGreaterThanOrderByIdAsc(lastId);
+                for (News news : batch) {
+                    addDocument(news);
+                    lastId = news.getId();
+                }
+            } while (batch.size() == BUILD_BATCH_SIZE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("新闻检索索引构建完成，共 {} 篇，耗时 {} ms", documents.size(), System.currentTimeMillis() - start);
+    }
+    
+    // 新闻保存后更新索引，未发布的新闻从索引中移除
+    public void index(News news) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(news.getId());
+            if (Boolean.TRUE.equals(news.getIsPublished())) {
+                addDocument(news);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public void remove(Long newsId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(newsId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    public boolean contains(Long newsId) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(newsId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 已索引 (已发布) 新闻的摘要副本，未索引时返回 empty
+    public Optional<NewsSummary> findSummary(Long newsId) {
+        lock.readLock().lock();
+        try {
+            Document document = documents.get(newsId);
+            return document == null ? Optional.empty() : Optional.of(copyOf(document.summary));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * 按 BM25 得分返回前 limit 篇新闻摘要 (返回副本，调用方可修改)
+     */
+    public List<NewsSummary> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(TextTokenizer.tokenize(query));
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        
+        lock.readLock().lock();
+        try {
+            int docCount = documents.size();
+            if (docCount == 0) {
+                return Collections.emptyList();
+            }
+            double avgLength = (double) totalLength / docCount;
+            
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - posting.size() + 0.5) / (posting.size() + 0.5));
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    int tf = entry.getValue();
+                    int length = documents.get(entry.getKey()).length;
+                    double norm = tf + K1 * (1 - B + B * length / avgLength);
+                    scores.merge(entry.getKey(), idf * tf * (K1 + 1) / norm, Double::sum);
+                }
+            }
+            
+            // 小顶堆保留得分最高的 limit 篇
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            
+            List<NewsSummary> results = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                results.add(copyOf(documents.get(top.poll().getKey()).summary));
+            }
+            Collections.reverse(results);
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 以下方法需在持有写锁时调用
+    private void addDocument(News news) {
+        Map<String, Integer> termFreqs = new HashMap<>();
+        accumulate(termFreqs, news.getTitle(), TITLE_WEIGHT);
+        accumulate(termFreqs, news.getExcerpt(), EXCERPT_WEIGHT);
+        accumulate(termFreqs, news.getContent(), CONTENT_WEIGHT);
+        
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFreqs.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(news.getId(), entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(news.getId(), new Document(toSummary(news), termFreqs.keySet(), length));
+        totalLength += length;
+    }
+    
+    private void removeDocument(Long newsId) {
+        Document document = documents.remove(newsId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(newsId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length;
+    }
+    
+    private static void accumulate(Map<String, Integer> termFreqs, String text, int weight) {
+        for (String token : TextTokenizer.tokenizeForIndex(text)) {
+            termFreqs.merge(token, weight, Integer::sum);
+        }
+    }
+    
+    private static NewsSummary toSummary(News news) {
+        return new NewsSummary(news.getId(), news.getTitle(), news.getExcerpt(), news.getCategory(),
+                news.getImageUrl(), news.getAuthor(), news.getReadTime(), news.getIsPublished(),
+                news.getIsScheduled(), news.getViewCount(), news.getPublishedAt(), news.getCreatedAt());
+    }
+    
+    private static NewsSummary copyOf(NewsSummary summary) {
+        return new NewsSummary(summary.getId(), summary.getTitle(), summary.getExcerpt(), summary.getCategory(),
+                summary.getImageUrl(), summary.getAuthor(), summary.getReadTime(), summary.getIsPublished(),
+                summary.getIsScheduled(), summary.getViewCount(), summary.getPublishedAt(), summary.getCreatedAt());
+    }
+    
+    private static final class Document {
+        
+        private final NewsSummary summary;
+        private final Set<String> terms;
+        private final int length;
+        
+        private Document(NewsSummary summary, Set<String> terms, int length) {
+            this.summary = summary;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+}
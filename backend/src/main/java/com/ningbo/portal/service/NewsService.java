@@ -1,64 +1,338 @@
 package com.ningbo.portal.service;
 
+import com.ningbo.portal.dto.CursorPage;
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.dto.NewsSummary;
 import com.ningbo.portal.entity.News;
 import com.ningbo.portal.repository.NewsRepository;
+import com.ningbo.portal.util.KeysetCursor;
+import com.ningbo.portal.util.ListingVersions;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class NewsService {
     
+    private static final int LATEST_NEWS_SIZE = 6;
+    
+    // 最新新闻响应缓存键 (见 ResponseBodyCache)
+    public static final String LATEST_NEWS_CACHE_KEY = "news:latest";
+    
     @Autowired
     private NewsRepository newsRepository;
     
+    @Autowired
+    private NewsViewCounter newsViewCounter;
+    
+    @Autowired
+    private NewsSearchIndex newsSearchIndex;
+    
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
+    @Autowired
+    private NewsPublishScheduler newsPublishScheduler;
+    
+    @Autowired
+    private NewsTrendingRanker newsTrendingRanker;
+    
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    
+    private static final String PUBLISHED_SCOPE = "published";
+    
+    // 公开列表的版本：已发布新闻列表和各分类列表，只在已发布新闻变化时递增
+    private final ListingVersions listingVersions = new ListingVersions("news");
+    
+    // 其他节点修改新闻后同步本节点的检索索引、热度排行、列表版本和响应缓存；定时发布由 NewsPublishScheduler 自行同步
+    @PostConstruct
+    public void subscribeChanges() {
+        cacheInvalidationBus.subscribe(CacheInvalidationBus.NEWS, ids -> {
+            for (Long id : ids) {
+                Optional<NewsSummary> before = newsSearchIndex.findSummary(id);
+                Optional<News> news = newsRepository.findById(id);
+                if (news.isPresent()) {
+                    newsSearchIndex.index(news.get());
+                } else {
+                    newsSearchIndex.remove(id);
+                }
+                if (!news.isPresent() || !Boolean.TRUE.equals(news.get().getIsPublished())) {
+                    newsTrendingRanker.remove(id);
+                }
+                bumpListings(before, news.orElse(null));
+            }
+            responseBodyCache.invalidate("news:");
+        });
+    }
+    
     public List<News> findAll() {
-        return newsRepository.findAll();
+        return mergePendingViews(newsRepository.findAll());
     }
     
-    public Page<News> findPublishedNews(Pageable pageable) {
-        return newsRepository.findByIsPublishedTrueOrderByPublishedAtDesc(pageable);
+    // 管理后台列表，只查询摘要列
+    public List<NewsSummary> findAllSummaries() {
+        return mergeSummaryViews(newsRepository.findAllSummaries());
     }
     
-    public List<News> findLatestNews() {
-        return newsRepository.findTop6ByIsPublishedTrueOrderByPublishedAtDesc();
+    public Page<NewsSummary> findPublishedNews(Pageable pageable) {
+        Page<NewsSummary> page = newsRepository.findPublishedSummaries(pageable);
+        mergeSummaryViews(page.getContent());
+        return page;
     }
     
-    public Page<News> findNewsByCategory(String category, Pageable pageable) {
-        return newsRepository.findByCategoryAndIsPublishedTrueOrderByPublishedAtDesc(category, pageable);
+    public List<NewsSummary> findLatestNews() {
+        return mergeSummaryViews(newsRepository.findLatestSummaries(PageRequest.of(0, LATEST_NEWS_SIZE)));
+    }
+    
+    public Page<NewsSummary> findNewsByCategory(String category, Pageable pageable) {
+        Page<NewsSummary> page = newsRepository.findPublishedSummariesByCategory(category, pageable);
+        mergeSummaryViews(page.getContent());
+        return page;
+    }
+    
+    /**
+     * 游标分页查询已发布新闻，cursor 为空时返回第一页
+     */
+    public CursorPage<NewsSummary> findPublishedFeed(String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<NewsSummary> slice;
+        if (cursor == null || cursor.isEmpty()) {
+            slice = newsRepository.findPublishedFirstSlice(pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            slice = newsRepository.findPublishedBefore(position.getTimestamp(), position.getId(), pageable);
+        }
+        return toCursorPage(slice);
+    }
+    
+    public CursorPage<NewsSummary> findCategoryFeed(String category, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<NewsSummary> slice;
+        if (cursor == null || cursor.isEmpty()) {
+            slice = newsRepository.findPublishedByCategoryFirstSlice(category, pageable);
+        } else {
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            slice = newsRepository.findPublishedByCategoryBefore(category, position.getTimestamp(), position.getId(), pageable);
+        }
+        return toCursorPage(slice);
+    }
+    
+    private CursorPage<NewsSummary> toCursorPage(Slice<NewsSummary> slice) {
+        List<NewsSummary> content = mergeSummaryViews(slice.getContent());
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            NewsSummary last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getPublishedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, slice.getSize(), slice.hasNext(), nextCursor);
+    }
+    
+    /**
+     * 热度排行，顺序来自 NewsTrendingRanker，摘要按id批量查询
+     */
+    public List<NewsSummary> findTrendingNews(int size) {
+        List<Long> ids = newsTrendingRanker.topIds(size);
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, NewsSummary> byId = new HashMap<>();
+        for (NewsSummary summary : newsRepository.findPublishedSummariesByIds(ids)) {
+            byId.put(summary.getId(), summary);
+        }
+        List<NewsSummary> trending = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            NewsSummary summary = byId.get(id);
+            if (summary != null) {
+                trending.add(summary);
+            }
+        }
+        return mergeSummaryViews(trending);
+    }
+    
+    /**
+     * 全文检索，结果来自内存索引
+     * <p>
+     * 索引中的浏览量是建索引时的快照 (写回的浏览量、其他节点的浏览都不会更新索引)，
+     * 按 id 读取数据库中已写回的浏览量，再合并本节点尚未写回的增量。
+     */
+    public List<NewsSummary> search(String query, int size) {
+        List<NewsSummary> results = newsSearchIndex.search(query, size);
+        if (results.isEmpty()) {
+            return results;
+        }
+        List<Long> ids = new ArrayList<>(results.size());
+        for (NewsSummary summary : results) {
+            ids.add(summary.getId());
+        }
+        Map<Long, Long> stored = new HashMap<>();
+        for (Object[] row : newsRepository.findViewCountsByIds(ids)) {
+            stored.put((Long) row[0], (Long) row[1]);
+        }
+        for (NewsSummary summary : results) {
+            summary.setViewCount(stored.getOrDefault(summary.getId(), summary.getViewCount()));
+        }
+        return mergeSummaryViews(results);
     }
     
     public List<String> findDistinctCategories() {
         return newsRepository.findDistinctCategories();
     }
     
+    public Optional<EntityVersion> findVersion(Long id) {
+        return newsRepository.findVersionById(id);
+    }
+    
+    // 已发布新闻列表 (含分页、游标和分类名列表) 的 ETag
+    public String getPublishedListTag() {
+        return listingVersions.etag(PUBLISHED_SCOPE);
+    }
+    
+    public String getCategoryListTag(String category) {
+        return listingVersions.etag(categoryScope(category));
+    }
+    
     public Optional<News> findById(Long id) {
-        return newsRepository.findById(id);
+        return newsRepository.findById(id).map(this::mergePendingViews);
     }
     
     public News save(News news) {
-        if (news.getIsPublished() && news.getPublishedAt() == null) {
-            news.setPublishedAt(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        boolean scheduled = Boolean.TRUE.equals(news.getIsPublished())
+                && news.getPublishedAt() != null && news.getPublishedAt().isAfter(now);
+        if (scheduled) {
+            // 发布时间在未来：先保存为未发布，到时由 NewsPublishScheduler 发布
+            news.setIsPublished(false);
+        } else if (Boolean.TRUE.equals(news.getIsPublished()) && news.getPublishedAt() == null) {
+            news.setPublishedAt(now);
+        }
+        news.setIsScheduled(scheduled);
+        
+        Optional<NewsSummary> before = news.getId() == null ? Optional.empty() : newsSearchIndex.findSummary(news.getId());
+        // 表单提交的实体不带版本号，更新时沿用库中的版本，保持原有的整行覆盖语义
+        if (news.getId() != null) {
+            newsRepository.findVersionById(news.getId()).ifPresent(version -> news.setVersion(version.getVersion()));
+        }
+        News savedNews = newsRepository.save(news);
+        newsSearchIndex.index(savedNews);
+        bumpListings(before, savedNews);
+        responseBodyCache.invalidate("news:");
+        if (scheduled) {
+            newsPublishScheduler.schedule(savedNews.getId(), savedNews.getPublishedAt());
+        } else {
+            newsPublishScheduler.cancel(savedNews.getId());
         }
-        return newsRepository.save(news);
+        if (!Boolean.TRUE.equals(savedNews.getIsPublished())) {
+            newsTrendingRanker.remove(savedNews.getId());
+        }
+        cacheInvalidationBus.publish(CacheInvalidationBus.NEWS, savedNews.getId(),
+                CacheInvalidationBus.versionOf(savedNews.getUpdatedAt()));
+        return savedNews;
     }
     
     public void deleteById(Long id) {
+        Optional<NewsSummary> before = newsSearchIndex.findSummary(id);
         newsRepository.deleteById(id);
+        newsViewCounter.discard(id);
+        newsSearchIndex.remove(id);
+        bumpListings(before, null);
+        newsPublishScheduler.cancel(id);
+        newsTrendingRanker.remove(id);
+        responseBodyCache.invalidate("news:");
+        cacheInvalidationBus.publish(CacheInvalidationBus.NEWS, id, null);
+    }
+    
+    /**
+     * 发布一篇到期的定时新闻，返回本节点是否认领成功
+     * <p>
+     * 无论认领是否成功，只要新闻已发布就刷新本节点的检索索引，并立即重建最新新闻缓存，
+     * 避免发布后的第一批请求同时穿透到数据库。
+     */
+    public boolean activateScheduled(Long id) {
+        boolean claimed = newsRepository.claimScheduled(id, LocalDateTime.now()) == 1;
+        Optional<News> news = newsRepository.findById(id);
+        if (news.isPresent() && Boolean.TRUE.equals(news.get().getIsPublished())) {
+            Optional<NewsSummary> before = newsSearchIndex.findSummary(id);
+            newsSearchIndex.index(news.get());
+            bumpListings(before, news.get());
+            responseBodyCache.invalidate("news:");
+            responseBodyCache.get(LATEST_NEWS_CACHE_KEY, this::findLatestNews);
+        }
+        return claimed;
+    }
+    
+    // 增加访问次数：只累加到内存计数器，由 NewsViewCounter 定时批量写回；已发布的新闻同时计入热度排行
+    public News incrementViewCount(News news) {
+        newsViewCounter.increment(news.getId());
+        if (Boolean.TRUE.equals(news.getIsPublished())) {
+            newsTrendingRanker.record(news.getId());
+        }
+        news.setViewCount(news.getViewCount() + 1);
+        return news;
+    }
+    
+    // 只记录浏览，不加载新闻 (条件请求命中 304 时使用)；是否已发布以检索索引为准
+    public void recordView(Long id) {
+        newsViewCounter.increment(id);
+        if (newsSearchIndex.contains(id)) {
+            newsTrendingRanker.record(id);
+        }
+    }
+    
+    /**
+     * 递增受影响的公开列表版本：修改前 (检索索引中的已发布摘要) 或修改后已发布时，
+     * 递增已发布列表及修改前后所属分类的版本；草稿的修改不影响公开列表
+     */
+    private void bumpListings(Optional<NewsSummary> before, News after) {
+        boolean publishedAfter = after != null && Boolean.TRUE.equals(after.getIsPublished());
+        if (!before.isPresent() && !publishedAfter) {
+            return;
+        }
+        listingVersions.bump(PUBLISHED_SCOPE);
+        before.ifPresent(summary -> listingVersions.bump(categoryScope(summary.getCategory())));
+        if (publishedAfter) {
+            listingVersions.bump(categoryScope(after.getCategory()));
+        }
+    }
+    
+    private static String categoryScope(String category) {
+        return "category:" + category;
+    }
+    
+    // 把尚未写回的浏览量合并到实体上 (view_count 列不随实体更新，修改实体字段不会写库)
+    private News mergePendingViews(News news) {
+        long delta = newsViewCounter.getPendingDelta(news.getId());
+        if (delta != 0L) {
+            long persisted = news.getViewCount() == null ? 0L : news.getViewCount();
+            news.setViewCount(persisted + delta);
+        }
+        return news;
+    }
+    
+    private List<News> mergePendingViews(List<News> newsList) {
+        newsList.forEach(this::mergePendingViews);
+        return newsList;
     }
     
-    public News incrementViewCount(Long id) {
-        Optional<News> newsOptional = newsRepository.findById(id);
-        if (newsOptional.isPresent()) {
-            News news = newsOptional.get();
-            news.setViewCount(news.getViewCount() + 1);
-            return newsRepository.save(news);
+    private List<NewsSummary> mergeSummaryViews(List<NewsSummary> summaries) {
+        for (NewsSummary summary : summaries) {
+            long delta = newsViewCounter.getPendingDelta(summary.getId());
+            if (delta != 0L) {
+                long persisted = summary.getViewCount() == null ? 0L : summary.getViewCount();
+                summary.setViewCount(persisted + delta);
+            }
         }
-        return null;
+        return summaries;
     }
 }
\ No newline at end of file
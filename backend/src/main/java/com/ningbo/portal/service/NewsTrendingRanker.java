@@ -0,0 +1,283 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.NewsTrendingScore;
+import com.ningbo.portal.repository.NewsTrendingScoreRepository;
+import com.ningbo.portal.util.EntityTags;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 新闻热度排行
+ * <p>
+ * 采用前向衰减：一次浏览在时刻 t 贡献 exp(λ(t - L)) 的权重，L 为基准时刻，
+ * 得分随时间按半衰期指数衰减，而各新闻的相对顺序只随浏览变化，
+ * 因此只需在浏览时维护一个大小为 TOP_K 的有序数组，读取时直接返回其快照。
+ * 检查点任务把权重换算回当前得分并重置基准时刻，同时写入数据库，重启后恢复排行。
+ * 多个节点共用检查点表：写入时先把表中已有得分衰减到本次的检查点时刻，再与本节点得分取较大值，
+ * 不会覆盖浏览量更多的节点写入的得分；只清理衰减后低于 MIN_SCORE 的行，不清理其他节点的得分。
+ */
+@Component
+public class NewsTrendingRanker {
+    
+    private static final Logger log = LoggerFactory.getLogger(NewsTrendingRanker.class);
+    
+    public static final int TOP_K = 20;
+    
+    // 衰减到该得分以下的新闻不再跟踪
+    private static final double MIN_SCORE = 0.01;
+    
+    // MySQL 按从左到右的顺序赋值，计算 score 时 scored_at 仍是表中原有的时刻
+    private static final String UPSERT_SQL = "INSERT INTO news_trending_scores (news_id, score, scored_at) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "score = GREATEST(score * EXP(? * TIMESTAMPDIFF(SECOND, scored_at, VALUES(scored_at))), VALUES(score)), " +
+            "scored_at = VALUES(scored_at)";
+    
+    private static final String PRUNE_SQL = "DELETE FROM news_trending_scores " +
+            "WHERE score * EXP(? * TIMESTAMPDIFF(SECOND, scored_at, ?)) < ?";
+    
+    private static final String DELETE_SQL = "DELETE FROM news_trending_scores WHERE news_id = ?";
+    
+    @Autowired
+    private NewsTrendingScoreRepository scoreRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${news.trending.half-life:21600000}")
+    private long halfLifeMillis;
+    
+    // 浏览时持有读锁，重置基准时刻时持有写锁
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // 新闻id -> 相对基准时刻的权重
+    private final ConcurrentHashMap<Long, Double> weights = new ConcurrentHashMap<>();
+    
+    private long landmarkMillis = System.currentTimeMillis();
+    
+    private double lambda;
+    
+    // 以下三个字段由 top 数组的锁保护，按权重降序
+    private final Entry[] top = new Entry[TOP_K];
+    private int topSize;
+    private volatile double threshold;
+    
+    // 供读取的排行快照
+    private volatile List<Long> ranking = Collections.emptyList();
+    
+    @PostConstruct
+    public void init() {
+        lambda = Math.log(2) / halfLifeMillis;
+        Gauge.builder("news.trending.tracked", weights, ConcurrentHashMap::size)
+                .description("热度排行跟踪的新闻数量")
+                .register(meterRegistry);
+    }
+    
+    // 启动后从检查点恢复得分
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        List<NewsTrendingScore> scores = scoreRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            for (NewsTrendingScore score : scores) {
+                long scoredAt = EntityTags.toEpochMillis(score.getScoredAt());
+                double weight = score.getScore() * Math.exp(lambda * (scoredAt - landmarkMillis));
+                weights.merge(score.getNewsId(), weight, Double::sum);
+            }
+            rebuildTop();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("新闻热度排行已从检查点恢复，共 {} 篇", scores.size());
+    }
+    
+    // 记录一次浏览
+    public void record(Long newsId) {
+        lock.readLock().lock();
+        try {
+            double weight = Math.exp(lambda * (System.currentTimeMillis() - landmarkMillis));
+            double total = weights.merge(newsId, weight, Double::sum);
+            // 已在排行中的新闻权重不低于门槛，因此只需与门槛比较
+            if (total > threshold) {
+                offer(newsId, total);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // 新闻删除或下线后移出排行，并删除检查点中的得分，避免其他节点重启时恢复
+    public void remove(Long newsId) {
+        lock.writeLock().lock();
+        try {
+            if (weights.remove(newsId) != null) {
+                rebuildTop();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            jdbcTemplate.update(DELETE_SQL, newsId);
+        } catch (Exception e) {
+            log.error("删除新闻热度检查点失败: {}", newsId, e);
+        }
+    }
+    
+    /**
+     * 热度最高的前 limit 篇新闻id，按热度降序
+     */
+    public List<Long> topIds(int limit) {
+        List<Long> current = ranking;
+        return current.size() <= limit ? current : current.subList(0, limit);
+    }
+    
+    /**
+     * 把权重换算为当前得分并重置基准时刻，淘汰得分过低的新闻，然后写入检查点
+     */
+    @Scheduled(fixedDelayString = "${news.trending.checkpoint-interval:300000}",
+               initialDelayString = "${news.trending.checkpoint-interval:300000}")
+    public void checkpoint() {
+        Timestamp scoredAt;
+        List<Object[]> batch = new ArrayList<>();
+        lock.writeLock().lock();
+        try {
+            long now = System.currentTimeMillis();
+            double factor = Math.exp(-lambda * (now - landmarkMillis));
+            Iterator<Map.Entry<Long, Double>> iterator = weights.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Double> entry = iterator.next();
+                double score = entry.getValue() * factor;
+                if (score < MIN_SCORE) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(score);
+                }
+            }
+            landmarkMillis = now;
+            rebuildTop();
+            scoredAt = new Timestamp(now);
+            weights.forEach((newsId, score) -> batch.add(new Object[]{newsId, score, scoredAt, -lambdaPerSecond()}));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        
+        try {
+            if (!batch.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+            }
+            jdbcTemplate.update(PRUNE_SQL, -lambdaPerSecond(), scoredAt, MIN_SCORE);
+        } catch (Exception e) {
+            log.error("新闻热度检查点写入失败", e);
+        }
+    }
+    
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+    
+    // 衰减系数换算为每秒
+    private double lambdaPerSecond() {
+        return lambda * 1000;
+    }
+    
+    private void offer(Long newsId, double weight) {
+        synchronized (top) {
+            int index = indexOf(newsId);
+            if (index >= 0) {
+                // 并发累加时较小的结果可能后到达，只保留较大值
+                if (weight <= top[index].weight) {
+                    return;
+                }
+                top[index] = new Entry(newsId, weight);
+            } else if (topSize < TOP_K) {
+                index = topSize++;
+                top[index] = new Entry(newsId, weight);
+            } else if (weight > top[TOP_K - 1].weight) {
+                index = TOP_K - 1;
+                top[index] = new Entry(newsId, weight);
+            } else {
+                return;
+            }
+            // 权重只会增加，向前插入即可保持降序
+            while (index > 0 && top[index].weight > top[index - 1].weight) {
+                Entry swap = top[index];
+                top[index] = top[index - 1];
+                top[index - 1] = swap;
+                index--;
+            }
+            publishTop();
+        }
+    }
+    
+    // 需在持有写锁时调用
+    private void rebuildTop() {
+        synchronized (top) {
+            Entry[] all = new Entry[weights.size()];
+            int count = 0;
+            for (Map.Entry<Long, Double> entry : weights.entrySet()) {
+                if (count == all.length) {
+                    break;
+                }
+                all[count++] = new Entry(entry.getKey(), entry.getValue());
+            }
+            Arrays.sort(all, 0, count, (a, b) -> Double.compare(b.weight, a.weight));
+            Arrays.fill(top, null);
+            topSize = Math.min(count, TOP_K);
+            System.arraycopy(all, 0, top, 0, topSize);
+            publishTop();
+        }
+    }
+    
+    private int indexOf(Long newsId) {
+        for (int i = 0; i < topSize; i++) {
+            if (top[i].newsId.equals(newsId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private void publishTop() {
+        List<Long> ids = new ArrayList<>(topSize);
+        for (int i = 0; i < topSize; i++) {
+            ids.add(top[i].newsId);
+        }
+        ranking = Collections.unmodifiableList(ids);
+        threshold = topSize < TOP_K ? 0.0 : top[TOP_K - 1].weight;
+    }
+    
+    private static final class Entry {
+        
+        private final Long newsId;
+        private final double weight;
+        
+        private Entry(Long newsId, double weight) {
+            this.newsId = newsId;
+            this.weight = weight;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.ningbo.portal.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 新闻浏览量写回缓冲
+ * <p>
+ * 每篇新闻对应一个 LongAdder 累加器 (内部分段)，浏览时只做无锁累加；
+ * 定时任务把增量批量写回数据库 (view_count = view_count + ?)，停机时再写回一次。
+ * 写回时取出并移除累加器，只有仍在浏览的新闻占用内存；移除前已取得累加器的并发浏览
+ * 在下次写回时补上。写回不改变 updated_at (该列为 ON UPDATE CURRENT_TIMESTAMP)。
+ */
+@Component
+public class NewsViewCounter {
+    
+    private static final Logger log = LoggerFactory.getLogger(NewsViewCounter.class);
+    
+    private static final String FLUSH_SQL = "UPDATE news SET view_count = view_count + ?, updated_at = updated_at WHERE id = ?";
+    
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    
+    // 上次写回时移除的累加器及已写回的数量，仅写回任务访问
+    private List<Drained> drained = new ArrayList<>();
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("news.view_count.pending", this, NewsViewCounter::getPendingTotal)
+                .description("尚未写回数据库的新闻浏览量增量")
+                .register(meterRegistry);
+    }
+    
+    // 记录一次浏览
+    public void increment(Long newsId) {
+        pending.computeIfAbsent(newsId, id -> new LongAdder()).increment();
+    }
+    
+    // 获取尚未写回的增量
+    public long getPendingDelta(Long newsId) {
+        LongAdder adder = pending.get(newsId);
+        return adder == null ? 0L : adder.sum();
+    }
+    
+    // 新闻删除后丢弃其累加器
+    public void discard(Long newsId) {
+        pending.remove(newsId);
+    }
+    
+    public long getPendingTotal() {
+        long total = 0L;
+        for (LongAdder adder : pending.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+    
+    /**
+     * 把累计的增量批量写回数据库，返回本次写回的新闻数量
+     */
+    @Scheduled(fixedDelayString = "${news.view-count.flush-interval:5000}")
+    public synchronized int flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // 上次移除累加器之后仍写入其中的浏览量
+        for (Drained previous : drained) {
+            long late = previous.adder.sum() - previous.counted;
+            if (late != 0L) {
+                deltas.merge(previous.newsId, late, Long::sum);
+            }
+        }
+        List<Drained> removed = new ArrayList<>();
+        for (Long newsId : pending.keySet()) {
+            LongAdder adder = pending.remove(newsId);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sum();
+            removed.add(new Drained(newsId, adder, delta));
+            if (delta != 0L) {
+                deltas.merge(newsId, delta, Long::sum);
+            }
+        }
+        drained = removed;
+        
+        List<Object[]> batch = new ArrayList<>();
+        deltas.forEach((newsId, delta) -> batch.add(new Object[]{delta, newsId}));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+    
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        } catch (Exception e) {
+            // 写回失败时把增量放回，等待下次写回
+            for (Object[] args : batch) {
+                pending.computeIfAbsent((Long) args[1], id -> new LongAdder()).add((Long) args[0]);
+            }
+            log.error("新闻浏览量写回失败，{} 条增量将在下次重试", batch.size(), e);
+            return 0;
+        }
+        // 缓存的新闻列表带有浏览量，写回后失效
+        responseBodyCache.invalidate("news:");
+        return batch.size();
+    }
+    
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+    
+    private static final class Drained {
+        
+        private final Long newsId;
+        private final LongAdder adder;
+        private final long counted;
+        
+        private Drained(Long newsId, LongAdder adder, long counted) {
+            this.newsId = newsId;
+            this.adder = adder;
+            this.counted = counted;
+        }
+    }
+}
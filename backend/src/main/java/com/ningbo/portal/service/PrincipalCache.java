@@ -0,0 +1,105 @@
+package com.ningbo.portal.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 已认证用户信息缓存
+ * <p>
+ * JWT 过滤器按用户名读取 UserDetails，命中时不再查询数据库。条目在 TTL 后过期，
+ * 本节点修改、禁用或删除用户时立即失效，其他节点最迟在一个 TTL 后生效。
+ * 条目数达到上限时先清理过期条目，仍满则整体清空。
+ */
+@Component
+public class PrincipalCache {
+    
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    @Value("${security.principal-cache.ttl:60000}")
+    private long ttlMillis;
+    
+    @Value("${security.principal-cache.max-size:1000}")
+    private int maxSize;
+    
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    
+    // 每次失效递增；加载期间发生失效时不缓存加载结果，避免写回旧数据
+    private final AtomicLong generation = new AtomicLong();
+    
+    private Counter hitCounter;
+    private Counter missCounter;
+    
+    @PostConstruct
+    public void registerMetrics() {
+        hitCounter = Counter.builder("security.principal_cache.requests").tag("result", "hit")
+                .description("用户信息缓存命中次数").register(meterRegistry);
+        missCounter = Counter.builder("security.principal_cache.requests").tag("result", "miss")
+                .description("用户信息缓存未命中次数").register(meterRegistry);
+        Gauge.builder("security.principal_cache.size", entries, ConcurrentHashMap::size)
+                .description("用户信息缓存条目数").register(meterRegistry);
+    }
+    
+    /**
+     * 获取用户信息，未命中或已过期时从数据库加载；用户不存在时抛出 UsernameNotFoundException
+     */
+    public UserDetails get(String username) throws UsernameNotFoundException {
+        long now = System.currentTimeMillis();
+        Entry cached = entries.get(username);
+        if (cached != null && cached.expiresAt > now) {
+            hitCounter.increment();
+            return cached.userDetails;
+        }
+        missCounter.increment();
+        
+        long loadGeneration = generation.get();
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (entries.size() >= maxSize) {
+            entries.values().removeIf(entry -> entry.expiresAt <= now);
+            if (entries.size() >= maxSize) {
+                entries.clear();
+            }
+        }
+        entries.put(username, new Entry(userDetails, now + ttlMillis));
+        if (generation.get() != loadGeneration) {
+            entries.remove(username);
+        }
+        return userDetails;
+    }
+    
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        if (username != null) {
+            entries.remove(username);
+        }
+    }
+    
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+    
+    private static final class Entry {
+        
+        private final UserDetails userDetails;
+        private final long expiresAt;
+        
+        private Entry(UserDetails userDetails, long expiresAt) {
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
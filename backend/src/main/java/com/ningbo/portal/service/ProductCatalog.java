@@ -0,0 +1,148 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.CollectionVersion;
+import com.ningbo.portal.entity.Product;
+import com.ningbo.portal.repository.ProductRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 产品目录快照
+ * <p>
+ * 启用产品、分类列表和按分类分组的产品在一次查询后构建成不可变快照，
+ * 公开接口只读快照；产品写入后整体重建并原子替换 (copy-on-write)。
+ */
+@Component
+public class ProductCatalog {
+    
+    @Autowired
+    private ProductRepository productRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private volatile Snapshot snapshot;
+    
+    private Timer buildTimer;
+    
+    @PostConstruct
+    public void registerMetrics() {
+        buildTimer = Timer.builder("product.catalog.build")
+                .description("产品目录快照构建耗时")
+                .register(meterRegistry);
+        Gauge.builder("product.catalog.version", this, catalog -> catalog.current().getVersion())
+                .description("产品目录快照版本")
+                .register(meterRegistry);
+    }
+    
+    // 启动完成 (含数据初始化) 后预先构建快照
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+    
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = build(0L);
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+    
+    // 产品数据变更后重建快照
+    public synchronized void refresh() {
+        Snapshot previous = snapshot;
+        snapshot = build(previous == null ? 0L : previous.getVersion());
+    }
+    
+    private Snapshot build(long previousVersion) {
+        return buildTimer.record(() -> {
+            List<Product> active = productRepository.findByIsActiveTrueOrderBySortOrder();
+    
+            Map<String, List<Product>> grouped = new LinkedHashMap<>();
+            LocalDateTime lastModified = null;
+            long digest = 1L;
+            for (Product product : active) {
+                digest = 31 * (31 * digest + product.getId()) + (product.getVersion() == null ? 0L : product.getVersion());
+                if (product.getUpdatedAt() != null
+                        && (lastModified == null || product.getUpdatedAt().isAfter(lastModified))) {
+                    lastModified = product.getUpdatedAt();
+                }
+                if (product.getCategory() != null) {
+                    grouped.computeIfAbsent(product.getCategory(), key -> new ArrayList<>()).add(product);
+                }
+            }
+            Map<String, List<Product>> byCategory = new LinkedHashMap<>();
+            grouped.forEach((category, products) -> byCategory.put(category, Collections.unmodifiableList(products)));
+    
+            return new Snapshot(
+                    previousVersion + 1,
+                    new CollectionVersion(active.size(), digest, lastModified),
+                    Collections.unmodifiableList(new ArrayList<>(active)),
+                    Collections.unmodifiableMap(byCategory),
+                    Collections.unmodifiableList(new ArrayList<>(byCategory.keySet()))
+            );
+        });
+    }
+    
+    /**
+     * 不可变目录快照
+     */
+    public static final class Snapshot {
+    
+        private final long version;
+        private final CollectionVersion contentVersion;
+        private final List<Product> activeProducts;
+        private final Map<String, List<Product>> productsByCategory;
+        private final List<String> categories;
+    
+        private Snapshot(long version, CollectionVersion contentVersion, List<Product> activeProducts,
+                         Map<String, List<Product>> productsByCategory, List<String> categories) {
+            this.version = version;
+            this.contentVersion = contentVersion;
+            this.activeProducts = activeProducts;
+            this.productsByCategory = productsByCategory;
+            this.categories = categories;
+        }
+    
+        public long getVersion() {
+            return version;
+        }
+    
+        // 由快照内容 (各产品的 id 和版本号) 推导的版本，相同数据在不同节点、重启前后得到相同的 ETag
+        public CollectionVersion getContentVersion() {
+            return contentVersion;
+        }
+        
+        public List<Product> getActiveProducts() {
+            return activeProducts;
+        }
+    
+        public List<Product> getProductsByCategory(String category) {
+            return productsByCategory.getOrDefault(category, Collections.emptyList());
+        }
+    
+        public List<String> getCategories() {
+            return categories;
+        }
+    }
+}
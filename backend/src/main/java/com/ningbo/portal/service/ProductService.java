@@ -1,10 +1,14 @@
 package com.ningbo.portal.service;
 
+import com.ningbo.portal.dto.CollectionVersion;
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.dto.ProductCard;
 import com.ningbo.portal.entity.Product;
 import com.ningbo.portal.repository.ProductRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,20 +18,49 @@ public class ProductService {
     @Autowired
     private ProductRepository productRepository;
     
+    @Autowired
+    private ProductCatalog productCatalog;
+    
+    @Autowired
+    private ResponseBodyCache responseBodyCache;
+    
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    
+    // 其他节点修改产品后重建本节点的目录快照
+    @PostConstruct
+    public void subscribeChanges() {
+        cacheInvalidationBus.subscribe(CacheInvalidationBus.PRODUCT, ids -> invalidateCaches());
+    }
+    
     public List<Product> findAll() {
         return productRepository.findAll();
     }
     
+    // 管理后台列表，只查询卡片所需的列
+    public List<ProductCard> findAllCards() {
+        return productRepository.findAllCards();
+    }
+    
+    // 公开查询直接读取内存中的目录快照
     public List<Product> findActiveProducts() {
-        return productRepository.findByIsActiveTrueOrderBySortOrder();
+        return productCatalog.current().getActiveProducts();
     }
     
     public List<Product> findByCategory(String category) {
-        return productRepository.findByCategoryAndIsActiveTrue(category);
+        return productCatalog.current().getProductsByCategory(category);
     }
     
     public List<String> findDistinctCategories() {
-        return productRepository.findDistinctCategories();
+        return productCatalog.current().getCategories();
+    }
+    
+    public CollectionVersion getCatalogVersion() {
+        return productCatalog.current().getContentVersion();
+    }
+    
+    public Optional<EntityVersion> findVersion(Long id) {
+        return productRepository.findVersionById(id);
     }
     
     public Optional<Product> findById(Long id) {
@@ -35,10 +68,25 @@ public class ProductService {
     }
     
     public Product save(Product product) {
-        return productRepository.save(product);
+        // 表单提交的实体不带版本号，更新时沿用库中的版本，保持原有的整行覆盖语义
+        if (product.getId() != null) {
+            productRepository.findVersionById(product.getId()).ifPresent(version -> product.setVersion(version.getVersion()));
+        }
+        Product savedProduct = productRepository.save(product);
+        invalidateCaches();
+        cacheInvalidationBus.publish(CacheInvalidationBus.PRODUCT, savedProduct.getId(),
+                CacheInvalidationBus.versionOf(savedProduct.getUpdatedAt()));
+        return savedProduct;
     }
     
     public void deleteById(Long id) {
         productRepository.deleteById(id);
+        invalidateCaches();
+        cacheInvalidationBus.publish(CacheInvalidationBus.PRODUCT, id, null);
+    }
+    
+    private void invalidateCaches() {
+        productCatalog.refresh();
+        responseBodyCache.invalidate("products:");
     }
 }
\ No newline at end of file
@@ -0,0 +1,270 @@
+package com.ningbo.portal.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按 "路由 + 客户端" 限流的令牌桶
+ * <p>
+ * 每个桶的状态 (上次补充时间、剩余令牌) 打包在一个 long 中，取令牌和补充令牌都通过 CAS 完成，
+ * 不加锁。桶保存在 ConcurrentHashMap 中，闲置到令牌已补满的桶会被定时清理 (与新建的桶等价)；
+ * 桶数量达到上限时先清理已补满的桶，仍不足时淘汰最久未补充令牌 (最久未活动) 的一批桶，内存有界，
+ * 每个客户端始终使用自己的桶。
+ * 各路由的限额来自系统配置 rate_limit.{路由}，格式为 "次数/秒数"，定时刷新。
+ */
+@Component
+public class RateLimiter {
+    
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+    
+    public static final String ROUTE_MESSAGES = "messages";
+    public static final String ROUTE_LOGIN = "login";
+    
+    private static final String CONFIG_PREFIX = "rate_limit.";
+    
+    private static final int MAX_BUCKETS = 100_000;
+    
+    // 达到上限时淘汰到该数量以下
+    private static final int EVICT_TO = MAX_BUCKETS * 9 / 10;
+    
+    private static final Map<String, Limit> DEFAULT_LIMITS = new HashMap<>();
+    
+    static {
+        DEFAULT_LIMITS.put(ROUTE_MESSAGES, new Limit(5, 60_000L));
+        DEFAULT_LIMITS.put(ROUTE_LOGIN, new Limit(10, 60_000L));
+    }
+    
+    @Autowired
+    private SystemConfigService systemConfigService;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    
+    private volatile Map<String, Limit> limits = DEFAULT_LIMITS;
+    
+    // 计时基准，桶内只保存相对时间
+    private final long epochMillis = System.currentTimeMillis();
+    
+    private final Map<String, Counter> allowedCounters = new HashMap<>();
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+    
+    private Counter evictedCounter;
+    
+    @PostConstruct
+    public void registerMetrics() {
+        for (String route : DEFAULT_LIMITS.keySet()) {
+            allowedCounters.put(route, Counter.builder("rate_limit.requests")
+                    .tag("route", route).tag("result", "allowed")
+                    .description("限流放行的请求数").register(meterRegistry));
+            rejectedCounters.put(route, Counter.builder("rate_limit.requests")
+                    .tag("route", route).tag("result", "rejected")
+                    .description("限流拒绝的请求数").register(meterRegistry));
+        }
+        Gauge.builder("rate_limit.buckets", buckets, ConcurrentHashMap::size)
+                .description("限流令牌桶数量")
+                .register(meterRegistry);
+        evictedCounter = Counter.builder("rate_limit.evicted")
+                .description("桶数量达到上限时淘汰的未补满令牌桶数")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * 尝试为 client 在 route 上取一个令牌，未配置限额或限额为 0 (不限流) 的路由总是放行
+     */
+    public boolean tryAcquire(String route, String client) {
+        Limit limit = limits.get(route);
+        if (limit == null || limit.capacity <= 0) {
+            return true;
+        }
+        String key = route + '|' + client;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= MAX_BUCKETS) {
+                evict();
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(now()));
+        }
+        boolean allowed = bucket.tryAcquire(now(), limit);
+        (allowed ? allowedCounters : rejectedCounters).get(route).increment();
+        return allowed;
+    }
+    
+    // 再次获得一个令牌大约需要的秒数，用于 Retry-After
+    public long getRetryAfterSeconds(String route) {
+        Limit limit = limits.get(route);
+        if (limit == null || limit.capacity <= 0) {
+            return 1L;
+        }
+        return Math.max(1L, (limit.periodMillis / limit.capacity + 999L) / 1000L);
+    }
+    
+    /**
+     * 从系统配置刷新限额，格式错误的配置沿用默认值
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.refresh-interval:30000}")
+    public void refreshLimits() {
+        Map<String, Limit> refreshed = new HashMap<>(DEFAULT_LIMITS);
+        for (String route : DEFAULT_LIMITS.keySet()) {
+            String value = systemConfigService.getConfigValue(CONFIG_PREFIX + route);
+            if (value == null || value.trim().isEmpty()) {
+                continue;
+            }
+            try {
+                refreshed.put(route, Limit.parse(value.trim()));
+            } catch (IllegalArgumentException e) {
+                log.warn("限流配置 {}{} 格式错误: {}", CONFIG_PREFIX, route, value);
+            }
+        }
+        limits = refreshed;
+    }
+    
+    // 清理已补满的桶
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:60000}")
+    public void sweep() {
+        long now = now();
+        buckets.entrySet().removeIf(entry -> {
+            String route = entry.getKey().substring(0, entry.getKey().indexOf('|'));
+            Limit limit = limits.get(route);
+            return limit == null || entry.getValue().isFull(now, limit);
+        });
+    }
+    
+    /**
+     * 桶数量达到上限时调用：先清理已补满的桶，仍超过 EVICT_TO 时按上次补充时间淘汰最旧的桶
+     */
+    private synchronized void evict() {
+        if (buckets.size() < MAX_BUCKETS) {
+            return;
+        }
+        sweep();
+        int excess = buckets.size() - EVICT_TO;
+        if (excess <= 0) {
+            return;
+        }
+        long[] times = new long[buckets.size()];
+        int count = 0;
+        for (TokenBucket bucket : buckets.values()) {
+            if (count == times.length) {
+                break;
+            }
+            times[count++] = bucket.lastRefill();
+        }
+        Arrays.sort(times, 0, count);
+        long cutoff = times[Math.min(excess, count) - 1];
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.lastRefill() <= cutoff);
+        evictedCounter.increment(Math.max(0, before - buckets.size()));
+    }
+    
+    private long now() {
+        return System.currentTimeMillis() - epochMillis;
+    }
+    
+    /**
+     * 限额：每 periodMillis 毫秒 capacity 次，桶容量同为 capacity
+     */
+    private static final class Limit {
+        
+        private final int capacity;
+        private final long periodMillis;
+        
+        private Limit(int capacity, long periodMillis) {
+            this.capacity = capacity;
+            this.periodMillis = periodMillis;
+        }
+        
+        private static Limit parse(String value) {
+            String[] parts = value.split("/");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException(value);
+            }
+            try {
+                int capacity = Integer.parseInt(parts[0].trim());
+                long seconds = Long.parseLong(parts[1].trim());
+                if (capacity < 0 || capacity > TokenBucket.MAX_TOKENS || seconds <= 0) {
+                    throw new IllegalArgumentException(value);
+                }
+                return new Limit(capacity, seconds * 1000L);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(value, e);
+            }
+        }
+    }
+    
+    /**
+     * 令牌桶：高 40 位为上次补充时间 (毫秒)，低 24 位为剩余令牌 (千分之一个令牌为单位)
+     */
+    private static final class TokenBucket {
+        
+        private static final int TOKEN_BITS = 24;
+        private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+        private static final long UNIT = 1000L;
+        private static final int MAX_TOKENS = (int) (TOKEN_MASK / UNIT);
+        
+        private final AtomicLong state;
+        
+        private TokenBucket(long now) {
+            // 新桶视为已满，首次取令牌时按限额截断
+            this.state = new AtomicLong(pack(now, TOKEN_MASK));
+        }
+        
+        private boolean tryAcquire(long now, Limit limit) {
+            long capacity = limit.capacity * UNIT;
+            while (true) {
+                long current = state.get();
+                long last = current >>> TOKEN_BITS;
+                long stored = Math.min(current & TOKEN_MASK, capacity);
+                long tokens = refill(stored, now - last, limit);
+                // 未补充到令牌时不推进时间，避免持续请求下永远补不上；桶满时直接推进
+                long refilledAt = tokens == stored && tokens < capacity ? last : now;
+                if (tokens < UNIT) {
+                    if (refilledAt == last || state.compareAndSet(current, pack(refilledAt, tokens))) {
+                        return false;
+                    }
+                    continue;
+                }
+                if (state.compareAndSet(current, pack(refilledAt, tokens - UNIT))) {
+                    return true;
+                }
+            }
+        }
+        
+        private long lastRefill() {
+            return state.get() >>> TOKEN_BITS;
+        }
+        
+        private boolean isFull(long now, Limit limit) {
+            long current = state.get();
+            long capacity = limit.capacity * UNIT;
+            long stored = Math.min(current & TOKEN_MASK, capacity);
+            return refill(stored, now - (current >>> TOKEN_BITS), limit) >= capacity;
+        }
+        
+        private static long refill(long stored, long elapsed, Limit limit) {
+            long capacity = limit.capacity * UNIT;
+            if (elapsed >= limit.periodMillis) {
+                return capacity;
+            }
+            return Math.min(capacity, stored + Math.max(0L, elapsed) * capacity / limit.periodMillis);
+        }
+        
+        private static long pack(long time, long tokens) {
+            return (time << TOKEN_BITS) | (tokens & TOKEN_MASK);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.ningbo.portal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 热点公开接口的响应字节缓存
+ * <p>
+ * 按 "接口:参数" 缓存序列化后的 JSON 字节及其 gzip 压缩版本，命中时直接写入输出流，
+ * 不再经过 Jackson 序列化；对应服务写入数据后按前缀失效。
+ * 两个版本的字节不同，gzip 版本的 ETag 带 "-gz" 后缀。
+ */
+@Component
+public class ResponseBodyCache {
+    
+    private static final int MAX_ENTRIES = 256;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    private final ConcurrentHashMap<String, CachedBody> entries = new ConcurrentHashMap<>();
+    
+    // 每次失效递增，加载期间发生过失效的结果不放入缓存
+    private final AtomicLong generation = new AtomicLong();
+    
+    private Counter hitCounter;
+    private Counter missCounter;
+    
+    @PostConstruct
+    public void registerMetrics() {
+        hitCounter = Counter.builder("response.cache.requests").tag("result", "hit")
+                .description("响应字节缓存命中次数").register(meterRegistry);
+        missCounter = Counter.builder("response.cache.requests").tag("result", "miss")
+                .description("响应字节缓存未命中次数").register(meterRegistry);
+    }
+    
+    /**
+     * 获取缓存的响应，未命中时调用 loader 加载并序列化；loader 返回 null 时不缓存并返回 null
+     */
+    public CachedBody get(String key, Supplier<?> loader) {
+        CachedBody cached = entries.get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+        
+        long loadGeneration = generation.get();
+        Object value = loader.get();
+        if (value == null) {
+            return null;
+        }
+        CachedBody body = encode(value);
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        CachedBody existing = entries.putIfAbsent(key, body);
+        if (existing != null) {
+            return existing;
+        }
+        if (generation.get() != loadGeneration) {
+            // 加载的可能是失效前的数据，本次照常返回，但不留在缓存中
+            entries.remove(key, body);
+        }
+        return body;
+    }
+    
+    // 按键前缀失效，如 "news:" 失效所有新闻相关缓存
+    public void invalidate(String keyPrefix) {
+        generation.incrementAndGet();
+        entries.keySet().removeIf(key -> key.startsWith(keyPrefix));
+    }
+    
+    /**
+     * 把缓存的字节写入响应：客户端接受 gzip 时输出压缩版本，If-None-Match 与所选版本的 ETag 匹配时返回 304
+     */
+    public void write(CachedBody body, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String etag = gzip ? body.gzipEtag : body.etag;
+        response.setHeader(HttpHeaders.ETAG, etag);
+        // CORS 处理可能已写入 Vary: Origin，追加而不是覆盖
+        if (!response.getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT_ENCODING)) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        
+        if (matchesAny(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        
+        byte[] bytes = body.identity;
+        if (gzip) {
+            bytes = body.gzip;
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.setContentLength(bytes.length);
+        response.getOutputStream().write(bytes);
+    }
+    
+    private CachedBody encode(Object value) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(value);
+            
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(identity.length / 2 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(identity);
+            }
+            return new CachedBody(identity, buffer.toByteArray(), etagOf(identity));
+        } catch (IOException e) {
+            throw new UncheckedIOException("响应序列化失败", e);
+        }
+    }
+    
+    /**
+     * 解析 Accept-Encoding，gzip (或 *) 的 q 值大于 0 时接受；明确列出的 gzip 优先于 *
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double wildcardQuality = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] params = part.split(";");
+            String coding = params[0].trim().toLowerCase(Locale.ROOT);
+            double quality = 1.0;
+            for (int i = 1; i < params.length; i++) {
+                String param = params[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        quality = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQuality = gzipQuality == null ? quality : Math.max(gzipQuality, quality);
+            } else if ("*".equals(coding)) {
+                wildcardQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return wildcardQuality != null && wildcardQuality > 0;
+    }
+    
+    // If-None-Match 为 * 或列表中有与 etag 相同的值 (弱比较，忽略 W/ 前缀) 时匹配
+    private static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    // 由内容摘要生成强 ETag，相同内容在不同节点上 ETag 一致
+    private static String etagOf(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder("\"");
+            for (int i = 0; i < 16; i++) {
+                hex.append(String.format("%02x", digest[i]));
+            }
+            return hex.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    /**
+     * 预先编码好的响应体
+     */
+    public static final class CachedBody {
+        
+        private final byte[] identity;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+        
+        private CachedBody(byte[] identity, byte[] gzip, String etag) {
+            this.identity = identity;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+}
@@ -1,73 +1,285 @@
-package com.ningbo.portal.service;
-
-import com.ningbo.portal.entity.SystemConfig;
-import com.ningbo.portal.repository.SystemConfigRepository;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Service;
-
-import java.util.List;
-import java.util.Optional;
-
-@Service
-public class SystemConfigService {
-    
-    @Autowired
-    private SystemConfigRepository systemConfigRepository;
-    
-    public List<SystemConfig> findAll() {
-        return systemConfigRepository.findAll();
-    }
-    
-    public Optional<SystemConfig> findById(Long id) {
-        return systemConfigRepository.findById(id);
-    }
-    
-    public Optional<SystemConfig> findByConfigKey(String configKey) {
-        return systemConfigRepository.findByConfigKey(configKey);
-    }
-    
-    public String getConfigValue(String configKey) {
-        return systemConfigRepository.findByConfigKey(configKey)
-                .map(SystemConfig::getConfigValue)
-                .orElse(null);
-    }
-    
-    public String getConfigValue(String configKey, String defaultValue) {
-        return systemConfigRepository.findByConfigKey(configKey)
-                .map(SystemConfig::getConfigValue)
-                .orElse(defaultValue);
-    }
-    
-    public SystemConfig save(SystemConfig systemConfig) {
-        return systemConfigRepository.save(systemConfig);
-    }
-    
-    public SystemConfig saveOrUpdate(String configKey, String configValue, String description) {
-        Optional<SystemConfig> existingConfig = systemConfigRepository.findByConfigKey(configKey);
-        
-        if (existingConfig.isPresent()) {
-            SystemConfig config = existingConfig.get();
-            config.setConfigValue(configValue);
-            if (description != null) {
-                config.setDescription(description);
-            }
-            return systemConfigRepository.save(config);
-        } else {
-            SystemConfig newConfig = new SystemConfig(configKey, configValue, description);
-            return systemConfigRepository.save(newConfig);
-        }
-    }
-    
-    public void deleteById(Long id) {
-        systemConfigRepository.deleteById(id);
-    }
-    
-    public void deleteByConfigKey(String configKey) {
-        Optional<SystemConfig> config = systemConfigRepository.findByConfigKey(configKey);
-        config.ifPresent(systemConfig -> systemConfigRepository.delete(systemConfig));
-    }
-    
-    public boolean existsByConfigKey(String configKey) {
-        return systemConfigRepository.existsByConfigKey(configKey);
-    }
-}
\ No newline at end of file
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.SystemConfig;
+import com.ningbo.portal.entity.SystemConfigVersion;
+import com.ningbo.portal.repository.SystemConfigRepository;
+import com.ningbo.portal.repository.SystemConfigVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 系统配置
+ * <p>
+ * 读取配置值只访问内存中的不可变快照，不加锁、不查询数据库。本节点修改配置后递增
+ * system_config_version 表中的版本号并立即重建快照；其他节点收到 CacheInvalidationBus 的通知或
+ * 定时轮询发现版本号变化时重新加载。
+ * 类型化读取 (整数、布尔、时长、列表) 的解析结果缓存在快照中，每个快照每个配置只解析一次。
+ */
+@Service
+public class SystemConfigService {
+    
+    private static final Logger log = LoggerFactory.getLogger(SystemConfigService.class);
+    
+    @Autowired
+    private SystemConfigRepository systemConfigRepository;
+    
+    @Autowired
+    private SystemConfigVersionRepository systemConfigVersionRepository;
+    
+    @Autowired
+    private CacheInvalidationBus cacheInvalidationBus;
+    
+    private volatile Snapshot snapshot = new Snapshot(-1L, Collections.emptyMap());
+    
+    @PostConstruct
+    public void init() {
+        if (!systemConfigVersionRepository.existsById(SystemConfigVersion.SINGLETON_ID)) {
+            try {
+                systemConfigVersionRepository.save(new SystemConfigVersion(SystemConfigVersion.SINGLETON_ID, 0L));
+            } catch (DataIntegrityViolationException e) {
+                // 其他节点已创建
+            }
+        }
+        reload();
+        // 收到其他节点的修改通知时立即检查版本，不必等到下次轮询
+        cacheInvalidationBus.subscribe(CacheInvalidationBus.SYSTEM_CONFIG, ids -> refresh());
+    }
+    
+    public List<SystemConfig> findAll() {
+        return systemConfigRepository.findAll();
+    }
+    
+    public Optional<SystemConfig> findById(Long id) {
+        return systemConfigRepository.findById(id);
+    }
+    
+    public Optional<SystemConfig> findByConfigKey(String configKey) {
+        return systemConfigRepository.findByConfigKey(configKey);
+    }
+    
+    public String getConfigValue(String configKey) {
+        return snapshot.values.get(configKey);
+    }
+    
+    public String getConfigValue(String configKey, String defaultValue) {
+        String value = snapshot.values.get(configKey);
+        return value != null ? value : defaultValue;
+    }
+    
+    // 以下类型化读取在配置不存在或格式错误时返回默认值
+    public int getInt(String configKey, int defaultValue) {
+        Integer value = snapshot.parse(configKey, "int", raw -> Integer.valueOf(raw.trim()));
+        return value != null ? value : defaultValue;
+    }
+    
+    public long getLong(String configKey, long defaultValue) {
+        Long value = snapshot.parse(configKey, "long", raw -> Long.valueOf(raw.trim()));
+        return value != null ? value : defaultValue;
+    }
+    
+    // true/false，也接受 1/0、yes/no、on/off
+    public boolean getBoolean(String configKey, boolean defaultValue) {
+        Boolean value = snapshot.parse(configKey, "boolean", SystemConfigService::parseBoolean);
+        return value != null ? value : defaultValue;
+    }
+    
+    // 纯数字为毫秒，也接受 500ms、30s、5m、2h、1d 及 ISO-8601 格式 (PT30S)
+    public Duration getDuration(String configKey, Duration defaultValue) {
+        Duration value = snapshot.parse(configKey, "duration", SystemConfigService::parseDuration);
+        return value != null ? value : defaultValue;
+    }
+    
+    // 逗号分隔，去除空白和空项；返回的列表不可修改
+    public List<String> getList(String configKey) {
+        List<String> value = snapshot.parse(configKey, "list", SystemConfigService::parseList);
+        return value != null ? value : Collections.emptyList();
+    }
+    
+    public SystemConfig save(SystemConfig systemConfig) {
+        SystemConfig saved = systemConfigRepository.save(systemConfig);
+        changed();
+        return saved;
+    }
+    
+    public SystemConfig saveOrUpdate(String configKey, String configValue, String description) {
+        Optional<SystemConfig> existingConfig = systemConfigRepository.findByConfigKey(configKey);
+        
+        SystemConfig saved;
+        if (existingConfig.isPresent()) {
+            SystemConfig config = existingConfig.get();
+            config.setConfigValue(configValue);
+            if (description != null) {
+                config.setDescription(description);
+            }
+            saved = systemConfigRepository.save(config);
+        } else {
+            SystemConfig newConfig = new SystemConfig(configKey, configValue, description);
+            saved = systemConfigRepository.save(newConfig);
+        }
+        changed();
+        return saved;
+    }
+    
+    public void deleteById(Long id) {
+        systemConfigRepository.deleteById(id);
+        changed();
+    }
+    
+    public void deleteByConfigKey(String configKey) {
+        Optional<SystemConfig> config = systemConfigRepository.findByConfigKey(configKey);
+        if (config.isPresent()) {
+            systemConfigRepository.delete(config.get());
+            changed();
+        }
+    }
+    
+    public boolean existsByConfigKey(String configKey) {
+        return systemConfigRepository.existsByConfigKey(configKey);
+    }
+    
+    /**
+     * 版本号变化时重新加载，其他节点的修改在一个轮询间隔内生效
+     */
+    @Scheduled(fixedDelayString = "${system-config.refresh-interval:5000}")
+    public void refresh() {
+        try {
+            Long version = systemConfigVersionRepository.findCurrentVersion();
+            if (version != null && version != snapshot.version) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("检查系统配置版本失败，沿用当前配置", e);
+        }
+    }
+    
+    // 修改已提交后递增版本号，再重建本节点的快照并通知其他节点
+    private void changed() {
+        systemConfigVersionRepository.increment();
+        reload();
+        cacheInvalidationBus.publish(CacheInvalidationBus.SYSTEM_CONFIG, null, snapshot.version);
+    }
+    
+    // 先读版本号再读配置：加载期间发生的修改会使版本号再次变化，下次轮询时重新加载
+    private synchronized void reload() {
+        Long version = systemConfigVersionRepository.findCurrentVersion();
+        long loadedVersion = version != null ? version : 0L;
+        if (loadedVersion < snapshot.version) {
+            return;
+        }
+        Map<String, String> values = new HashMap<>();
+        for (SystemConfig config : systemConfigRepository.findAll()) {
+            if (config.getConfigValue() != null) {
+                values.put(config.getConfigKey(), config.getConfigValue());
+            }
+        }
+        snapshot = new Snapshot(loadedVersion, Collections.unmodifiableMap(values));
+        log.debug("系统配置已加载，版本 {}，共 {} 项", loadedVersion, values.size());
+    }
+    
+    private static Boolean parseBoolean(String raw) {
+        switch (raw.trim().toLowerCase(Locale.ROOT)) {
+            case "true":
+            case "1":
+            case "yes":
+            case "on":
+                return Boolean.TRUE;
+            case "false":
+            case "0":
+            case "no":
+            case "off":
+                return Boolean.FALSE;
+            default:
+                throw new IllegalArgumentException(raw);
+        }
+    }
+    
+    private static Duration parseDuration(String raw) {
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        if (value.startsWith("p")) {
+            try {
+                return Duration.parse(value.toUpperCase(Locale.ROOT));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException(raw, e);
+            }
+        }
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim()));
+        }
+        String amount = value.substring(0, value.length() - 1).trim();
+        switch (value.charAt(value.length() - 1)) {
+            case 's':
+                return Duration.ofSeconds(Long.parseLong(amount));
+            case 'm':
+                return Duration.ofMinutes(Long.parseLong(amount));
+            case 'h':
+                return Duration.ofHours(Long.parseLong(amount));
+            case 'd':
+                return Duration.ofDays(Long.parseLong(amount));
+            default:
+                return Duration.ofMillis(Long.parseLong(value));
+        }
+    }
+    
+    private static List<String> parseList(String raw) {
+        List<String> items = new ArrayList<>();
+        for (String item : raw.split(",")) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+    
+    /**
+     * 某一版本的全部配置及其解析结果
+     */
+    private static final class Snapshot {
+        
+        // 格式错误的配置也缓存，避免每次读取都重新解析
+        private static final Object INVALID = new Object();
+        
+        private final long version;
+        private final Map<String, String> values;
+        private final ConcurrentHashMap<String, Object> parsed = new ConcurrentHashMap<>();
+        
+        private Snapshot(long version, Map<String, String> values) {
+            this.version = version;
+            this.values = values;
+        }
+        
+        // 配置不存在或解析失败时返回 null
+        @SuppressWarnings("unchecked")
+        private <T> T parse(String key, String type, Function<String, T> parser) {
+            String raw = values.get(key);
+            if (raw == null) {
+                return null;
+            }
+            Object value = parsed.computeIfAbsent(type + ':' + key, k -> {
+                try {
+                    return parser.apply(raw);
+                } catch (RuntimeException e) {
+                    log.warn("系统配置 {} 不是有效的 {}: {}", key, type, raw);
+                    return INVALID;
+                }
+            });
+            return value == INVALID ? null : (T) value;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.RevokedToken;
+import com.ningbo.portal.repository.RevokedTokenRepository;
+import com.ningbo.portal.util.HashedTimerWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 访问令牌吊销名单
+ * <p>
+ * 内存中按令牌 id (jti) 保存已吊销且尚未过期的令牌，JWT 过滤器每次请求 O(1) 查询。
+ * 每个条目按令牌的过期时间放入时间轮，到期自动移除 (过期令牌本身已无法通过验证)，
+ * 内存占用只与仍有效的吊销令牌数量有关。吊销记录写入 revoked_tokens 表，
+ * 启动时加载，并定时增量同步其他节点写入的记录；过期记录定时从表中清理。
+ */
+@Component
+public class TokenDenyList {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenDenyList.class);
+    
+    private static final int TICKS_PER_WHEEL = 256;
+    
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
+    
+    // 增量同步时向前多取的时间 (毫秒)，覆盖提交延迟和节点间时钟偏差
+    @Value("${jwt.deny-list.sync-lookback:60000}")
+    private long syncLookbackMillis;
+    
+    // 时间轮刻度 (毫秒)，过期令牌最迟在过期后两个刻度内移出名单
+    @Value("${jwt.deny-list.tick:60000}")
+    private long tickMillis;
+    
+    // 令牌 id -> 令牌过期时间 (毫秒)
+    private final ConcurrentHashMap<String, Long> revoked = new ConcurrentHashMap<>();
+    
+    private HashedTimerWheel<Entry> wheel;
+    
+    // 上次同步开始的时间，仅同步任务访问
+    private LocalDateTime lastSync;
+    
+    @PostConstruct
+    public void start() {
+        wheel = new HashedTimerWheel<>("token-deny-list-wheel", tickMillis, TICKS_PER_WHEEL, this::expire);
+        wheel.start();
+        Gauge.builder("security.token_deny_list.size", revoked, ConcurrentHashMap::size)
+                .description("尚未过期的已吊销令牌数量")
+                .register(meterRegistry);
+        
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            revokedTokenRepository.findByExpiresAtAfter(now).forEach(this::add);
+            lastSync = now;
+        } catch (Exception e) {
+            log.error("加载令牌吊销名单失败，将在下次同步时重试", e);
+        }
+    }
+    
+    @PreDestroy
+    public void stop() {
+        wheel.stop();
+    }
+    
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+    
+    /**
+     * 吊销令牌直到其过期时间；已过期或已吊销的令牌直接忽略
+     */
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis() || !add(tokenId, expiresAtMillis)) {
+            return;
+        }
+        try {
+            revokedTokenRepository.save(new RevokedToken(tokenId, toLocalDateTime(expiresAtMillis)));
+        } catch (DataIntegrityViolationException e) {
+            // 其他节点已写入同一令牌
+            log.debug("令牌已在吊销名单中: {}", tokenId);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.deny-list.sync-interval:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            List<RevokedToken> rows = lastSync == null
+                    ? revokedTokenRepository.findByExpiresAtAfter(now)
+                    : revokedTokenRepository.findByCreatedAtGreaterThanEqual(lastSync.minus(Duration.ofMillis(syncLookbackMillis)));
+            rows.forEach(this::add);
+            lastSync = now;
+        } catch (Exception e) {
+            log.error("同步令牌吊销名单失败", e);
+        }
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.deny-list.prune-interval:3600000}")
+    public void prune() {
+        try {
+            int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.debug("清理过期的吊销记录 {} 条", deleted);
+            }
+        } catch (Exception e) {
+            log.error("清理过期的吊销记录失败", e);
+        }
+    }
+    
+    private void add(RevokedToken row) {
+        add(row.getTokenId(), row.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+    
+    // 新加入名单时返回 true，并安排在令牌过期时移除
+    private boolean add(String tokenId, long expiresAtMillis) {
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0 || revoked.putIfAbsent(tokenId, expiresAtMillis) != null) {
+            return false;
+        }
+        // 时间轮精度为一个刻度，多保留一个刻度，保证不会在令牌过期前移除
+        wheel.schedule(new Entry(tokenId, expiresAtMillis), ttlMillis + tickMillis);
+        return true;
+    }
+    
+    private void expire(Entry entry) {
+        revoked.remove(entry.tokenId, entry.expiresAtMillis);
+    }
+    
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+    
+    private static final class Entry {
+        
+        private final String tokenId;
+        private final long expiresAtMillis;
+        
+        private Entry(String tokenId, long expiresAtMillis) {
+            this.tokenId = tokenId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.repository.AdminUserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 管理员令牌版本表
+ * <p>
+ * 无状态令牌携带签发时的用户id和令牌版本，认证时只与本表比较，不查询数据库。
+ * 本表是 "用户id -> 当前令牌版本" 的不可变快照 (只含已启用的用户)，定时从数据库刷新；
+ * 本节点修改用户时立即更新，其他节点在下次刷新后生效。版本只增不减，
+ * 刷新时保留本地较新的版本，避免刷新读到修改提交前的数据而回退。
+ */
+@Component
+public class TokenVersionRegistry {
+    
+    private static final Logger log = LoggerFactory.getLogger(TokenVersionRegistry.class);
+    
+    @Autowired
+    private AdminUserRepository adminUserRepository;
+    
+    @Value("${jwt.stateless:false}")
+    private boolean enabled;
+    
+    private volatile Map<Long, Long> versions = new HashMap<>();
+    
+    // 本节点的修改，数据库刷新结果反映这些修改之前以此为准；value 为 null 表示已删除
+    private final Map<Long, UserVersion> localChanges = new HashMap<>();
+    
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+    
+    /**
+     * 令牌中的版本是否仍有效：用户存在、已启用且版本未变
+     */
+    public boolean isCurrent(Long userId, Long tokenVersion) {
+        Long current = versions.get(userId);
+        return current != null && current.equals(tokenVersion);
+    }
+    
+    /**
+     * 本节点修改用户后立即更新版本表
+     */
+    public synchronized void update(Long userId, Long tokenVersion, boolean userEnabled) {
+        localChanges.put(userId, new UserVersion(tokenVersion, userEnabled));
+        Map<Long, Long> updated = new HashMap<>(versions);
+        if (userEnabled) {
+            updated.put(userId, tokenVersion);
+        } else {
+            updated.remove(userId);
+        }
+        versions = updated;
+    }
+    
+    public synchronized void remove(Long userId) {
+        localChanges.put(userId, null);
+        Map<Long, Long> updated = new HashMap<>(versions);
+        updated.remove(userId);
+        versions = updated;
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.token-version.refresh-interval:10000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        List<Object[]> rows;
+        try {
+            rows = adminUserRepository.findTokenVersions();
+        } catch (Exception e) {
+            log.error("刷新令牌版本表失败，沿用当前版本", e);
+            return;
+        }
+        Map<Long, UserVersion> loaded = new HashMap<>();
+        for (Object[] row : rows) {
+            loaded.put((Long) row[0], new UserVersion(row[1] == null ? 0L : (Long) row[1], Boolean.TRUE.equals(row[2])));
+        }
+        
+        synchronized (this) {
+            // 数据库已反映的本地修改不再需要保留
+            localChanges.entrySet().removeIf(change -> {
+                UserVersion stored = loaded.get(change.getKey());
+                return change.getValue() == null ? stored == null
+                        : stored != null && stored.version >= change.getValue().version;
+            });
+            Map<Long, UserVersion> effective = new HashMap<>(loaded);
+            for (Map.Entry<Long, UserVersion> change : localChanges.entrySet()) {
+                if (change.getValue() == null) {
+                    effective.remove(change.getKey());
+                } else {
+                    effective.put(change.getKey(), change.getValue());
+                }
+            }
+            Map<Long, Long> refreshed = new HashMap<>();
+            effective.forEach((userId, state) -> {
+                if (state.enabled) {
+                    refreshed.put(userId, state.version);
+                }
+            });
+            versions = refreshed;
+        }
+    }
+    
+    private static final class UserVersion {
+        
+        private final long version;
+        private final boolean enabled;
+        
+        private UserVersion(long version, boolean enabled) {
+            this.version = version;
+            this.enabled = enabled;
+        }
+    }
+}
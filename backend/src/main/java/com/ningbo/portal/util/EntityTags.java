@@ -0,0 +1,35 @@
+package com.ningbo.portal.util;
+
+import com.ningbo.portal.dto.CollectionVersion;
+import com.ningbo.portal.dto.EntityVersion;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 条件请求 (ETag / Last-Modified) 校验值生成工具
+ * <p>
+ * 生成的是强 ETag，配合 WebRequest.checkNotModified 使用。
+ */
+public final class EntityTags {
+    
+    private EntityTags() {}
+    
+    public static String of(String type, EntityVersion version) {
+        return "\"" + type + "-" + version.getId() + "-v" + version.getVersion() + "\"";
+    }
+    
+    public static String ofCollection(String type, CollectionVersion version) {
+        return "\"" + type + "-list-" + version.getCount() + "-" + Long.toHexString(version.getDigest()) + "\"";
+    }
+    
+    /**
+     * 转换为毫秒时间戳，时间为空时返回 -1 (checkNotModified 会忽略 Last-Modified)
+     */
+    public static long toEpochMillis(LocalDateTime time) {
+        if (time == null) {
+            return -1L;
+        }
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,151 @@
+package com.ningbo.portal.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 哈希时间轮
+ * <p>
+ * 时间按固定刻度划分到环形槽位，到期任务落在 (到期刻度 % 槽位数) 的槽中，
+ * 超过一圈的任务记录剩余圈数。添加任务只入无锁队列，由单个工作线程在每个刻度
+ * 转入槽位并触发到期任务，添加和触发均为 O(1)。到期回调在工作线程中执行。
+ */
+public class HashedTimerWheel<T> {
+    
+    private static final Logger log = LoggerFactory.getLogger(HashedTimerWheel.class);
+    
+    private final long tickNanos;
+    private final int mask;
+    private final List<Timeout<T>>[] wheel;
+    private final Queue<Timeout<T>> incoming = new ConcurrentLinkedQueue<>();
+    private final Consumer<T> handler;
+    private final Thread worker;
+    
+    private volatile boolean running;
+    private volatile long startNanos;
+    
+    // 仅工作线程访问
+    private long tick;
+    
+    /**
+     * @param tickMillis 刻度 (毫秒)
+     * @param ticksPerWheel 槽位数，向上取整为 2 的幂
+     * @param handler 到期回调
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimerWheel(String name, long tickMillis, int ticksPerWheel, Consumer<T> handler) {
+        if (tickMillis <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("刻度和槽位数必须为正数");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        if (size <= 0) {
+            size = 1;
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        this.wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.handler = handler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+    
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        startNanos = System.nanoTime();
+        running = true;
+        worker.start();
+    }
+    
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+    
+    /**
+     * 在 delayMillis 毫秒后触发 task，精度为一个刻度
+     */
+    public void schedule(T task, long delayMillis) {
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(delayMillis, 0L));
+        incoming.add(new Timeout<>(task, deadline));
+    }
+    
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                return;
+            }
+            transferIncoming();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+    
+    // 睡眠到下一个刻度结束，被停止时返回 false
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return false;
+                }
+            }
+        }
+    }
+    
+    private void transferIncoming() {
+        Timeout<T> timeout;
+        while ((timeout = incoming.poll()) != null) {
+            long expireTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (expireTick - tick) / wheel.length;
+            wheel[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+    
+    private void expire(List<Timeout<T>> bucket) {
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            try {
+                handler.accept(timeout.task);
+            } catch (Exception e) {
+                log.error("时间轮任务执行失败: {}", timeout.task, e);
+            }
+        }
+    }
+    
+    private static final class Timeout<T> {
+        
+        private final T task;
+        private final long deadline;
+        private long remainingRounds;
+        
+        private Timeout(T task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+    }
+}
@@ -1,71 +1,175 @@
-package com.ningbo.portal.util;
-
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.stereotype.Component;
-
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.Function;
-
-@Component
-public class JwtUtil {
-    
-    @Value("${jwt.secret}")
-    private String secret;
-    
-    @Value("${jwt.expiration}")
-    private Long expiration;
-    
-    // 从token中获取用户名
-    public String getUsernameFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
-    }
-    
-    // 从token中获取过期时间
-    public Date getExpirationDateFromToken(String token) {
-        return getClaimFromToken(token, Claims::getExpiration);
-    }
-    
-    public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = getAllClaimsFromToken(token);
-        return claimsResolver.apply(claims);
-    }
-    
-    // 从token中获取所有信息
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
-    }
-    
-    // 检查token是否过期
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
-    }
-    
-    // 为用户生成token
-    public String generateToken(String username) {
-        Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, username);
-    }
-    
-    // 创建token
-    private String createToken(Map<String, Object> claims, String subject) {
-        return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(SignatureAlgorithm.HS512, secret)
-                .compact();
-    }
-    
-    // 验证token
-    public Boolean validateToken(String token, String username) {
-        final String usernameFromToken = getUsernameFromToken(token);
-        return (usernameFromToken.equals(username) && !isTokenExpired(token));
-    }
+package com.ningbo.portal.util;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Component
+public class JwtUtil {
+    
+    @Value("${jwt.secret}")
+    private String secret;
+    
+    @Value("${jwt.expiration}")
+    private Long expiration;
+    
+    private static final String ROLES_CLAIM = "roles";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String TOKEN_VERSION_CLAIM = "tver";
+    
+    // 无状态模式：认证只依据令牌中的角色和令牌版本，不查询用户表
+    @Value("${jwt.stateless:false}")
+    private boolean stateless;
+    
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+    
+    // 已验证的 token，按签名段索引，条目在 token 过期前有效
+    private final ConcurrentHashMap<String, CachedToken> verifiedTokens = new ConcurrentHashMap<>();
+    
+    /**
+     * 验证签名和有效期并返回 token 内容，只解析一次；同一 token 再次验证时直接命中缓存，不做 HMAC 计算。
+     * token 无效或已过期时抛出 JwtException
+     */
+    public VerifiedToken verify(String token) {
+        long now = System.currentTimeMillis();
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        CachedToken cached = verifiedTokens.get(signature);
+        // 签名段相同不代表 token 相同，需比较完整 token
+        if (cached != null && cached.matches(token) && !cached.verified.isExpired(now)) {
+            return cached.verified;
+        }
+        
+        Claims claims = getAllClaimsFromToken(token);
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new JwtException("token 缺少 sub 或 exp");
+        }
+        VerifiedToken verified = new VerifiedToken(claims.getId(), claims.getSubject(), claims.getExpiration().getTime(),
+                readRoles(claims), readLong(claims, USER_ID_CLAIM), readLong(claims, TOKEN_VERSION_CLAIM));
+        
+        if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+            verifiedTokens.values().removeIf(entry -> entry.verified.isExpired(now));
+            if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+                verifiedTokens.clear();
+            }
+        }
+        verifiedTokens.put(signature, new CachedToken(token, verified));
+        return verified;
+    }
+    
+    // 从token中获取用户名
+    public String getUsernameFromToken(String token) {
+        return getClaimFromToken(token, Claims::getSubject);
+    }
+    
+    // 从token中获取过期时间
+    public Date getExpirationDateFromToken(String token) {
+        return getClaimFromToken(token, Claims::getExpiration);
+    }
+    
+    public <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
+        final Claims claims = getAllClaimsFromToken(token);
+        return claimsResolver.apply(claims);
+    }
+    
+    // 从token中获取所有信息
+    private Claims getAllClaimsFromToken(String token) {
+        return Jwts.parser().setSigningKey(secret).parseClaimsJws(token).getBody();
+    }
+    
+    // 为用户生成token
+    public String generateToken(String username) {
+        return generateToken(username, Collections.emptyList());
+    }
+    
+    // 生成携带角色的token
+    public String generateToken(String username, Collection<String> roles) {
+        return generateToken(username, roles, null, null);
+    }
+    
+    // 生成携带角色、用户id和令牌版本的token，无状态模式据此认证
+    public String generateToken(String username, Collection<String> roles, Long userId, Long tokenVersion) {
+        Map<String, Object> claims = new HashMap<>();
+        if (!roles.isEmpty()) {
+            claims.put(ROLES_CLAIM, new ArrayList<>(roles));
+        }
+        if (userId != null && tokenVersion != null) {
+            claims.put(USER_ID_CLAIM, userId);
+            claims.put(TOKEN_VERSION_CLAIM, tokenVersion);
+        }
+        return createToken(claims, username);
+    }
+    
+    public boolean isStateless() {
+        return stateless;
+    }
+    
+    // 创建token
+    private String createToken(Map<String, Object> claims, String subject) {
+        return Jwts.builder()
+                .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
+                .setSubject(subject)
+                .setIssuedAt(new Date(System.currentTimeMillis()))
+                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+    }
+    
+    // 验证token
+    public Boolean validateToken(String token, String username) {
+        try {
+            return verify(token).getSubject().equals(username);
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    private static List<String> readRoles(Claims claims) {
+        Object value = claims.get(ROLES_CLAIM);
+        if (!(value instanceof Collection)) {
+            return Collections.emptyList();
+        }
+        List<String> roles = new ArrayList<>();
+        for (Object role : (Collection<?>) value) {
+            roles.add(String.valueOf(role));
+        }
+        return roles;
+    }
+    
+    private static Long readLong(Claims claims, String name) {
+        Object value = claims.get(name);
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+    
+    private static final class CachedToken {
+        
+        private final byte[] token;
+        private final VerifiedToken verified;
+        
+        private CachedToken(String token, VerifiedToken verified) {
+            this.token = token.getBytes(StandardCharsets.US_ASCII);
+            this.verified = verified;
+        }
+        
+        // 常量时间比较
+        private boolean matches(String other) {
+            return MessageDigest.isEqual(token, other.getBytes(StandardCharsets.US_ASCII));
+        }
+    }
 }
\ No newline at end of file
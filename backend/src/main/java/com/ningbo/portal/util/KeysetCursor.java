@@ -0,0 +1,54 @@
+package com.ningbo.portal.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 键集分页游标，编码 (时间, id) 二元组
+ * <p>
+ * 游标对客户端不透明：内容为 "ISO时间|id" 的 URL 安全 Base64 编码。
+ */
+public final class KeysetCursor {
+    
+    private final LocalDateTime timestamp;
+    private final Long id;
+    
+    public KeysetCursor(LocalDateTime timestamp, Long id) {
+        this.timestamp = timestamp;
+        this.id = id;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+    
+    public Long getId() {
+        return id;
+    }
+    
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 解析游标，格式不正确时抛出 IllegalArgumentException
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("无效的分页游标");
+            }
+            LocalDateTime timestamp = LocalDateTime.parse(raw.substring(0, separator));
+            Long id = Long.valueOf(raw.substring(separator + 1));
+            return new KeysetCursor(timestamp, id);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // NumberFormatException 是 IllegalArgumentException 的子类
+            throw new IllegalArgumentException("无效的分页游标", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ningbo.portal.util;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 列表接口的集合版本计数器，用于生成列表 ETag
+ * <p>
+ * 每个列表范围 (如已发布新闻、某个分类) 一个计数器，写入影响该范围时递增，校验 ETag 时不查询数据库。
+ * 计数器只在本节点内有效，其他节点的写入由缓存失效总线通知后递增；ETag 中带有实例随机标识，
+ * 不同节点或重启前后生成的 ETag 不会相同，只会多返回一次 200。
+ */
+public final class ListingVersions {
+    
+    private final String type;
+    
+    private final String instance = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    
+    private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    
+    public ListingVersions(String type) {
+        this.type = type;
+    }
+    
+    // 写入提交之后调用
+    public void bump(String scope) {
+        counters.computeIfAbsent(scope, key -> new AtomicLong()).incrementAndGet();
+    }
+    
+    /**
+     * 生成强 ETag，范围名可能包含中文，ETag 中使用其哈希值
+     */
+    public String etag(String scope) {
+        AtomicLong counter = counters.get(scope);
+        long version = counter == null ? 0L : counter.get();
+        return "\"" + type + "-list-" + Integer.toHexString(scope.hashCode()) + "-" + instance + "-" + version + "\"";
+    }
+}
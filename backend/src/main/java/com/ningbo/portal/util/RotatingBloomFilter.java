@@ -0,0 +1,68 @@
+package com.ningbo.portal.util;
+
+import java.util.Arrays;
+
+/**
+ * 两代轮换的布隆过滤器
+ * <p>
+ * 新元素写入当前代，查询同时检查当前代和上一代；当前代写满 capacity 个元素后
+ * 降为上一代，原上一代丢弃。内存固定为两个位数组，只记住最近 capacity 到 2 * capacity 个元素。
+ * 非线程安全，调用方负责同步。
+ */
+public final class RotatingBloomFilter {
+    
+    private final int capacity;
+    private final int bitCount;
+    private final int hashCount;
+    
+    private long[] current;
+    private long[] previous;
+    private int currentSize;
+    
+    /**
+     * @param capacity 每代容纳的元素数
+     * @param falsePositiveRate 每代的期望误判率
+     */
+    public RotatingBloomFilter(int capacity, double falsePositiveRate) {
+        this.capacity = capacity;
+        double bits = -capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.max(64, Math.min(Integer.MAX_VALUE - 63, Math.ceil(bits)));
+        this.hashCount = Math.max(1, (int) Math.round(bits / capacity * Math.log(2)));
+        this.current = new long[(bitCount + 63) >>> 6];
+        this.previous = new long[current.length];
+    }
+    
+    public boolean mightContain(long hash) {
+        return test(current, hash) || test(previous, hash);
+    }
+    
+    public void put(long hash) {
+        if (currentSize >= capacity) {
+            long[] recycled = previous;
+            Arrays.fill(recycled, 0L);
+            previous = current;
+            current = recycled;
+            currentSize = 0;
+        }
+        // 双重哈希：第 i 个位置为 h1 + i * h2
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            current[index >>> 6] |= 1L << index;
+        }
+        currentSize++;
+    }
+    
+    private boolean test(long[] bits, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            int index = ((h1 + i * h2) & Integer.MAX_VALUE) % bitCount;
+            if ((bits[index >>> 6] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
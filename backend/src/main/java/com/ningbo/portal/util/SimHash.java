@@ -0,0 +1,57 @@
+package com.ningbo.portal.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 64 位 SimHash 指纹
+ * <p>
+ * 每个特征哈希为 64 位，按位累加权重 (该位为 1 加权重，为 0 减权重)，最终为正的位取 1。
+ * 内容相近的文本指纹的汉明距离小，可用于近似重复检测。
+ */
+public final class SimHash {
+    
+    private final long[] weights = new long[64];
+    
+    public SimHash add(String feature, int weight) {
+        long hash = hash64(feature);
+        for (int bit = 0; bit < 64; bit++) {
+            if ((hash & (1L << bit)) != 0) {
+                weights[bit] += weight;
+            } else {
+                weights[bit] -= weight;
+            }
+        }
+        return this;
+    }
+    
+    public long value() {
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+    
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+    
+    /**
+     * FNV-1a 64 位哈希，再经 splitmix64 混合使各位分布均匀
+     */
+    public static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+}
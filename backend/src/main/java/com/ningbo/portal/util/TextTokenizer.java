@@ -0,0 +1,97 @@
+package com.ningbo.portal.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 中英文混合文本分词
+ * <p>
+ * 连续的中日韩文字切分为二元组 (bigram)，单个汉字保留为一元组；
+ * 连续的 ASCII 字母数字作为一个单词并转为小写；其余字符作为分隔符。
+ * 建立索引时另外为每个汉字输出一元组 (见 tokenizeForIndex)，单字查询也能命中。
+ */
+public final class TextTokenizer {
+    
+    private static final int MAX_WORD_LENGTH = 32;
+    
+    private TextTokenizer() {}
+    
+    // 查询分词：连续汉字只输出二元组
+    public static List<String> tokenize(String text) {
+        return tokenize(text, false);
+    }
+    
+    // 索引分词：连续汉字输出二元组，并为每个汉字输出一元组
+    public static List<String> tokenizeForIndex(String text) {
+        return tokenize(text, true);
+    }
+    
+    private static List<String> tokenize(String text, boolean unigrams) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjkRun = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                cjkRun.appendCodePoint(codePoint);
+            } else if (codePoint < 128 && Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjkRun, tokens, unigrams);
+                word.append((char) codePoint);
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjkRun, tokens, unigrams);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjk(cjkRun, tokens, unigrams);
+        return tokens;
+    }
+    
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+    
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() > 0) {
+            String token = word.length() > MAX_WORD_LENGTH ? word.substring(0, MAX_WORD_LENGTH) : word.toString();
+            tokens.add(token.toLowerCase(Locale.ROOT));
+            word.setLength(0);
+        }
+    }
+    
+    private static void flushCjk(StringBuilder run, List<String> tokens, boolean unigrams) {
+        int length = run.codePointCount(0, run.length());
+        if (length == 1) {
+            tokens.add(run.toString());
+        } else if (length > 1) {
+            int start = 0;
+            int next = run.offsetByCodePoints(start, 1);
+            while (next < run.length()) {
+                int end = run.offsetByCodePoints(next, 1);
+                if (unigrams) {
+                    tokens.add(run.substring(start, next));
+                }
+                tokens.add(run.substring(start, end));
+                start = next;
+                next = end;
+            }
+            if (unigrams) {
+                tokens.add(run.substring(start));
+            }
+        }
+        run.setLength(0);
+    }
+}
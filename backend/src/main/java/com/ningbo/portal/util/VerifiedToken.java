@@ -0,0 +1,61 @@
+package com.ningbo.portal.util;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 已验证签名和有效期的 JWT，仅保留认证需要的字段
+ */
+public final class VerifiedToken {
+    
+    private final String tokenId;
+    private final String subject;
+    private final long expiresAtMillis;
+    private final List<String> roles;
+    private final Long userId;
+    private final Long tokenVersion;
+    
+    public VerifiedToken(String tokenId, String subject, long expiresAtMillis, List<String> roles, Long userId, Long tokenVersion) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.expiresAtMillis = expiresAtMillis;
+        this.roles = Collections.unmodifiableList(roles);
+        this.userId = userId;
+        this.tokenVersion = tokenVersion;
+    }
+    
+    // 令牌 id (jti)，用于吊销；旧 token 中为 null
+    public String getTokenId() {
+        return tokenId;
+    }
+    
+    public String getSubject() {
+        return subject;
+    }
+    
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+    
+    // 签发时的角色 (如 ROLE_ADMIN)，旧 token 中为空
+    public List<String> getRoles() {
+        return roles;
+    }
+    
+    // 无状态令牌携带的用户id和令牌版本，旧 token 中为 null
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public Long getTokenVersion() {
+        return tokenVersion;
+    }
+    
+    public boolean isStateless() {
+        return userId != null && tokenVersion != null && !roles.isEmpty();
+    }
+    
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
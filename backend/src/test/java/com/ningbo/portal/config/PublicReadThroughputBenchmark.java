@@ -0,0 +1,87 @@
+package com.ningbo.portal.config;
+
+import com.ningbo.portal.PortalApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GET /api/products 在并发下的吞吐量：精简过滤器链与完整过滤器链对比
+ * <p>
+ * 启动完整应用 (内嵌 Tomcat，H2 内存库代替 MySQL)，8 个线程经回环地址并发请求商品列表。
+ * publicReadChain=false 时不注册公开内容的过滤器链，请求与改造前一样经过 JWT、SecurityContext、
+ * 匿名认证和权限判断等过滤器。响应体来自 ResponseBodyCache，两种配置下控制器的开销相同。
+ * <p>
+ * 运行：mvn -P benchmark test-compile exec:exec -Djmh.args="PublicReadThroughputBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class PublicReadThroughputBenchmark {
+    
+    @Param({"true", "false"})
+    private boolean publicReadChain;
+    
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+    
+    @Setup
+    public void setUp() {
+        // 命令行参数优先于 application.properties，用 H2 代替 MySQL 并关闭 SQL 和调试日志
+        context = new SpringApplicationBuilder(PortalApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:throughput;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.ningbo.portal=WARN",
+                "--logging.level.org.springframework.web=WARN",
+                "--security.public-read-chain=" + publicReadChain);
+        String port = context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + port + "/api/products")).GET().build();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public int listProducts() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET /api/products 返回 " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ningbo.portal.config;
+
+import com.ningbo.portal.service.RateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimitFilterTest {
+    
+    private RateLimiter rateLimiter;
+    
+    private RateLimitFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        rateLimiter = mock(RateLimiter.class);
+        when(rateLimiter.tryAcquire(anyString(), anyString())).thenReturn(true);
+        filter = new RateLimitFilter();
+        ReflectionTestUtils.setField(filter, "rateLimiter", rateLimiter);
+        ReflectionTestUtils.setField(filter, "trustedProxyAddresses", Arrays.asList("127.0.0.1", "10.1.0.0/16"));
+        filter.init();
+    }
+    
+    @Test
+    void pathVariantsResolveToTheSameRoute() {
+        for (String uri : Arrays.asList("/api/messages", "/api/messages/", "/api/messages//",
+                "/api/messages;jsessionid=ABC", "/api//messages", "/api/%6Dessages")) {
+            assertEquals(RateLimiter.ROUTE_MESSAGES, filter.resolveRoute(post(uri)), uri);
+        }
+        assertEquals(RateLimiter.ROUTE_LOGIN, filter.resolveRoute(post("/api/auth/login/")));
+    }
+    
+    @Test
+    void trailingSlashIsRateLimited() throws Exception {
+        when(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "203.0.113.5")).thenReturn(false);
+        MockHttpServletRequest request = post("/api/messages/");
+        request.setRemoteAddr("203.0.113.5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        
+        filter.doFilter(request, response, chain);
+        
+        assertEquals(429, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+    
+    @Test
+    void otherRequestsAreNotLimited() throws Exception {
+        assertNull(filter.resolveRoute(post("/api/messages/1/read")));
+        MockHttpServletRequest get = new MockHttpServletRequest("GET", "/api/messages");
+        assertNull(filter.resolveRoute(get));
+        
+        filter.doFilter(get, new MockHttpServletResponse(), new MockFilterChain());
+        verify(rateLimiter, never()).tryAcquire(anyString(), anyString());
+    }
+    
+    @Test
+    void forwardedForIgnoredFromUntrustedPeer() {
+        MockHttpServletRequest request = post("/api/messages");
+        request.setRemoteAddr("203.0.113.5");
+        request.addHeader("X-Forwarded-For", "198.51.100.7");
+        assertEquals("203.0.113.5", filter.clientAddress(request));
+    }
+    
+    @Test
+    void forwardedForSkipsTrustedProxiesFromTheRight() {
+        MockHttpServletRequest request = post("/api/messages");
+        request.setRemoteAddr("127.0.0.1");
+        // 最左侧的地址由客户端填写，不可信
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 198.51.100.7, 10.1.2.3");
+        assertEquals("198.51.100.7", filter.clientAddress(request));
+    }
+    
+    @Test
+    void forwardedForWithOnlyTrustedHopsFallsBackToPeer() {
+        MockHttpServletRequest request = post("/api/messages");
+        request.setRemoteAddr("10.1.0.9");
+        request.addHeader("X-Forwarded-For", "10.1.2.3");
+        assertEquals("10.1.0.9", filter.clientAddress(request));
+    }
+    
+    @Test
+    void hostnameHopIsTreatedAsClient() {
+        MockHttpServletRequest request = post("/api/messages");
+        request.setRemoteAddr("127.0.0.1");
+        request.addHeader("X-Forwarded-For", "evil.example.com");
+        assertEquals("evil.example.com", filter.clientAddress(request));
+    }
+    
+    private static MockHttpServletRequest post(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setRemoteAddr("203.0.113.5");
+        return request;
+    }
+}
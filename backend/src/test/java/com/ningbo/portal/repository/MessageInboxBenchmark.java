@@ -0,0 +1,155 @@
+package com.ningbo.portal.repository;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.ningbo.portal.dto.MessageFilter;
+import com.ningbo.portal.entity.Message;
+import com.ningbo.portal.util.KeysetCursor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 留言收件箱翻页延迟，H2 (MySQL 模式) 预置 1M 条留言
+ * <p>
+ * 表结构和组合索引由实体生成，与线上一致。每分钟一条留言，id 与时间同序；20% 未读，约 5000 个发件邮箱。
+ * 深翻页的游标位于第 90% 条附近，offsetDeepPage 是改造前按 OFFSET 分页取同一页的对照。
+ * H2 在等值条件之后不会利用索引顺序免去排序 (EXPLAIN 没有 index sorted)，unread* 两项在 H2 上要排序全部未读留言，
+ * 只作上限参考；MySQL 对同一查询按 idx_messages_read_inbox 顺序读取，没有 filesort。
+ * <p>
+ * 运行：mvn -P benchmark test-compile exec:exec -Djmh.args="MessageInboxBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms3g", "-Xmx3g"})
+public class MessageInboxBenchmark {
+    
+    private static final int PAGE_SIZE = 20;
+    
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2024, 1, 1, 0, 0);
+    
+    @Param("1000000")
+    private int messages;
+    
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private MessageRepositoryImpl repository;
+    
+    private MessageFilter all;
+    private MessageFilter unread;
+    private MessageFilter sender;
+    private KeysetCursor deepCursor;
+    
+    @Setup
+    public void setUp() {
+        // 没有 Spring Boot 的日志配置时 logback 默认输出 DEBUG，每次查询的日志会计入耗时
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        
+        // H2 默认对参数相同、表未变化的重复查询直接返回上次结果，关闭后每次调用都真正执行查询
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:inbox;MODE=MySQL;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=0", "sa", "");
+        
+        Properties jpaProperties = new Properties();
+        jpaProperties.setProperty("hibernate.hbm2ddl.auto", "create");
+        jpaProperties.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan("com.ningbo.portal.entity");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaProperties(jpaProperties);
+        entityManagerFactory.afterPropertiesSet();
+        
+        new JdbcTemplate(dataSource).update(
+                "INSERT INTO messages (id, name, email, subject, content, is_read, is_replied, is_spam, is_archived,"
+                        + " ticket_id, created_at, updated_at)"
+                        + " SELECT X, CONCAT('访客', X), CONCAT('user', MOD(X, 5000), '@example.com'), '产品咨询',"
+                        + " CONCAT('留言内容 ', X), MOD(X, 5) <> 0, MOD(X, 3) = 0, FALSE, FALSE, CONCAT('T', X),"
+                        + " DATEADD('MINUTE', X, CAST(? AS TIMESTAMP)), DATEADD('MINUTE', X, CAST(? AS TIMESTAMP))"
+                        + " FROM SYSTEM_RANGE(1, ?)",
+                BASE_TIME, BASE_TIME, messages);
+        
+        entityManager = entityManagerFactory.getObject().createEntityManager();
+        repository = new MessageRepositoryImpl();
+        ReflectionTestUtils.setField(repository, "entityManager", entityManager);
+        
+        all = new MessageFilter();
+        unread = new MessageFilter(false, null, null, null, null, null);
+        sender = new MessageFilter(null, null, null, null, null, "user42@example.com");
+        long deepId = messages / 10;
+        deepCursor = new KeysetCursor(BASE_TIME.plusMinutes(deepId), deepId);
+    }
+    
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.destroy();
+    }
+    
+    @Benchmark
+    public Slice<Message> firstPage() {
+        return inbox(all, null);
+    }
+    
+    @Benchmark
+    public Slice<Message> deepPage() {
+        return inbox(all, deepCursor);
+    }
+    
+    @Benchmark
+    public Slice<Message> unreadFirstPage() {
+        return inbox(unread, null);
+    }
+    
+    @Benchmark
+    public Slice<Message> unreadDeepPage() {
+        return inbox(unread, deepCursor);
+    }
+    
+    @Benchmark
+    public Slice<Message> senderDeepPage() {
+        return inbox(sender, deepCursor);
+    }
+    
+    @Benchmark
+    public List<Message> offsetDeepPage() {
+        List<Message> rows = entityManager
+                .createQuery("SELECT m FROM Message m ORDER BY m.createdAt DESC, m.id DESC", Message.class)
+                .setFirstResult(messages - messages / 10)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        entityManager.clear();
+        return rows;
+    }
+    
+    private Slice<Message> inbox(MessageFilter filter, KeysetCursor after) {
+        Slice<Message> page = repository.findInbox(filter, after, PAGE_SIZE);
+        // 与请求级持久化上下文一致，每次查询后清空，避免一级缓存跨调用累积
+        entityManager.clear();
+        return page;
+    }
+}
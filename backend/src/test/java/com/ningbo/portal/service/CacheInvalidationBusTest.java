@@ -0,0 +1,140 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.CacheChangeLog;
+import com.ningbo.portal.repository.CacheChangeLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 两个节点 (独立的 Spring 上下文) 共用同一个 H2 内存库，验证一个节点写入的失效记录被另一个节点读取并应用
+ */
+class CacheInvalidationBusTest {
+    
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private final List<Set<Long>> appliedOnA = new CopyOnWriteArrayList<>();
+    private final List<Set<Long>> appliedOnB = new CopyOnWriteArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+        busOf(nodeA).subscribe(CacheInvalidationBus.PRODUCT, appliedOnA::add);
+        busOf(nodeB).subscribe(CacheInvalidationBus.PRODUCT, appliedOnB::add);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        nodeA.getBean(CacheChangeLogRepository.class).deleteAll();
+        nodeB.close();
+        nodeA.close();
+    }
+    
+    @Test
+    void changeWrittenOnOneNodeIsAppliedOnTheOther() {
+        busOf(nodeA).publish(CacheInvalidationBus.PRODUCT, 7L, 1L);
+        
+        busOf(nodeB).poll();
+        busOf(nodeA).poll();
+        
+        assertEquals(Collections.singletonList(Collections.singleton(7L)), appliedOnB);
+        // 写入节点已在本地失效，不重复应用自己的记录
+        assertTrue(appliedOnA.isEmpty());
+    }
+    
+    @Test
+    void lateCommittedChangeBehindIdGapIsAppliedOnNextPoll() throws Exception {
+        // 模拟第三个节点：先分配到较小的 id，但晚于后一条记录提交
+        try (Connection connection = nodeA.getBean(DataSource.class).getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO cache_change_log (entity_type, entity_id, version, node_id, created_at) " +
+                    "VALUES (?, ?, 1, 'node-c', CURRENT_TIMESTAMP)")) {
+                insert.setString(1, CacheInvalidationBus.PRODUCT);
+                insert.setLong(2, 42L);
+                insert.executeUpdate();
+            }
+            
+            busOf(nodeA).publish(CacheInvalidationBus.PRODUCT, 43L, 1L);
+            busOf(nodeB).poll();
+            assertEquals(Collections.singletonList(Collections.singleton(43L)), appliedOnB);
+            
+            connection.commit();
+        }
+        
+        // 42 的 id 小于 43，B 的高水位已越过它，只能靠空洞重查读到
+        List<CacheChangeLog> rows = nodeA.getBean(CacheChangeLogRepository.class).findAll(Sort.by("id"));
+        assertEquals(42L, rows.get(0).getEntityId());
+        assertEquals(43L, rows.get(1).getEntityId());
+        busOf(nodeB).poll();
+        assertEquals(2, appliedOnB.size());
+        assertEquals(Collections.singleton(42L), appliedOnB.get(1));
+        
+        busOf(nodeB).poll();
+        assertEquals(2, appliedOnB.size());
+    }
+    
+    private static CacheInvalidationBus busOf(ConfigurableApplicationContext node) {
+        return node.getBean(CacheInvalidationBus.class);
+    }
+    
+    // 命令行参数优先于 application.properties，用 H2 代替 MySQL；不启用定时任务，由测试直接调用 poll
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(BusNode.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:cache-bus;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.devtools.restart.enabled=false",
+                        "--logging.level.com.ningbo.portal=INFO",
+                        "--logging.level.org.springframework.web=INFO");
+    }
+    
+    @Configuration
+    @ImportAutoConfiguration({DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class})
+    @EntityScan(basePackageClasses = CacheChangeLog.class)
+    @EnableJpaRepositories(basePackageClasses = CacheChangeLogRepository.class, includeFilters =
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = CacheChangeLogRepository.class))
+    @Import(CacheInvalidationBus.class)
+    static class BusNode {
+        
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.Message;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MessageIngestQueueTest {
+    
+    private JdbcTemplate jdbcTemplate;
+    private AdminEventHub adminEventHub;
+    private MessageCounters messageCounters;
+    private MessageIngestQueue queue;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:ingest;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE messages (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                "name VARCHAR(255) NOT NULL, email VARCHAR(255) NOT NULL, phone VARCHAR(255), " +
+                "company VARCHAR(255), subject VARCHAR(255), content VARCHAR(2000) NOT NULL, " +
+                "is_read BOOLEAN, is_replied BOOLEAN, is_spam BOOLEAN, is_archived BOOLEAN, " +
+                "ticket_id VARCHAR(36) UNIQUE, created_at DATETIME NOT NULL, updated_at DATETIME)");
+        // 占用前几个自增值，保证回查到的 id 不是按批次内位置推算的
+        jdbcTemplate.update("INSERT INTO messages (name, email, content, ticket_id, created_at) " +
+                "VALUES ('旧留言', 'old@example.com', '内容', 'old', CURRENT_TIMESTAMP)");
+        
+        adminEventHub = mock(AdminEventHub.class);
+        messageCounters = new MessageCounters();
+        ReflectionTestUtils.setField(messageCounters, "meterRegistry", new SimpleMeterRegistry());
+        queue = new MessageIngestQueue();
+        ReflectionTestUtils.setField(queue, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(queue, "adminEventHub", adminEventHub);
+        ReflectionTestUtils.setField(queue, "messageCounters", messageCounters);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE messages");
+    }
+    
+    @Test
+    void createdEventsCarryGeneratedIds() {
+        List<Message> batch = Arrays.asList(message("t-1"), message("t-2"), message("t-3"));
+        ReflectionTestUtils.invokeMethod(queue, "insertBatch", batch, false);
+        
+        ArgumentCaptor<Message> events = ArgumentCaptor.forClass(Message.class);
+        verify(adminEventHub, times(3)).messageCreated(events.capture());
+        for (Message event : events.getAllValues()) {
+            assertNotNull(event.getId());
+            assertEquals(idOf(event.getTicketId()), event.getId());
+        }
+        assertEquals(3L, messageCounters.getTotal());
+    }
+    
+    @Test
+    void replayedMessagesAreNotPublishedTwice() {
+        ReflectionTestUtils.invokeMethod(queue, "insertBatch", Collections.singletonList(message("t-1")), false);
+        ReflectionTestUtils.invokeMethod(queue, "insertBatch", Collections.singletonList(message("t-1")), true);
+        
+        verify(adminEventHub, times(1)).messageCreated(any());
+        assertEquals(1L, messageCounters.getTotal());
+    }
+    
+    @Test
+    void emptyRetryBatchPublishesNothing() {
+        ReflectionTestUtils.invokeMethod(queue, "insertBatch", Collections.singletonList(message("old")), true);
+        
+        verify(adminEventHub, never()).messageCreated(any());
+    }
+    
+    private Long idOf(String ticketId) {
+        return jdbcTemplate.queryForObject("SELECT id FROM messages WHERE ticket_id = ?", Long.class, ticketId);
+    }
+    
+    private static Message message(String ticketId) {
+        Message message = new Message();
+        message.setName("访客");
+        message.setEmail("visitor@example.com");
+        message.setContent("留言内容");
+        message.setTicketId(ticketId);
+        message.setCreatedAt(LocalDateTime.now());
+        return message;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.Message;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MessageSpamFilterTest {
+    
+    private static final String INQUIRY = "您好，我们公司需要采购一批不锈钢管件，请提供报价单和交货周期，谢谢";
+    
+    private MessageSpamFilter filter;
+    
+    @BeforeEach
+    void setUp() {
+        filter = new MessageSpamFilter();
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+    }
+    
+    @Test
+    void checkDoesNotRecord() {
+        Message message = message("buyer@example.com", INQUIRY);
+        assertEquals(MessageSpamFilter.Verdict.CLEAN, filter.check(message));
+        // 保存失败或被拒绝后重新提交，仍判定为正常
+        assertEquals(MessageSpamFilter.Verdict.CLEAN, filter.check(message));
+    }
+    
+    @Test
+    void recordedMessageIsExactDuplicate() {
+        filter.record(message("buyer@example.com", INQUIRY));
+        assertEquals(MessageSpamFilter.Verdict.DUPLICATE, filter.check(message("BUYER@example.com ", INQUIRY)));
+    }
+    
+    @Test
+    void smallEditFromAnotherSenderIsNearDuplicate() {
+        filter.record(message("buyer@example.com", INQUIRY));
+        assertEquals(MessageSpamFilter.Verdict.NEAR_DUPLICATE, filter.check(message("other@example.com", INQUIRY + "！！")));
+    }
+    
+    @Test
+    void unrelatedMessageIsClean() {
+        filter.record(message("buyer@example.com", INQUIRY));
+        assertEquals(MessageSpamFilter.Verdict.CLEAN,
+                filter.check(message("buyer@example.com", "请问贵公司的铝合金型材是否可以定制尺寸和表面处理工艺")));
+    }
+    
+    @Test
+    void shortMessagesSkipNearDuplicateCheck() {
+        filter.record(message("a@example.com", "咨询价格"));
+        assertEquals(MessageSpamFilter.Verdict.CLEAN, filter.check(message("b@example.com", "咨询价格！")));
+    }
+    
+    @Test
+    void oldestFingerprintsAreEvicted() {
+        filter.record(message("buyer@example.com", INQUIRY));
+        for (int i = 0; i < 10_000; i++) {
+            filter.record(message("sender" + i + "@example.com", "订单编号 " + i + " 的发货状态查询，请尽快回复物流单号和预计到货时间 " + i));
+        }
+        // 近似重复索引只保留最近 10000 条
+        assertEquals(MessageSpamFilter.Verdict.CLEAN, filter.check(message("other@example.com", INQUIRY + "！！")));
+    }
+    
+    private static Message message(String email, String content) {
+        Message message = new Message();
+        message.setName("测试");
+        message.setEmail(email);
+        message.setContent(content);
+        message.setCompany("宁波测试有限公司");
+        return message;
+    }
+}
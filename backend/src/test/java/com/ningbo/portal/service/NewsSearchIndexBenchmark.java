@@ -0,0 +1,96 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.NewsSummary;
+import com.ningbo.portal.entity.News;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 新闻检索查询延迟，索引规模 100k 篇
+ * <p>
+ * 文章由小词表随机生成，查询词命中大部分文档，结果接近倒排表最长时的最坏情况。
+ * <p>
+ * 运行：mvn -P benchmark test-compile exec:exec -Djmh.args="NewsSearchIndexBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class NewsSearchIndexBenchmark {
+    
+    private static final String[] CJK_WORDS = {
+            "宁波", "港口", "集装箱", "吞吐量", "物流", "贸易", "出口", "进口", "制造", "设备",
+            "质量", "认证", "客户", "市场", "发布", "合作", "项目", "技术", "研发", "服务",
+            "航运", "码头", "仓储", "供应链", "订单", "展会", "产品", "生产", "工厂", "管理"
+    };
+    
+    private static final String[] ASCII_WORDS = {
+            "iso", "9001", "led", "cnc", "oem", "odm", "usb", "pcb", "api", "erp"
+    };
+    
+    @Param("100000")
+    private int articles;
+    
+    private NewsSearchIndex index;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        index = new NewsSearchIndex();
+        for (long id = 1; id <= articles; id++) {
+            News news = new News();
+            news.setId(id);
+            news.setTitle(sentence(random, 6));
+            news.setExcerpt(sentence(random, 15));
+            news.setContent(sentence(random, 120));
+            news.setIsPublished(true);
+            news.setViewCount(0L);
+            index.index(news);
+        }
+    }
+    
+    @Benchmark
+    public List<NewsSummary> bigramQuery() {
+        return index.search("港口集装箱", 10);
+    }
+    
+    @Benchmark
+    public List<NewsSummary> singleCharacterQuery() {
+        return index.search("港", 10);
+    }
+    
+    @Benchmark
+    public List<NewsSummary> mixedQuery() {
+        return index.search("ISO 质量认证", 10);
+    }
+    
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (random.nextInt(8) == 0) {
+                text.append(' ').append(ASCII_WORDS[random.nextInt(ASCII_WORDS.length)]).append(' ');
+            } else {
+                text.append(CJK_WORDS[random.nextInt(CJK_WORDS.length)]);
+            }
+            if (random.nextInt(10) == 0) {
+                text.append('，');
+            }
+        }
+        return text.toString();
+    }
+}
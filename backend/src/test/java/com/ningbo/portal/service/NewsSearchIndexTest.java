@@ -0,0 +1,72 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.NewsSummary;
+import com.ningbo.portal.entity.News;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NewsSearchIndexTest {
+    
+    private NewsSearchIndex index;
+    
+    @BeforeEach
+    void setUp() {
+        index = new NewsSearchIndex();
+        index.index(news(1L, "宁波港集装箱吞吐量创新高", "港口运营", "今年前三季度集装箱吞吐量同比增长"));
+        index.index(news(2L, "公司获得ISO认证", "质量管理", "公司通过质量管理体系认证"));
+        index.index(news(3L, "新产品发布", "产品动态", "新一代港口起重设备正式发布"));
+    }
+    
+    @Test
+    void singleCjkCharacterQueryMatches() {
+        List<NewsSummary> results = index.search("港", 10);
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(summary -> summary.getId() == 1L || summary.getId() == 3L));
+    }
+    
+    @Test
+    void excerptMatchRanksAboveContentMatch() {
+        List<NewsSummary> results = index.search("港口", 10);
+        assertEquals(2, results.size());
+        // 文档 1 的摘要含 "港口"，文档 3 只有正文含 "港口"
+        assertEquals(1L, results.get(0).getId());
+    }
+    
+    @Test
+    void asciiQueryIsCaseInsensitive() {
+        List<NewsSummary> results = index.search("iso", 10);
+        assertEquals(1, results.size());
+        assertEquals(2L, results.get(0).getId());
+    }
+    
+    @Test
+    void unpublishedNewsIsRemovedFromIndex() {
+        News news = news(1L, "宁波港集装箱吞吐量创新高", "港口运营", "");
+        news.setIsPublished(false);
+        index.index(news);
+        assertEquals(2, index.size());
+        assertTrue(index.search("集装箱", 10).isEmpty());
+    }
+    
+    @Test
+    void limitKeepsHighestScores() {
+        List<NewsSummary> results = index.search("港口 认证", 1);
+        assertEquals(1, results.size());
+    }
+    
+    private static News news(Long id, String title, String excerpt, String content) {
+        News news = new News();
+        news.setId(id);
+        news.setTitle(title);
+        news.setExcerpt(excerpt);
+        news.setContent(content);
+        news.setIsPublished(true);
+        news.setViewCount(0L);
+        return news;
+    }
+}
@@ -0,0 +1,104 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.NewsSummary;
+import com.ningbo.portal.entity.News;
+import com.ningbo.portal.repository.NewsRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NewsServiceSearchTest {
+    
+    private JdbcTemplate jdbcTemplate;
+    private NewsSearchIndex index;
+    private NewsViewCounter viewCounter;
+    private NewsService newsService;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:news-search;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE news (id BIGINT PRIMARY KEY, view_count BIGINT, updated_at DATETIME)");
+        jdbcTemplate.update("INSERT INTO news (id, view_count, updated_at) VALUES (1, 10, CURRENT_TIMESTAMP)");
+        
+        // 仓库按 id 读取浏览量时直接查 H2 表，与写回结果保持一致
+        NewsRepository repository = mock(NewsRepository.class);
+        when(repository.findViewCountsByIds(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+            return jdbcTemplate.query("SELECT id, view_count FROM news WHERE id IN (" + placeholders + ")",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getLong(2)}, ids.toArray());
+        });
+        
+        index = new NewsSearchIndex();
+        viewCounter = new NewsViewCounter();
+        ReflectionTestUtils.setField(viewCounter, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(viewCounter, "responseBodyCache", mock(ResponseBodyCache.class));
+        newsService = new NewsService();
+        ReflectionTestUtils.setField(newsService, "newsRepository", repository);
+        ReflectionTestUtils.setField(newsService, "newsSearchIndex", index);
+        ReflectionTestUtils.setField(newsService, "newsViewCounter", viewCounter);
+        ReflectionTestUtils.setField(newsService, "newsTrendingRanker", mock(NewsTrendingRanker.class));
+        
+        index.index(news(1L, 10L));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE news");
+    }
+    
+    @Test
+    void flushedViewsStayInSearchResults() {
+        assertEquals(10L, viewCountOf(newsService.search("宁波港口", 10)));
+        
+        for (int i = 0; i < 3; i++) {
+            newsService.recordView(1L);
+        }
+        assertEquals(13L, viewCountOf(newsService.search("宁波港口", 10)));
+        
+        viewCounter.flush();
+        assertEquals(13L, jdbcTemplate.queryForObject("SELECT view_count FROM news WHERE id = 1", Long.class));
+        assertEquals(13L, viewCountOf(newsService.search("宁波港口", 10)));
+        
+        newsService.recordView(1L);
+        assertEquals(14L, viewCountOf(newsService.search("宁波港口", 10)));
+    }
+    
+    @Test
+    void viewCountFromAdminFormIsNotShown() {
+        // 后台表单提交的浏览量不会写库 (view_count 不随实体更新)，索引中的副本不作为展示值
+        index.index(news(1L, 999L));
+        
+        assertEquals(10L, viewCountOf(newsService.search("宁波港口", 10)));
+    }
+    
+    private static long viewCountOf(List<NewsSummary> results) {
+        assertEquals(1, results.size());
+        return results.get(0).getViewCount();
+    }
+    
+    private static News news(Long id, Long viewCount) {
+        News news = new News();
+        news.setId(id);
+        news.setTitle("宁波港口吞吐量创新高");
+        news.setExcerpt("港口集装箱吞吐量");
+        news.setContent("宁波舟山港集装箱吞吐量继续增长");
+        news.setCategory("行业动态");
+        news.setIsPublished(true);
+        news.setViewCount(viewCount);
+        return news;
+    }
+}
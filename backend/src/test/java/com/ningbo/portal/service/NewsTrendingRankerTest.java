@@ -0,0 +1,93 @@
+package com.ningbo.portal.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NewsTrendingRankerTest {
+    
+    private JdbcTemplate jdbcTemplate;
+    
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:trending;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("CREATE TABLE news_trending_scores (news_id BIGINT PRIMARY KEY, " +
+                "score DOUBLE NOT NULL, scored_at DATETIME NOT NULL)");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE news_trending_scores");
+    }
+    
+    @Test
+    void ranksByViewsAndDropsRemovedNews() {
+        NewsTrendingRanker ranker = ranker();
+        views(ranker, 1L, 3);
+        views(ranker, 2L, 5);
+        views(ranker, 3L, 1);
+        assertEquals(Arrays.asList(2L, 1L, 3L), ranker.topIds(10));
+        
+        ranker.remove(2L);
+        assertEquals(Arrays.asList(1L, 3L), ranker.topIds(10));
+    }
+    
+    @Test
+    void checkpointKeepsHigherScoreFromAnotherNode() {
+        NewsTrendingRanker busy = ranker();
+        NewsTrendingRanker quiet = ranker();
+        views(busy, 1L, 10);
+        views(busy, 2L, 4);
+        views(quiet, 1L, 2);
+        
+        busy.checkpoint();
+        quiet.checkpoint();
+        
+        // 浏览较少的节点后写入，不覆盖也不清理另一个节点的得分
+        assertTrue(score(1L) > 9.9);
+        assertTrue(score(2L) > 3.9);
+    }
+    
+    @Test
+    void removeDeletesCheckpointRow() {
+        NewsTrendingRanker ranker = ranker();
+        views(ranker, 1L, 3);
+        ranker.checkpoint();
+        
+        ranker.remove(1L);
+        assertEquals(0, count());
+    }
+    
+    private NewsTrendingRanker ranker() {
+        NewsTrendingRanker ranker = new NewsTrendingRanker();
+        ReflectionTestUtils.setField(ranker, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(ranker, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(ranker, "halfLifeMillis", 21600000L);
+        ranker.init();
+        return ranker;
+    }
+    
+    private static void views(NewsTrendingRanker ranker, Long newsId, int count) {
+        for (int i = 0; i < count; i++) {
+            ranker.record(newsId);
+        }
+    }
+    
+    private double score(Long newsId) {
+        return jdbcTemplate.queryForObject("SELECT score FROM news_trending_scores WHERE news_id = ?", Double.class, newsId);
+    }
+    
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_trending_scores", Integer.class);
+    }
+}
@@ -0,0 +1,85 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.dto.EntityVersion;
+import com.ningbo.portal.entity.Product;
+import com.ningbo.portal.repository.ProductRepository;
+import com.ningbo.portal.util.EntityTags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProductCatalogTest {
+    
+    // updated_at 只精确到秒，同一秒内的两次修改时间相同
+    private static final LocalDateTime SAME_SECOND = LocalDateTime.of(2024, 1, 15, 10, 0, 0);
+    
+    private ProductRepository repository;
+    private ProductCatalog catalog;
+    
+    @BeforeEach
+    void setUp() {
+        repository = mock(ProductRepository.class);
+        catalog = new ProductCatalog();
+        ReflectionTestUtils.setField(catalog, "productRepository", repository);
+        ReflectionTestUtils.setField(catalog, "meterRegistry", new SimpleMeterRegistry());
+        catalog.registerMetrics();
+    }
+    
+    @Test
+    void catalogTagChangesWhenProductIsEditedWithinTheSameSecond() {
+        when(repository.findByIsActiveTrueOrderBySortOrder()).thenReturn(Arrays.asList(product(1L, 0L), product(2L, 3L)));
+        catalog.refresh();
+        String before = catalogTag();
+        
+        when(repository.findByIsActiveTrueOrderBySortOrder()).thenReturn(Arrays.asList(product(1L, 1L), product(2L, 3L)));
+        catalog.refresh();
+        
+        assertNotEquals(before, catalogTag());
+    }
+    
+    @Test
+    void sameContentGivesSameTagOnEveryNode() {
+        when(repository.findByIsActiveTrueOrderBySortOrder()).thenReturn(Arrays.asList(product(1L, 2L), product(2L, 3L)));
+        catalog.refresh();
+        catalog.refresh();
+        String refreshedTwice = catalogTag();
+        
+        ProductCatalog otherNode = new ProductCatalog();
+        ReflectionTestUtils.setField(otherNode, "productRepository", repository);
+        ReflectionTestUtils.setField(otherNode, "meterRegistry", new SimpleMeterRegistry());
+        otherNode.registerMetrics();
+        otherNode.refresh();
+        
+        assertEquals(refreshedTwice, EntityTags.ofCollection("product", otherNode.current().getContentVersion()));
+    }
+    
+    @Test
+    void entityTagFollowsVersionNotUpdateTime() {
+        assertNotEquals(EntityTags.of("product", new EntityVersion(1L, 4L, SAME_SECOND)),
+                EntityTags.of("product", new EntityVersion(1L, 5L, SAME_SECOND)));
+    }
+    
+    private String catalogTag() {
+        return EntityTags.ofCollection("product", catalog.current().getContentVersion());
+    }
+    
+    private static Product product(Long id, Long version) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("产品" + id);
+        product.setCategory("管理软件");
+        product.setIsActive(true);
+        product.setVersion(version);
+        product.setUpdatedAt(SAME_SECOND);
+        return product;
+    }
+}
@@ -0,0 +1,155 @@
+package com.ningbo.portal.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTest {
+    
+    private SystemConfigService systemConfigService;
+    
+    private RateLimiter rateLimiter;
+    
+    @BeforeEach
+    void setUp() {
+        systemConfigService = mock(SystemConfigService.class);
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "systemConfigService", systemConfigService);
+        ReflectionTestUtils.setField(rateLimiter, "meterRegistry", new SimpleMeterRegistry());
+        rateLimiter.registerMetrics();
+    }
+    
+    @Test
+    void allowsCapacityThenRejects() {
+        // 默认留言限额 5 次/分钟
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        }
+        assertFalse(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        // 其他客户端和其他路由不受影响
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.2"));
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_LOGIN, "10.0.0.1"));
+    }
+    
+    @Test
+    void refillsOverTime() throws Exception {
+        limit(RateLimiter.ROUTE_MESSAGES, "2/1");
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        assertFalse(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        
+        // 2 次/秒，约 500ms 补充一个令牌
+        TimeUnit.MILLISECONDS.sleep(600);
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        assertFalse(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+    }
+    
+    @Test
+    void rejectedRequestsDoNotDelayRefill() throws Exception {
+        limit(RateLimiter.ROUTE_MESSAGES, "1/1");
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        long deadline = System.currentTimeMillis() + 1500;
+        boolean refilled = false;
+        while (!refilled && System.currentTimeMillis() < deadline) {
+            refilled = rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1");
+        }
+        assertTrue(refilled);
+    }
+    
+    @Test
+    void zeroCapacityDisablesLimit() {
+        limit(RateLimiter.ROUTE_LOGIN, "0/60");
+        for (int i = 0; i < 100; i++) {
+            assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_LOGIN, "10.0.0.1"));
+        }
+    }
+    
+    @Test
+    void malformedLimitKeepsDefault() {
+        limit(RateLimiter.ROUTE_MESSAGES, "five per minute");
+        for (int i = 0; i < 5; i++) {
+            assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+        }
+        assertFalse(rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1"));
+    }
+    
+    @Test
+    void concurrentAcquiresNeverExceedCapacity() throws Exception {
+        limit(RateLimiter.ROUTE_MESSAGES, "1000/3600");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    int allowed = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1")) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                });
+            }
+            int total = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                total += result.get();
+            }
+            // 测试期间最多补充约 1 个令牌
+            assertTrue(total >= 1000 && total <= 1001, "放行次数: " + total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void newClientsGetTheirOwnBucketWhenFull() {
+        limit(RateLimiter.ROUTE_LOGIN, "1/3600");
+        for (int i = 0; i < 100_000; i++) {
+            rateLimiter.tryAcquire(RateLimiter.ROUTE_LOGIN, "client-" + i);
+        }
+        // 不再共用溢出桶：达到上限后新客户端各自有完整的限额
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_LOGIN, "late-1"));
+        assertTrue(rateLimiter.tryAcquire(RateLimiter.ROUTE_LOGIN, "late-2"));
+        assertFalse(rateLimiter.tryAcquire(RateLimiter.ROUTE_LOGIN, "late-2"));
+        assertTrue(bucketCount() < 100_000);
+    }
+    
+    @Test
+    void sweepKeepsOnlyBucketsStillRefilling() {
+        rateLimiter.tryAcquire(RateLimiter.ROUTE_MESSAGES, "10.0.0.1");
+        rateLimiter.sweep();
+        assertEquals(1, bucketCount());
+        
+        // 限额改为不限流后，原有的桶视为已补满
+        limit(RateLimiter.ROUTE_MESSAGES, "0/60");
+        rateLimiter.sweep();
+        assertEquals(0, bucketCount());
+    }
+    
+    private void limit(String route, String value) {
+        when(systemConfigService.getConfigValue(anyString())).thenReturn(null);
+        when(systemConfigService.getConfigValue("rate_limit." + route)).thenReturn(value);
+        rateLimiter.refreshLimits();
+    }
+    
+    private int bucketCount() {
+        return ((Map<?, ?>) ReflectionTestUtils.getField(rateLimiter, "buckets")).size();
+    }
+}
@@ -0,0 +1,118 @@
+package com.ningbo.portal.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResponseBodyCacheTest {
+    
+    private ResponseBodyCache cache;
+    
+    @BeforeEach
+    void setUp() {
+        cache = new ResponseBodyCache();
+        ReflectionTestUtils.setField(cache, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(cache, "meterRegistry", new SimpleMeterRegistry());
+        cache.registerMetrics();
+    }
+    
+    @Test
+    void loadOverlappingInvalidationIsNotCached() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("news:latest", () -> {
+            loads.incrementAndGet();
+            cache.invalidate("news:");
+            return Collections.singletonList("stale");
+        });
+        cache.get("news:latest", () -> {
+            loads.incrementAndGet();
+            return Collections.singletonList("fresh");
+        });
+        assertEquals(2, loads.get());
+    }
+    
+    @Test
+    void loadWithoutInvalidationIsCached() {
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("news:latest", () -> loads.incrementAndGet());
+        cache.get("news:latest", () -> loads.incrementAndGet());
+        assertEquals(1, loads.get());
+    }
+    
+    @Test
+    void gzipVariantHasItsOwnEtag() throws Exception {
+        ResponseBodyCache.CachedBody body = cache.get("news:latest", () -> Arrays.asList("a", "b"));
+        
+        MockHttpServletResponse identity = write(body, null, null);
+        MockHttpServletResponse gzip = write(body, "gzip, deflate", null);
+        
+        assertNull(identity.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", gzip.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertNotEquals(identity.getHeader(HttpHeaders.ETAG), gzip.getHeader(HttpHeaders.ETAG));
+        assertTrue(gzip.getHeader(HttpHeaders.ETAG).endsWith("-gz\""));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzip.getHeader(HttpHeaders.VARY));
+    }
+    
+    @Test
+    void notModifiedOnlyForTheServedVariant() throws Exception {
+        ResponseBodyCache.CachedBody body = cache.get("news:latest", () -> Arrays.asList("a", "b"));
+        String identityEtag = write(body, null, null).getHeader(HttpHeaders.ETAG);
+        String gzipEtag = write(body, "gzip", null).getHeader(HttpHeaders.ETAG);
+        
+        assertEquals(304, write(body, "gzip", gzipEtag).getStatus());
+        assertEquals(304, write(body, null, "\"other\", W/" + identityEtag).getStatus());
+        assertEquals(200, write(body, "gzip", identityEtag).getStatus());
+    }
+    
+    @Test
+    void varyIsAppendedToExistingValues() throws Exception {
+        ResponseBodyCache.CachedBody body = cache.get("news:latest", () -> Arrays.asList("a", "b"));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/news/latest");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+        cache.write(body, request, response);
+        assertEquals(Arrays.asList(HttpHeaders.ORIGIN, HttpHeaders.ACCEPT_ENCODING), response.getHeaders(HttpHeaders.VARY));
+    }
+    
+    @Test
+    void parsesAcceptEncodingQualityValues() {
+        assertTrue(ResponseBodyCache.acceptsGzip("gzip"));
+        assertTrue(ResponseBodyCache.acceptsGzip("deflate, GZIP;q=0.5"));
+        assertTrue(ResponseBodyCache.acceptsGzip("*"));
+        assertFalse(ResponseBodyCache.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseBodyCache.acceptsGzip("gzip; q=0.0, identity"));
+        assertFalse(ResponseBodyCache.acceptsGzip("*, gzip;q=0"));
+        assertFalse(ResponseBodyCache.acceptsGzip("*;q=0"));
+        assertFalse(ResponseBodyCache.acceptsGzip("br"));
+        assertFalse(ResponseBodyCache.acceptsGzip(null));
+    }
+    
+    private MockHttpServletResponse write(ResponseBodyCache.CachedBody body, String acceptEncoding, String ifNoneMatch)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/news/latest");
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.write(body, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ningbo.portal.service;
+
+import com.ningbo.portal.entity.RevokedToken;
+import com.ningbo.portal.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenDenyListTest {
+    
+    private static final long TICK_MILLIS = 20L;
+    
+    private RevokedTokenRepository repository;
+    private TokenDenyList denyList;
+    
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenRepository.class);
+        when(repository.findByExpiresAtAfter(any())).thenReturn(Collections.emptyList());
+        denyList = new TokenDenyList();
+        ReflectionTestUtils.setField(denyList, "revokedTokenRepository", repository);
+        ReflectionTestUtils.setField(denyList, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(denyList, "syncLookbackMillis", 60_000L);
+        ReflectionTestUtils.setField(denyList, "tickMillis", TICK_MILLIS);
+        denyList.start();
+    }
+    
+    @AfterEach
+    void tearDown() {
+        denyList.stop();
+    }
+    
+    @Test
+    void revokedTokenIsRemovedOnlyAfterItExpires() throws InterruptedException {
+        long expiresAt = System.currentTimeMillis() + 200;
+        denyList.revoke("jti-1", expiresAt);
+        assertTrue(denyList.isRevoked("jti-1"));
+        
+        long deadline = expiresAt + 2_000;
+        while (denyList.isRevoked("jti-1") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertFalse(denyList.isRevoked("jti-1"));
+        // 移出名单时令牌本身已过期，不存在可用且未被拦截的窗口
+        assertTrue(System.currentTimeMillis() >= expiresAt);
+    }
+    
+    @Test
+    void tokenIsKeptWhileOtherEntriesExpire() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        denyList.revoke("short", now + 50);
+        denyList.revoke("long", now + 60_000);
+        
+        long deadline = now + 2_000;
+        while (denyList.isRevoked("short") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertFalse(denyList.isRevoked("short"));
+        assertTrue(denyList.isRevoked("long"));
+    }
+    
+    @Test
+    void alreadyExpiredTokenIsNotStored() {
+        denyList.revoke("expired", System.currentTimeMillis() - 1);
+        
+        assertFalse(denyList.isRevoked("expired"));
+        verify(repository, never()).save(any());
+    }
+    
+    @Test
+    void syncSkipsRowsThatExpiredOnAnotherNode() {
+        LocalDateTime now = LocalDateTime.now();
+        when(repository.findByCreatedAtGreaterThanEqual(any())).thenReturn(Arrays.asList(
+                new RevokedToken("valid", now.plusMinutes(10)),
+                new RevokedToken("stale", now.minusSeconds(1))));
+        
+        denyList.sync();
+        
+        assertTrue(denyList.isRevoked("valid"));
+        assertFalse(denyList.isRevoked("stale"));
+    }
+}
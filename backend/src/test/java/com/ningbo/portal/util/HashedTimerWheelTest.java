@@ -0,0 +1,127 @@
+package com.ningbo.portal.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HashedTimerWheelTest {
+    
+    private static final long TICK_MILLIS = 10;
+    
+    private HashedTimerWheel<String> wheel;
+    
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+    
+    @Test
+    void roundsSlotCountUpToPowerOfTwo() {
+        assertEquals(1, slots(1));
+        assertEquals(2, slots(2));
+        assertEquals(4, slots(3));
+        assertEquals(4, slots(4));
+        assertEquals(512, slots(300));
+    }
+    
+    @Test
+    void rejectsNonPositiveArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimerWheel<String>("t", 0, 8, task -> {}));
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimerWheel<String>("t", 10, 0, task -> {}));
+    }
+    
+    @Test
+    void neverFiresBeforeDeadlineAcrossRounds() throws Exception {
+        // 4 个槽位，一圈 40ms：15ms 在第一圈，55ms 和 130ms 分别要多转 1 圈和 3 圈
+        long[] delays = {15, 55, 130};
+        CountDownLatch done = new CountDownLatch(delays.length);
+        Map<String, Long> firedAt = new ConcurrentHashMap<>();
+        wheel = new HashedTimerWheel<>("test-wheel", TICK_MILLIS, 4, task -> {
+            firedAt.put(task, System.nanoTime());
+            done.countDown();
+        });
+        wheel.start();
+        
+        long scheduledAt = System.nanoTime();
+        for (long delay : delays) {
+            wheel.schedule(String.valueOf(delay), delay);
+        }
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        
+        for (long delay : delays) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(firedAt.get(String.valueOf(delay)) - scheduledAt);
+            assertTrue(elapsedMillis >= delay, delay + "ms 的任务提前触发: " + elapsedMillis);
+            // 调度抖动留出余量，但不能晚一整圈
+            assertTrue(elapsedMillis < delay + 4 * TICK_MILLIS + 100, delay + "ms 的任务触发过晚: " + elapsedMillis);
+        }
+    }
+    
+    @Test
+    void firesInDeadlineOrder() throws Exception {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        wheel = new HashedTimerWheel<>("test-wheel", TICK_MILLIS, 4, record(fired, done));
+        wheel.start();
+        
+        wheel.schedule("late", 150);
+        wheel.schedule("early", 20);
+        wheel.schedule("middle", 80);
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertArrayEquals(new String[]{"early", "middle", "late"}, fired.toArray());
+    }
+    
+    @Test
+    void nonPositiveDelayFiresOnNextTick() throws Exception {
+        List<String> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(2);
+        wheel = new HashedTimerWheel<>("test-wheel", TICK_MILLIS, 4, record(fired, done));
+        wheel.start();
+        
+        wheel.schedule("zero", 0);
+        wheel.schedule("negative", -1000);
+        assertTrue(done.await(500, TimeUnit.MILLISECONDS));
+    }
+    
+    @Test
+    void failingHandlerDoesNotStopTheWheel() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        wheel = new HashedTimerWheel<>("test-wheel", TICK_MILLIS, 4, task -> {
+            if ("fail".equals(task)) {
+                throw new IllegalStateException(task);
+            }
+            done.countDown();
+        });
+        wheel.start();
+        
+        wheel.schedule("fail", 10);
+        wheel.schedule("ok", 30);
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+    }
+    
+    private static int slots(int ticksPerWheel) {
+        HashedTimerWheel<String> sized = new HashedTimerWheel<>("t", TICK_MILLIS, ticksPerWheel, task -> {});
+        return ((Object[]) ReflectionTestUtils.getField(sized, "wheel")).length;
+    }
+    
+    private static Consumer<String> record(List<String> fired, CountDownLatch done) {
+        return task -> {
+            fired.add(task);
+            done.countDown();
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.ningbo.portal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ListingVersionsTest {
+    
+    @Test
+    void bumpChangesOnlyTheBumpedScope() {
+        ListingVersions versions = new ListingVersions("news");
+        String published = versions.etag("published");
+        String category = versions.etag("category:公司新闻");
+        
+        versions.bump("published");
+        
+        assertNotEquals(published, versions.etag("published"));
+        assertEquals(category, versions.etag("category:公司新闻"));
+    }
+    
+    @Test
+    void instancesNeverShareTags() {
+        assertNotEquals(new ListingVersions("news").etag("published"), new ListingVersions("news").etag("published"));
+    }
+    
+    @Test
+    void etagIsQuotedAscii() {
+        String etag = new ListingVersions("news").etag("category:公司新闻");
+        assertEquals('"', etag.charAt(0));
+        assertEquals('"', etag.charAt(etag.length() - 1));
+        assertEquals(etag.length(), etag.codePoints().filter(c -> c < 128).count());
+    }
+}
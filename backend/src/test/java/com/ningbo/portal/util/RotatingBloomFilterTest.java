@@ -0,0 +1,59 @@
+package com.ningbo.portal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RotatingBloomFilterTest {
+    
+    @Test
+    void hasNoFalseNegativesWithinAGeneration() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1000, 0.001);
+        for (long i = 0; i < 1000; i++) {
+            filter.put(SimHash.hash64("item-" + i));
+        }
+        for (long i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain(SimHash.hash64("item-" + i)));
+        }
+    }
+    
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(SimHash.hash64("member-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(SimHash.hash64("other-" + i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "误判次数: " + falsePositives);
+    }
+    
+    @Test
+    void previousGenerationIsStillQueriedAfterRotation() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.001);
+        long first = SimHash.hash64("first");
+        filter.put(first);
+        for (int i = 1; i < 150; i++) {
+            filter.put(SimHash.hash64("fill-" + i));
+        }
+        // 第 101 个元素触发轮换，first 位于上一代
+        assertTrue(filter.mightContain(first));
+    }
+    
+    @Test
+    void forgetsElementsAfterTwoRotations() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(100, 0.001);
+        long first = SimHash.hash64("first");
+        filter.put(first);
+        for (int i = 1; i <= 200; i++) {
+            filter.put(SimHash.hash64("fill-" + i));
+        }
+        // 第 201 个元素再次轮换，first 所在的一代被清空
+        assertFalse(filter.mightContain(first));
+    }
+}
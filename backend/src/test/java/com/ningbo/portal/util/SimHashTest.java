@@ -0,0 +1,52 @@
+package com.ningbo.portal.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimHashTest {
+    
+    @Test
+    void identicalFeaturesGiveIdenticalFingerprints() {
+        assertEquals(fingerprint("宁波港口集装箱运输服务咨询报价"), fingerprint("宁波港口集装箱运输服务咨询报价"));
+    }
+    
+    @Test
+    void nearDuplicateTextsAreClose() {
+        long a = fingerprint("您好，我们公司需要采购一批不锈钢管件，请提供报价单和交货周期，谢谢");
+        long b = fingerprint("您好，我们公司需要采购一批不锈钢管件，请提供报价单和交货周期，谢谢！！");
+        long c = fingerprint("您好，我司需要采购一批不锈钢管件，请提供报价单和交货周期，谢谢");
+        assertTrue(SimHash.distance(a, b) <= 3);
+        assertTrue(SimHash.distance(a, c) <= 10);
+    }
+    
+    @Test
+    void unrelatedTextsAreFar() {
+        long a = fingerprint("您好，我们公司需要采购一批不锈钢管件，请提供报价单和交货周期，谢谢");
+        long b = fingerprint("Cheap watches and replica handbags free shipping worldwide click here now");
+        assertTrue(SimHash.distance(a, b) > 10);
+    }
+    
+    @Test
+    void distanceCountsDifferingBits() {
+        assertEquals(0, SimHash.distance(0L, 0L));
+        assertEquals(64, SimHash.distance(0L, -1L));
+        assertEquals(3, SimHash.distance(0b1011L, 0b0000L));
+    }
+    
+    @Test
+    void hashSpreadsSimilarInputs() {
+        assertNotEquals(SimHash.hash64("a"), SimHash.hash64("b"));
+        assertTrue(SimHash.distance(SimHash.hash64("message-1"), SimHash.hash64("message-2")) > 10);
+    }
+    
+    private static long fingerprint(String text) {
+        SimHash simHash = new SimHash();
+        for (String token : TextTokenizer.tokenize(text)) {
+            simHash.add(token, 1);
+        }
+        return simHash.value();
+    }
+}
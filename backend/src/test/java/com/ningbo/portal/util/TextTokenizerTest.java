@@ -0,0 +1,43 @@
+package com.ningbo.portal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TextTokenizerTest {
+    
+    @Test
+    void splitsCjkRunIntoBigrams() {
+        assertEquals(Arrays.asList("宁波", "波港", "港口"), TextTokenizer.tokenize("宁波港口"));
+    }
+    
+    @Test
+    void keepsSingleCjkCharacterAsUnigram() {
+        assertEquals(Collections.singletonList("港"), TextTokenizer.tokenize("港"));
+    }
+    
+    @Test
+    void lowercasesAsciiWordsAndSplitsOnPunctuation() {
+        assertEquals(Arrays.asList("iso", "9001", "认证"), TextTokenizer.tokenize("ISO-9001 认证!"));
+    }
+    
+    @Test
+    void indexTokensIncludeEveryCjkUnigram() {
+        assertEquals(Arrays.asList("宁", "宁波", "波", "波港", "港"), TextTokenizer.tokenizeForIndex("宁波港"));
+    }
+    
+    @Test
+    void truncatesLongWords() {
+        String word = String.join("", Collections.nCopies(40, "a"));
+        assertEquals(32, TextTokenizer.tokenize(word).get(0).length());
+    }
+    
+    @Test
+    void emptyInputHasNoTokens() {
+        assertEquals(Collections.emptyList(), TextTokenizer.tokenize(null));
+        assertEquals(Collections.emptyList(), TextTokenizer.tokenize(""));
+    }
+}
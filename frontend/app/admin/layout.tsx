@@ -1,15 +1,15 @@
-'use client'
-
-import { AuthProvider } from '../../hooks/useAuth'
-
-export default function AdminRootLayout({
-  children,
-}: {
-  children: React.ReactNode
-}) {
-  return (
-    <AuthProvider>
-      {children}
-    </AuthProvider>
-  )
+'use client'
+
+import { AuthProvider } from '../../hooks/useAuth'
+
+export default function AdminRootLayout({
+  children,
+}: {
+  children: React.ReactNode
+}) {
+  return (
+    <AuthProvider>
+      {children}
+    </AuthProvider>
+  )
 }
\ No newline at end of file
@@ -1,411 +1,433 @@
-'use client'
-
-import { useState, useEffect } from 'react'
-import { motion, AnimatePresence } from 'framer-motion'
-import AdminLayout from '../../../components/admin/AdminLayout'
-import { newsAPI } from '../../../lib/admin-api'
-import { News } from '../../../lib/types'
-
-export default function NewsManagement() {
-  const [newsList, setNewsList] = useState<News[]>([])
-  const [loading, setLoading] = useState(true)
-  const [showModal, setShowModal] = useState(false)
-  const [editingNews, setEditingNews] = useState<News | null>(null)
-  const [error, setError] = useState('')
-  const [form, setForm] = useState<Partial<News>>({
-    title: '',
-    excerpt: '',
-    content: '',
-    category: '',
-    imageUrl: '',
-    author: '',
-    readTime: '',
-    isPublished: false
-  })
-
-  useEffect(() => {
-    fetchNews()
-  }, [])
-
-  const fetchNews = async () => {
-    try {
-      setLoading(true)
-      const res = await newsAPI.getNews()
-      console.log(res)
-      setNewsList(res || []) // 直接使用返回的数组数据
-    } catch (error: any) {
-      console.error('获取新闻列表失败:', error)
-      setError(error.message || '获取新闻列表失败')
-    } finally {
-      setLoading(false)
-    }
-  }
-
-  const handleCreate = () => {
-    setForm({
-      title: '',
-      excerpt: '',
-      content: '',
-      category: '',
-      imageUrl: '',
-      author: '',
-      readTime: '',
-      isPublished: false
-    })
-    setEditingNews(null)
-    setError('')
-    setShowModal(true)
-  }
-
-  const handleEdit = (news: News) => {
-    setForm({ ...news })
-    setEditingNews(news)
-    setError('')
-    setShowModal(true)
-  }
-
-  const handleSubmit = async (e: React.FormEvent) => {
-    e.preventDefault()
-    try {
-      if (editingNews) {
-        await newsAPI.updateNews(editingNews.id!, form)
-      } else {
-        await newsAPI.createNews(form)
-      }
-      
-      setShowModal(false)
-      fetchNews()
-    } catch (error: any) {
-      console.error('保存新闻失败:', error)
-      setError(error.message || '保存新闻失败')
-    }
-  }
-
-  const handleDelete = async (id: number) => {
-    if (window.confirm('确认删除此新闻吗？')) {
-      try {
-        await newsAPI.deleteNews(id)
-        fetchNews()
-      } catch (error: any) {
-        console.error('删除新闻失败:', error)
-        setError(error.message || '删除新闻失败')
-      }
-    }
-  }
-
-  const handleChange = (e: React.ChangeEvent<HTMLInputElement | HTMLTextAreaElement | HTMLSelectElement>) => {
-    const { name, value, type } = e.target
-    setForm(prev => ({
-      ...prev,
-      [name]: type === 'checkbox' 
-        ? (e.target as HTMLInputElement).checked
-        : value
-    }))
-  }
-
-  const formatDate = (dateString: string) => {
-    if (!dateString) return '-'
-    return new Date(dateString).toLocaleDateString('zh-CN', {
-      year: 'numeric',
-      month: '2-digit',
-      day: '2-digit',
-      hour: '2-digit',
-      minute: '2-digit'
-    })
-  }
-
-  if (loading) {
-    return (
-      <AdminLayout>
-        <div className="flex items-center justify-center h-96">
-          <div className="animate-spin rounded-full h-12 w-12 border-b-2 border-blue-600"></div>
-        </div>
-      </AdminLayout>
-    )
-  }
-
-  return (
-    <AdminLayout>
-      <div className="space-y-6">
-        <motion.div
-          initial={{ opacity: 0, y: -20 }}
-          animate={{ opacity: 1, y: 0 }}
-          transition={{ duration: 0.6 }}
-          className="flex justify-between items-center"
-        >
-          <div>
-            <h1 className="text-3xl font-bold text-gray-900">新闻管理</h1>
-            <p className="mt-2 text-gray-600">管理企业新闻和动态信息</p>
-          </div>
-          <button
-            onClick={handleCreate}
-            className="px-4 py-2 bg-blue-600 text-white rounded-lg hover:bg-blue-700 transition-colors"
-          >
-            发布新闻
-          </button>
-        </motion.div>
-
-        {error && (
-          <div className="bg-red-50 border border-red-200 rounded-lg p-4 text-red-700">
-            {error}
-          </div>
-        )}
-
-        <motion.div
-          initial={{ opacity: 0, y: 20 }}
-          animate={{ opacity: 1, y: 0 }}
-          transition={{ duration: 0.6, delay: 0.1 }}
-          className="bg-white rounded-xl shadow-sm border border-gray-200 overflow-hidden"
-        >
-          <div className="overflow-x-auto">
-            <table className="w-full">
-              <thead className="bg-gray-50">
-                <tr>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
-                    新闻信息
-                  </th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
-                    分类
-                  </th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
-                    作者
-                  </th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
-                    状态
-                  </th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
-                    浏览量
-                  </th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
-                    发布时间
-                  </th>
-                  <th className="px-6 py-3 text-right text-xs font-medium text-gray-500 uppercase tracking-wider">
-                    操作
-                  </th>
-                </tr>
-              </thead>
-              <tbody className="bg-white divide-y divide-gray-200">
-                {newsList.map((news) => (
-                  <tr key={news.id} className="hover:bg-gray-50">
-                    <td className="px-6 py-4">
-                      <div className="flex items-center">
-                        {/* {news.imageUrl && (
-                          <img
-                            className="h-12 w-16 rounded-lg object-cover mr-4"
-                            src={news.imageUrl}
-                            alt={news.title}
-                          />
-                        )} */}
-                        <div className="max-w-xs">
-                          <div className="text-sm font-medium text-gray-900 truncate">
-                            {news.title}
-                          </div>
-                          <div className="text-sm text-gray-500 truncate">
-                            {news.excerpt}
-                          </div>
-                        </div>
-                      </div>
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
-                      {news.category || '-'}
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
-                      {news.author || '-'}
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap">
-                      <span className={`px-2 py-1 text-xs font-semibold rounded-full ${
-                        news.isPublished
-                          ? 'bg-green-100 text-green-800'
-                          : 'bg-yellow-100 text-yellow-800'
-                      }`}>
-                        {news.isPublished ? '已发布' : '草稿'}
-                      </span>
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
-                      {news.viewCount || 0}
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
-                      {formatDate(news.publishedAt || news.createdAt || '')}
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap text-right text-sm font-medium">
-                      <button
-                        onClick={() => handleEdit(news)}
-                        className="text-blue-600 hover:text-blue-900 mr-4"
-                      >
-                        编辑
-                      </button>
-                      <button
-                        onClick={() => handleDelete(news.id!)}
-                        className="text-red-600 hover:text-red-900"
-                      >
-                        删除
-                      </button>
-                    </td>
-                  </tr>
-                ))}
-                {newsList.length === 0 && (
-                  <tr>
-                    <td colSpan={7} className="px-6 py-12 text-center text-gray-500">
-                      暂无新闻数据
-                    </td>
-                  </tr>
-                )}
-              </tbody>
-            </table>
-          </div>
-        </motion.div>
-
-        {/* 新增/编辑模态框 */}
-        <AnimatePresence>
-          {showModal && (
-            <div className="fixed inset-0 bg-black bg-opacity-50 flex items-center justify-center z-50 p-4">
-              <motion.div
-                initial={{ opacity: 0, scale: 0.95 }}
-                animate={{ opacity: 1, scale: 1 }}
-                exit={{ opacity: 0, scale: 0.95 }}
-                className="bg-white rounded-xl shadow-xl max-w-4xl w-full h-full max-h-[90vh] flex flex-col overflow-hidden"
-              >
-                <div className="p-6 border-b flex-shrink-0">
-                  <h2 className="text-xl font-semibold text-gray-900">
-                    {editingNews ? '编辑新闻' : '发布新闻'}
-                  </h2>
-                </div>
-
-                <div className="flex-1 overflow-y-auto p-6">
-                  <form onSubmit={handleSubmit} className="space-y-4">
-                    <div className="grid grid-cols-1 md:grid-cols-2 gap-4">
-                      <div className="md:col-span-2">
-                        <label className="block text-sm font-medium text-gray-700 mb-1">新闻标题 *</label>
-                        <input
-                          type="text"
-                          name="title"
-                          value={form.title}
-                          onChange={handleChange}
-                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                          placeholder="请输入新闻标题"
-                          required
-                        />
-                      </div>
-
-                      <div>
-                        <label className="block text-sm font-medium text-gray-700 mb-1">新闻分类</label>
-                        <input
-                          type="text"
-                          name="category"
-                          value={form.category}
-                          onChange={handleChange}
-                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                          placeholder="请输入新闻分类"
-                        />
-                      </div>
-
-                      <div>
-                        <label className="block text-sm font-medium text-gray-700 mb-1">作者</label>
-                        <input
-                          type="text"
-                          name="author"
-                          value={form.author}
-                          onChange={handleChange}
-                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                          placeholder="请输入作者"
-                        />
-                      </div>
-
-                      <div>
-                        <label className="block text-sm font-medium text-gray-700 mb-1">阅读时长</label>
-                        <input
-                          type="text"
-                          name="readTime"
-                          value={form.readTime}
-                          onChange={handleChange}
-                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                          placeholder="例如：5分钟"
-                        />
-                      </div>
-
-                      <div>
-                        <label className="block text-sm font-medium text-gray-700 mb-1">图片URL</label>
-                        <input
-                          type="url"
-                          name="imageUrl"
-                          value={form.imageUrl}
-                          onChange={handleChange}
-                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                          placeholder="请输入图片URL"
-                        />
-                      </div>
-                    </div>
-
-                    <div>
-                      <label className="block text-sm font-medium text-gray-700 mb-1">新闻摘要 *</label>
-                      <textarea
-                        name="excerpt"
-                        value={form.excerpt}
-                        onChange={handleChange}
-                        rows={3}
-                        className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500 resize-none"
-                        placeholder="请输入新闻摘要"
-                        required
-                      />
-                    </div>
-
-                    <div>
-                      <label className="block text-sm font-medium text-gray-700 mb-1">新闻内容 *</label>
-                      <textarea
-                        name="content"
-                        value={form.content}
-                        onChange={handleChange}
-                        rows={8}
-                        className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500 resize-none"
-                        placeholder="请输入新闻详细内容"
-                        required
-                      />
-                    </div>
-
-                    <div className="flex items-center">
-                      <input
-                        type="checkbox"
-                        name="isPublished"
-                        checked={form.isPublished}
-                        onChange={handleChange}
-                        className="h-4 w-4 text-blue-600 focus:ring-blue-500 border-gray-300 rounded"
-                      />
-                      <label className="ml-2 block text-sm text-gray-900">
-                        立即发布
-                      </label>
-                    </div>
-
-                    {error && (
-                      <div className="bg-red-50 border border-red-200 rounded-lg p-3 text-red-700 text-sm">
-                        {error}
-                      </div>
-                    )}
-                  </form>
-                </div>
-
-                <div className="p-6 border-t flex-shrink-0">
-                  <div className="flex space-x-3">
-                    <button
-                      type="button"
-                      onClick={() => setShowModal(false)}
-                      className="flex-1 px-4 py-2 text-gray-700 bg-gray-100 rounded-lg hover:bg-gray-200 transition-colors"
-                    >
-                      取消
-                    </button>
-                    <button
-                      type="submit"
-                      onClick={handleSubmit}
-                      className="flex-1 px-4 py-2 bg-blue-600 text-white rounded-lg hover:bg-blue-700 transition-colors"
-                    >
-                      {editingNews ? '更新' : '发布'}
-                    </button>
-                  </div>
-                </div>
-              </motion.div>
-            </div>
-          )}
-        </AnimatePresence>
-      </div>
-    </AdminLayout>
-  )
+'use client'
+
+import { useState, useEffect } from 'react'
+import { motion, AnimatePresence } from 'framer-motion'
+import AdminLayout from '../../../components/admin/AdminLayout'
+import { newsAPI } from '../../../lib/admin-api'
+import { News } from '../../../lib/types'
+
+export default function NewsManagement() {
+  const [newsList, setNewsList] = useState<News[]>([])
+  const [loading, setLoading] = useState(true)
+  const [showModal, setShowModal] = useState(false)
+  const [editingNews, setEditingNews] = useState<News | null>(null)
+  const [error, setError] = useState('')
+  const [form, setForm] = useState<Partial<News>>({
+    title: '',
+    excerpt: '',
+    content: '',
+    category: '',
+    imageUrl: '',
+    author: '',
+    readTime: '',
+    isPublished: false
+  })
+
+  useEffect(() => {
+    fetchNews()
+  }, [])
+
+  const fetchNews = async () => {
+    try {
+      setLoading(true)
+      const res = await newsAPI.getNews()
+      console.log(res)
+      setNewsList(res || []) // 直接使用返回的数组数据
+    } catch (error: any) {
+      console.error('获取新闻列表失败:', error)
+      setError(error.message || '获取新闻列表失败')
+    } finally {
+      setLoading(false)
+    }
+  }
+
+  const handleCreate = () => {
+    setForm({
+      title: '',
+      excerpt: '',
+      content: '',
+      category: '',
+      imageUrl: '',
+      author: '',
+      readTime: '',
+      isPublished: false
+    })
+    setEditingNews(null)
+    setError('')
+    setShowModal(true)
+  }
+
+  const handleEdit = async (news: News) => {
+    try {
+      // 列表只返回摘要，编辑时加载完整新闻（含正文）
+      const detail = await newsAPI.getNewsItem(news.id!)
+      // 定时发布的新闻在表单中仍勾选发布，保存时保留定时
+      setForm({ ...detail, isPublished: detail.isPublished || !!detail.isScheduled })
+      setEditingNews(detail)
+      setError('')
+      setShowModal(true)
+    } catch (error: any) {
+      console.error('获取新闻详情失败:', error)
+      setError(error.message || '获取新闻详情失败')
+    }
+  }
+
+  const handleSubmit = async (e: React.FormEvent) => {
+    e.preventDefault()
+    try {
+      if (editingNews) {
+        await newsAPI.updateNews(editingNews.id!, form)
+      } else {
+        await newsAPI.createNews(form)
+      }
+      
+      setShowModal(false)
+      fetchNews()
+    } catch (error: any) {
+      console.error('保存新闻失败:', error)
+      setError(error.message || '保存新闻失败')
+    }
+  }
+
+  const handleDelete = async (id: number) => {
+    if (window.confirm('确认删除此新闻吗？')) {
+      try {
+        await newsAPI.deleteNews(id)
+        fetchNews()
+      } catch (error: any) {
+        console.error('删除新闻失败:', error)
+        setError(error.message || '删除新闻失败')
+      }
+    }
+  }
+
+  const handleChange = (e: React.ChangeEvent<HTMLInputElement | HTMLTextAreaElement | HTMLSelectElement>) => {
+    const { name, value, type } = e.target
+    setForm(prev => ({
+      ...prev,
+      [name]: type === 'checkbox' 
+        ? (e.target as HTMLInputElement).checked
+        : value
+    }))
+  }
+
+  const formatDate = (dateString: string) => {
+    if (!dateString) return '-'
+    return new Date(dateString).toLocaleDateString('zh-CN', {
+      year: 'numeric',
+      month: '2-digit',
+      day: '2-digit',
+      hour: '2-digit',
+      minute: '2-digit'
+    })
+  }
+
+  if (loading) {
+    return (
+      <AdminLayout>
+        <div className="flex items-center justify-center h-96">
+          <div className="animate-spin rounded-full h-12 w-12 border-b-2 border-blue-600"></div>
+        </div>
+      </AdminLayout>
+    )
+  }
+
+  return (
+    <AdminLayout>
+      <div className="space-y-6">
+        <motion.div
+          initial={{ opacity: 0, y: -20 }}
+          animate={{ opacity: 1, y: 0 }}
+          transition={{ duration: 0.6 }}
+          className="flex justify-between items-center"
+        >
+          <div>
+            <h1 className="text-3xl font-bold text-gray-900">新闻管理</h1>
+            <p className="mt-2 text-gray-600">管理企业新闻和动态信息</p>
+          </div>
+          <button
+            onClick={handleCreate}
+            className="px-4 py-2 bg-blue-600 text-white rounded-lg hover:bg-blue-700 transition-colors"
+          >
+            发布新闻
+          </button>
+        </motion.div>
+
+        {error && (
+          <div className="bg-red-50 border border-red-200 rounded-lg p-4 text-red-700">
+            {error}
+          </div>
+        )}
+
+        <motion.div
+          initial={{ opacity: 0, y: 20 }}
+          animate={{ opacity: 1, y: 0 }}
+          transition={{ duration: 0.6, delay: 0.1 }}
+          className="bg-white rounded-xl shadow-sm border border-gray-200 overflow-hidden"
+        >
+          <div className="overflow-x-auto">
+            <table className="w-full">
+              <thead className="bg-gray-50">
+                <tr>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
+                    新闻信息
+                  </th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
+                    分类
+                  </th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
+                    作者
+                  </th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
+                    状态
+                  </th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
+                    浏览量
+                  </th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">
+                    发布时间
+                  </th>
+                  <th className="px-6 py-3 text-right text-xs font-medium text-gray-500 uppercase tracking-wider">
+                    操作
+                  </th>
+                </tr>
+              </thead>
+              <tbody className="bg-white divide-y divide-gray-200">
+                {newsList.map((news) => (
+                  <tr key={news.id} className="hover:bg-gray-50">
+                    <td className="px-6 py-4">
+                      <div className="flex items-center">
+                        {/* {news.imageUrl && (
+                          <img
+                            className="h-12 w-16 rounded-lg object-cover mr-4"
+                            src={news.imageUrl}
+                            alt={news.title}
+                          />
+                        )} */}
+                        <div className="max-w-xs">
+                          <div className="text-sm font-medium text-gray-900 truncate">
+                            {news.title}
+                          </div>
+                          <div className="text-sm text-gray-500 truncate">
+                            {news.excerpt}
+                          </div>
+                        </div>
+                      </div>
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
+                      {news.category || '-'}
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
+                      {news.author || '-'}
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap">
+                      <span className={`px-2 py-1 text-xs font-semibold rounded-full ${
+                        news.isPublished
+                          ? 'bg-green-100 text-green-800'
+                          : news.isScheduled
+                            ? 'bg-blue-100 text-blue-800'
+                            : 'bg-yellow-100 text-yellow-800'
+                      }`}>
+                        {news.isPublished ? '已发布' : news.isScheduled ? '定时发布' : '草稿'}
+                      </span>
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
+                      {news.viewCount || 0}
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-900">
+                      {formatDate(news.publishedAt || news.createdAt || '')}
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap text-right text-sm font-medium">
+                      <button
+                        onClick={() => handleEdit(news)}
+                        className="text-blue-600 hover:text-blue-900 mr-4"
+                      >
+                        编辑
+                      </button>
+                      <button
+                        onClick={() => handleDelete(news.id!)}
+                        className="text-red-600 hover:text-red-900"
+                      >
+                        删除
+                      </button>
+                    </td>
+                  </tr>
+                ))}
+                {newsList.length === 0 && (
+                  <tr>
+                    <td colSpan={7} className="px-6 py-12 text-center text-gray-500">
+                      暂无新闻数据
+                    </td>
+                  </tr>
+                )}
+              </tbody>
+            </table>
+          </div>
+        </motion.div>
+
+        {/* 新增/编辑模态框 */}
+        <AnimatePresence>
+          {showModal && (
+            <div className="fixed inset-0 bg-black bg-opacity-50 flex items-center justify-center z-50 p-4">
+              <motion.div
+                initial={{ opacity: 0, scale: 0.95 }}
+                animate={{ opacity: 1, scale: 1 }}
+                exit={{ opacity: 0, scale: 0.95 }}
+                className="bg-white rounded-xl shadow-xl max-w-4xl w-full h-full max-h-[90vh] flex flex-col overflow-hidden"
+              >
+                <div className="p-6 border-b flex-shrink-0">
+                  <h2 className="text-xl font-semibold text-gray-900">
+                    {editingNews ? '编辑新闻' : '发布新闻'}
+                  </h2>
+                </div>
+
+                <div className="flex-1 overflow-y-auto p-6">
+                  <form onSubmit={handleSubmit} className="space-y-4">
+                    <div className="grid grid-cols-1 md:grid-cols-2 gap-4">
+                      <div className="md:col-span-2">
+                        <label className="block text-sm font-medium text-gray-700 mb-1">新闻标题 *</label>
+                        <input
+                          type="text"
+                          name="title"
+                          value={form.title}
+                          onChange={handleChange}
+                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                          placeholder="请输入新闻标题"
+                          required
+                        />
+                      </div>
+
+                      <div>
+                        <label className="block text-sm font-medium text-gray-700 mb-1">新闻分类</label>
+                        <input
+                          type="text"
+                          name="category"
+                          value={form.category}
+                          onChange={handleChange}
+                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                          placeholder="请输入新闻分类"
+                        />
+                      </div>
+
+                      <div>
+                        <label className="block text-sm font-medium text-gray-700 mb-1">作者</label>
+                        <input
+                          type="text"
+                          name="author"
+                          value={form.author}
+                          onChange={handleChange}
+                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                          placeholder="请输入作者"
+                        />
+                      </div>
+
+                      <div>
+                        <label className="block text-sm font-medium text-gray-700 mb-1">阅读时长</label>
+                        <input
+                          type="text"
+                          name="readTime"
+                          value={form.readTime}
+                          onChange={handleChange}
+                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                          placeholder="例如：5分钟"
+                        />
+                      </div>
+
+                      <div>
+                        <label className="block text-sm font-medium text-gray-700 mb-1">图片URL</label>
+                        <input
+                          type="url"
+                          name="imageUrl"
+                          value={form.imageUrl}
+                          onChange={handleChange}
+                          className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                          placeholder="请输入图片URL"
+                        />
+                      </div>
+                    </div>
+
+                    <div>
+                      <label className="block text-sm font-medium text-gray-700 mb-1">新闻摘要 *</label>
+                      <textarea
+                        name="excerpt"
+                        value={form.excerpt}
+                        onChange={handleChange}
+                        rows={3}
+                        className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500 resize-none"
+                        placeholder="请输入新闻摘要"
+                        required
+                      />
+                    </div>
+
+                    <div>
+                      <label className="block text-sm font-medium text-gray-700 mb-1">新闻内容 *</label>
+                      <textarea
+                        name="content"
+                        value={form.content}
+                        onChange={handleChange}
+                        rows={8}
+                        className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500 resize-none"
+                        placeholder="请输入新闻详细内容"
+                        required
+                      />
+                    </div>
+
+                    <div className="flex items-center">
+                      <input
+                        type="checkbox"
+                        name="isPublished"
+                        checked={form.isPublished}
+                        onChange={handleChange}
+                        className="h-4 w-4 text-blue-600 focus:ring-blue-500 border-gray-300 rounded"
+                      />
+                      <label className="ml-2 block text-sm text-gray-900">
+                        发布
+                      </label>
+                    </div>
+
+                    <div>
+                      <label className="block text-sm font-medium text-gray-700 mb-1">发布时间</label>
+                      <input
+                        type="datetime-local"
+                        name="publishedAt"
+                        value={form.publishedAt ? form.publishedAt.slice(0, 16) : ''}
+                        onChange={handleChange}
+                        className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900"
+                      />
+                      <p className="mt-1 text-xs text-gray-500">留空则立即发布；晚于当前时间时到点自动发布</p>
+                    </div>
+
+                    {error && (
+                      <div className="bg-red-50 border border-red-200 rounded-lg p-3 text-red-700 text-sm">
+                        {error}
+                      </div>
+                    )}
+                  </form>
+                </div>
+
+                <div className="p-6 border-t flex-shrink-0">
+                  <div className="flex space-x-3">
+                    <button
+                      type="button"
+                      onClick={() => setShowModal(false)}
+                      className="flex-1 px-4 py-2 text-gray-700 bg-gray-100 rounded-lg hover:bg-gray-200 transition-colors"
+                    >
+                      取消
+                    </button>
+                    <button
+                      type="submit"
+                      onClick={handleSubmit}
+                      className="flex-1 px-4 py-2 bg-blue-600 text-white rounded-lg hover:bg-blue-700 transition-colors"
+                    >
+                      {editingNews ? '更新' : '发布'}
+                    </button>
+                  </div>
+                </div>
+              </motion.div>
+            </div>
+          )}
+        </AnimatePresence>
+      </div>
+    </AdminLayout>
+  )
 }
\ No newline at end of file
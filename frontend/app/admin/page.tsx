@@ -1,23 +1,23 @@
-'use client'
-
-import { useEffect } from 'react'
-import { useRouter } from 'next/navigation'
-
-export default function AdminRedirect() {
-  const router = useRouter()
-
-  useEffect(() => {
-    // 重定向到 dashboard
-    router.replace('/admin/dashboard')
-  }, [router])
-
-  // 显示加载状态
-  return (
-    <div className="min-h-screen bg-gray-100 flex items-center justify-center">
-      <div className="text-center">
-        <div className="animate-spin rounded-full h-12 w-12 border-b-2 border-blue-600 mx-auto mb-4"></div>
-        <p className="text-gray-600">正在跳转到管理后台...</p>
-      </div>
-    </div>
-  )
+'use client'
+
+import { useEffect } from 'react'
+import { useRouter } from 'next/navigation'
+
+export default function AdminRedirect() {
+  const router = useRouter()
+
+  useEffect(() => {
+    // 重定向到 dashboard
+    router.replace('/admin/dashboard')
+  }, [router])
+
+  // 显示加载状态
+  return (
+    <div className="min-h-screen bg-gray-100 flex items-center justify-center">
+      <div className="text-center">
+        <div className="animate-spin rounded-full h-12 w-12 border-b-2 border-blue-600 mx-auto mb-4"></div>
+        <p className="text-gray-600">正在跳转到管理后台...</p>
+      </div>
+    </div>
+  )
 }
\ No newline at end of file
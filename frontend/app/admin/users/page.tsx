@@ -1,362 +1,362 @@
-'use client'
-
-import { useState, useEffect } from 'react'
-import { motion, AnimatePresence } from 'framer-motion'
-import AdminLayout from '../../../components/admin/AdminLayout'
-import { userAPI } from '../../../lib/admin-api'
-import { useAuth } from '../../../hooks/useAuth'
-
-interface AdminUser {
-  id: number
-  username: string
-  email: string
-  fullName: string
-  role: 'SUPER_ADMIN' | 'ADMIN' | 'EDITOR'
-  enabled: boolean
-  createdAt: string
-  updatedAt: string
-}
-
-interface UserForm {
-  username: string
-  password: string
-  email: string
-  fullName: string
-  role: 'SUPER_ADMIN' | 'ADMIN' | 'EDITOR'
-  enabled: boolean
-}
-
-export default function AdminUsers() {
-  const { hasPermission } = useAuth()
-  const [users, setUsers] = useState<AdminUser[]>([])
-  const [loading, setLoading] = useState(true)
-  const [showModal, setShowModal] = useState(false)
-  const [editingUser, setEditingUser] = useState<AdminUser | null>(null)
-  const [form, setForm] = useState<UserForm>({
-    username: '',
-    password: '',
-    email: '',
-    fullName: '',
-    role: 'ADMIN',
-    enabled: true
-  })
-  const [error, setError] = useState('')
-
-  useEffect(() => {
-    fetchUsers()
-  }, [])
-
-  const fetchUsers = async () => {
-    try {
-      const data = await userAPI.getUsers()
-      setUsers(data.content || [])
-    } catch (error) {
-      console.error('获取用户列表失败:', error)
-    } finally {
-      setLoading(false)
-    }
-  }
-
-  const handleSubmit = async (e: React.FormEvent) => {
-    e.preventDefault()
-    setError('')
-
-    try {
-      if (editingUser) {
-        await userAPI.updateUser(editingUser.id, form)
-      } else {
-        await userAPI.createUser(form)
-      }
-      
-      fetchUsers()
-      setShowModal(false)
-      resetForm()
-    } catch (error: any) {
-      setError(error.message || '操作失败')
-    }
-  }
-
-  const handleEdit = (user: AdminUser) => {
-    setEditingUser(user)
-    setForm({
-      username: user.username,
-      password: '',
-      email: user.email || '',
-      fullName: user.fullName || '',
-      role: user.role,
-      enabled: user.enabled
-    })
-    setShowModal(true)
-  }
-
-  const handleDelete = async (id: number) => {
-    if (!confirm('确定要删除这个用户吗？')) return
-
-    try {
-      await userAPI.deleteUser(id)
-      fetchUsers()
-    } catch (error) {
-      console.error('删除用户失败:', error)
-    }
-  }
-
-  const resetForm = () => {
-    setForm({
-      username: '',
-      password: '',
-      email: '',
-      fullName: '',
-      role: 'ADMIN',
-      enabled: true
-    })
-    setEditingUser(null)
-    setError('')
-  }
-
-  const getRoleLabel = (role: string) => {
-    switch (role) {
-      case 'SUPER_ADMIN': return '超级管理员'
-      case 'ADMIN': return '管理员'
-      case 'EDITOR': return '编辑员'
-      default: return role
-    }
-  }
-
-  if (loading) {
-    return (
-      <AdminLayout>
-        <div className="flex items-center justify-center h-96">
-          <div className="animate-spin rounded-full h-12 w-12 border-b-2 border-blue-600"></div>
-        </div>
-      </AdminLayout>
-    )
-  }
-
-  return (
-    <AdminLayout>
-      <div className="space-y-6">
-        {/* 页面标题和操作 */}
-        <div className="flex justify-between items-center">
-          <motion.div
-            initial={{ opacity: 0, y: -20 }}
-            animate={{ opacity: 1, y: 0 }}
-          >
-            <h1 className="text-3xl font-bold text-gray-900">用户管理</h1>
-            <p className="mt-2 text-gray-600">管理系统管理员账户</p>
-          </motion.div>
-
-          <motion.button
-            initial={{ opacity: 0, scale: 0.9 }}
-            animate={{ opacity: 1, scale: 1 }}
-            onClick={() => {
-              resetForm()
-              setShowModal(true)
-            }}
-            disabled={!hasPermission('SUPER_ADMIN')}
-            className={`px-4 py-2 rounded-lg transition-colors ${
-              hasPermission('SUPER_ADMIN')
-                ? 'bg-blue-600 text-white hover:bg-blue-700'
-                : 'bg-gray-300 text-gray-500 cursor-not-allowed'
-            }`}
-          >
-            新增用户
-          </motion.button>
-        </div>
-
-        {/* 用户列表 */}
-        <motion.div
-          initial={{ opacity: 0, y: 20 }}
-          animate={{ opacity: 1, y: 0 }}
-          transition={{ delay: 0.2 }}
-          className="bg-white rounded-xl shadow-sm border border-gray-200 overflow-hidden"
-        >
-          <div className="overflow-x-auto">
-            <table className="w-full">
-              <thead className="bg-gray-50">
-                <tr>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">用户信息</th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">角色</th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">状态</th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">创建时间</th>
-                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">操作</th>
-                </tr>
-              </thead>
-              <tbody className="bg-white divide-y divide-gray-200">
-                {users.map((user) => (
-                  <tr key={user.id} className="hover:bg-gray-50">
-                    <td className="px-6 py-4 whitespace-nowrap">
-                      <div>
-                        <div className="text-sm font-medium text-gray-900">{user.fullName || user.username}</div>
-                        <div className="text-sm text-gray-500">{user.email}</div>
-                        <div className="text-xs text-gray-400">@{user.username}</div>
-                      </div>
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap">
-                      <span className={`inline-flex px-2 py-1 text-xs font-semibold rounded-full ${
-                        user.role === 'SUPER_ADMIN' ? 'bg-red-100 text-red-800' :
-                        user.role === 'ADMIN' ? 'bg-blue-100 text-blue-800' :
-                        'bg-green-100 text-green-800'
-                      }`}>
-                        {getRoleLabel(user.role)}
-                      </span>
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap">
-                      <span className={`inline-flex px-2 py-1 text-xs font-semibold rounded-full ${
-                        user.enabled ? 'bg-green-100 text-green-800' : 'bg-red-100 text-red-800'
-                      }`}>
-                        {user.enabled ? '启用' : '禁用'}
-                      </span>
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-500">
-                      {new Date(user.createdAt).toLocaleDateString()}
-                    </td>
-                    <td className="px-6 py-4 whitespace-nowrap text-sm font-medium space-x-2">
-                      <button
-                        onClick={() => handleEdit(user)}
-                        disabled={!hasPermission('SUPER_ADMIN')}
-                        className={`${
-                          hasPermission('SUPER_ADMIN')
-                            ? 'text-blue-600 hover:text-blue-900'
-                            : 'text-gray-400 cursor-not-allowed'
-                        }`}
-                      >
-                        编辑
-                      </button>
-                      <button
-                        onClick={() => handleDelete(user.id)}
-                        disabled={!hasPermission('SUPER_ADMIN')}
-                        className={`${
-                          hasPermission('SUPER_ADMIN')
-                            ? 'text-red-600 hover:text-red-900'
-                            : 'text-gray-400 cursor-not-allowed'
-                        }`}
-                      >
-                        删除
-                      </button>
-                    </td>
-                  </tr>
-                ))}
-              </tbody>
-            </table>
-          </div>
-        </motion.div>
-
-        {/* 模态框 */}
-        <AnimatePresence>
-          {showModal && (
-            <div className="fixed inset-0 bg-black bg-opacity-50 flex items-center justify-center z-50">
-              <motion.div
-                initial={{ opacity: 0, scale: 0.9 }}
-                animate={{ opacity: 1, scale: 1 }}
-                exit={{ opacity: 0, scale: 0.9 }}
-                className="bg-white rounded-xl p-6 w-full max-w-md mx-4"
-              >
-                <h2 className="text-xl font-bold text-gray-900 mb-4">
-                  {editingUser ? '编辑用户' : '新增用户'}
-                </h2>
-
-                <form onSubmit={handleSubmit} className="space-y-4">
-                  <div>
-                    <label className="block text-sm font-medium text-gray-700 mb-1">用户名</label>
-                    <input
-                      type="text"
-                      value={form.username}
-                      onChange={(e) => setForm({ ...form, username: e.target.value })}
-                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                      placeholder="请输入用户名"
-                      required
-                    />
-                  </div>
-
-                  <div>
-                    <label className="block text-sm font-medium text-gray-700 mb-1">
-                      密码 {editingUser && '(留空则不修改)'}
-                    </label>
-                    <input
-                      type="password"
-                      value={form.password}
-                      onChange={(e) => setForm({ ...form, password: e.target.value })}
-                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                      placeholder={editingUser ? "留空则不修改" : "请输入密码"}
-                      required={!editingUser}
-                    />
-                  </div>
-
-                  <div>
-                    <label className="block text-sm font-medium text-gray-700 mb-1">邮箱</label>
-                    <input
-                      type="email"
-                      value={form.email}
-                      onChange={(e) => setForm({ ...form, email: e.target.value })}
-                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                      placeholder="请输入邮箱地址"
-                    />
-                  </div>
-
-                  <div>
-                    <label className="block text-sm font-medium text-gray-700 mb-1">姓名</label>
-                    <input
-                      type="text"
-                      value={form.fullName}
-                      onChange={(e) => setForm({ ...form, fullName: e.target.value })}
-                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
-                      placeholder="请输入全名"
-                    />
-                  </div>
-
-                  <div>
-                    <label className="block text-sm font-medium text-gray-700 mb-1">角色</label>
-                    <select
-                      value={form.role}
-                      onChange={(e) => setForm({ ...form, role: e.target.value as any })}
-                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900"
-                    >
-                      <option value="ADMIN">管理员</option>
-                      <option value="EDITOR">编辑员</option>
-                      <option value="SUPER_ADMIN">超级管理员</option>
-                    </select>
-                  </div>
-
-                  <div className="flex items-center">
-                    <input
-                      type="checkbox"
-                      id="enabled"
-                      checked={form.enabled}
-                      onChange={(e) => setForm({ ...form, enabled: e.target.checked })}
-                      className="h-4 w-4 text-blue-600 focus:ring-blue-500 border-gray-300 rounded"
-                    />
-                    <label htmlFor="enabled" className="ml-2 block text-sm text-gray-900">
-                      启用账户
-                    </label>
-                  </div>
-
-                  {error && (
-                    <div className="bg-red-50 border border-red-200 rounded-lg p-3 text-red-700 text-sm">
-                      {error}
-                    </div>
-                  )}
-
-                  <div className="flex space-x-3 pt-4">
-                    <button
-                      type="button"
-                      onClick={() => setShowModal(false)}
-                      className="flex-1 px-4 py-2 text-gray-700 bg-gray-100 rounded-lg hover:bg-gray-200 transition-colors"
-                    >
-                      取消
-                    </button>
-                    <button
-                      type="submit"
-                      className="flex-1 px-4 py-2 bg-blue-600 text-white rounded-lg hover:bg-blue-700 transition-colors"
-                    >
-                      {editingUser ? '更新' : '创建'}
-                    </button>
-                  </div>
-                </form>
-              </motion.div>
-            </div>
-          )}
-        </AnimatePresence>
-      </div>
-    </AdminLayout>
-  )
+'use client'
+
+import { useState, useEffect } from 'react'
+import { motion, AnimatePresence } from 'framer-motion'
+import AdminLayout from '../../../components/admin/AdminLayout'
+import { userAPI } from '../../../lib/admin-api'
+import { useAuth } from '../../../hooks/useAuth'
+
+interface AdminUser {
+  id: number
+  username: string
+  email: string
+  fullName: string
+  role: 'SUPER_ADMIN' | 'ADMIN' | 'EDITOR'
+  enabled: boolean
+  createdAt: string
+  updatedAt: string
+}
+
+interface UserForm {
+  username: string
+  password: string
+  email: string
+  fullName: string
+  role: 'SUPER_ADMIN' | 'ADMIN' | 'EDITOR'
+  enabled: boolean
+}
+
+export default function AdminUsers() {
+  const { hasPermission } = useAuth()
+  const [users, setUsers] = useState<AdminUser[]>([])
+  const [loading, setLoading] = useState(true)
+  const [showModal, setShowModal] = useState(false)
+  const [editingUser, setEditingUser] = useState<AdminUser | null>(null)
+  const [form, setForm] = useState<UserForm>({
+    username: '',
+    password: '',
+    email: '',
+    fullName: '',
+    role: 'ADMIN',
+    enabled: true
+  })
+  const [error, setError] = useState('')
+
+  useEffect(() => {
+    fetchUsers()
+  }, [])
+
+  const fetchUsers = async () => {
+    try {
+      const data = await userAPI.getUsers()
+      setUsers(data.content || [])
+    } catch (error) {
+      console.error('获取用户列表失败:', error)
+    } finally {
+      setLoading(false)
+    }
+  }
+
+  const handleSubmit = async (e: React.FormEvent) => {
+    e.preventDefault()
+    setError('')
+
+    try {
+      if (editingUser) {
+        await userAPI.updateUser(editingUser.id, form)
+      } else {
+        await userAPI.createUser(form)
+      }
+      
+      fetchUsers()
+      setShowModal(false)
+      resetForm()
+    } catch (error: any) {
+      setError(error.message || '操作失败')
+    }
+  }
+
+  const handleEdit = (user: AdminUser) => {
+    setEditingUser(user)
+    setForm({
+      username: user.username,
+      password: '',
+      email: user.email || '',
+      fullName: user.fullName || '',
+      role: user.role,
+      enabled: user.enabled
+    })
+    setShowModal(true)
+  }
+
+  const handleDelete = async (id: number) => {
+    if (!confirm('确定要删除这个用户吗？')) return
+
+    try {
+      await userAPI.deleteUser(id)
+      fetchUsers()
+    } catch (error) {
+      console.error('删除用户失败:', error)
+    }
+  }
+
+  const resetForm = () => {
+    setForm({
+      username: '',
+      password: '',
+      email: '',
+      fullName: '',
+      role: 'ADMIN',
+      enabled: true
+    })
+    setEditingUser(null)
+    setError('')
+  }
+
+  const getRoleLabel = (role: string) => {
+    switch (role) {
+      case 'SUPER_ADMIN': return '超级管理员'
+      case 'ADMIN': return '管理员'
+      case 'EDITOR': return '编辑员'
+      default: return role
+    }
+  }
+
+  if (loading) {
+    return (
+      <AdminLayout>
+        <div className="flex items-center justify-center h-96">
+          <div className="animate-spin rounded-full h-12 w-12 border-b-2 border-blue-600"></div>
+        </div>
+      </AdminLayout>
+    )
+  }
+
+  return (
+    <AdminLayout>
+      <div className="space-y-6">
+        {/* 页面标题和操作 */}
+        <div className="flex justify-between items-center">
+          <motion.div
+            initial={{ opacity: 0, y: -20 }}
+            animate={{ opacity: 1, y: 0 }}
+          >
+            <h1 className="text-3xl font-bold text-gray-900">用户管理</h1>
+            <p className="mt-2 text-gray-600">管理系统管理员账户</p>
+          </motion.div>
+
+          <motion.button
+            initial={{ opacity: 0, scale: 0.9 }}
+            animate={{ opacity: 1, scale: 1 }}
+            onClick={() => {
+              resetForm()
+              setShowModal(true)
+            }}
+            disabled={!hasPermission('SUPER_ADMIN')}
+            className={`px-4 py-2 rounded-lg transition-colors ${
+              hasPermission('SUPER_ADMIN')
+                ? 'bg-blue-600 text-white hover:bg-blue-700'
+                : 'bg-gray-300 text-gray-500 cursor-not-allowed'
+            }`}
+          >
+            新增用户
+          </motion.button>
+        </div>
+
+        {/* 用户列表 */}
+        <motion.div
+          initial={{ opacity: 0, y: 20 }}
+          animate={{ opacity: 1, y: 0 }}
+          transition={{ delay: 0.2 }}
+          className="bg-white rounded-xl shadow-sm border border-gray-200 overflow-hidden"
+        >
+          <div className="overflow-x-auto">
+            <table className="w-full">
+              <thead className="bg-gray-50">
+                <tr>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">用户信息</th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">角色</th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">状态</th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">创建时间</th>
+                  <th className="px-6 py-3 text-left text-xs font-medium text-gray-500 uppercase tracking-wider">操作</th>
+                </tr>
+              </thead>
+              <tbody className="bg-white divide-y divide-gray-200">
+                {users.map((user) => (
+                  <tr key={user.id} className="hover:bg-gray-50">
+                    <td className="px-6 py-4 whitespace-nowrap">
+                      <div>
+                        <div className="text-sm font-medium text-gray-900">{user.fullName || user.username}</div>
+                        <div className="text-sm text-gray-500">{user.email}</div>
+                        <div className="text-xs text-gray-400">@{user.username}</div>
+                      </div>
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap">
+                      <span className={`inline-flex px-2 py-1 text-xs font-semibold rounded-full ${
+                        user.role === 'SUPER_ADMIN' ? 'bg-red-100 text-red-800' :
+                        user.role === 'ADMIN' ? 'bg-blue-100 text-blue-800' :
+                        'bg-green-100 text-green-800'
+                      }`}>
+                        {getRoleLabel(user.role)}
+                      </span>
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap">
+                      <span className={`inline-flex px-2 py-1 text-xs font-semibold rounded-full ${
+                        user.enabled ? 'bg-green-100 text-green-800' : 'bg-red-100 text-red-800'
+                      }`}>
+                        {user.enabled ? '启用' : '禁用'}
+                      </span>
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap text-sm text-gray-500">
+                      {new Date(user.createdAt).toLocaleDateString()}
+                    </td>
+                    <td className="px-6 py-4 whitespace-nowrap text-sm font-medium space-x-2">
+                      <button
+                        onClick={() => handleEdit(user)}
+                        disabled={!hasPermission('SUPER_ADMIN')}
+                        className={`${
+                          hasPermission('SUPER_ADMIN')
+                            ? 'text-blue-600 hover:text-blue-900'
+                            : 'text-gray-400 cursor-not-allowed'
+                        }`}
+                      >
+                        编辑
+                      </button>
+                      <button
+                        onClick={() => handleDelete(user.id)}
+                        disabled={!hasPermission('SUPER_ADMIN')}
+                        className={`${
+                          hasPermission('SUPER_ADMIN')
+                            ? 'text-red-600 hover:text-red-900'
+                            : 'text-gray-400 cursor-not-allowed'
+                        }`}
+                      >
+                        删除
+                      </button>
+                    </td>
+                  </tr>
+                ))}
+              </tbody>
+            </table>
+          </div>
+        </motion.div>
+
+        {/* 模态框 */}
+        <AnimatePresence>
+          {showModal && (
+            <div className="fixed inset-0 bg-black bg-opacity-50 flex items-center justify-center z-50">
+              <motion.div
+                initial={{ opacity: 0, scale: 0.9 }}
+                animate={{ opacity: 1, scale: 1 }}
+                exit={{ opacity: 0, scale: 0.9 }}
+                className="bg-white rounded-xl p-6 w-full max-w-md mx-4"
+              >
+                <h2 className="text-xl font-bold text-gray-900 mb-4">
+                  {editingUser ? '编辑用户' : '新增用户'}
+                </h2>
+
+                <form onSubmit={handleSubmit} className="space-y-4">
+                  <div>
+                    <label className="block text-sm font-medium text-gray-700 mb-1">用户名</label>
+                    <input
+                      type="text"
+                      value={form.username}
+                      onChange={(e) => setForm({ ...form, username: e.target.value })}
+                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                      placeholder="请输入用户名"
+                      required
+                    />
+                  </div>
+
+                  <div>
+                    <label className="block text-sm font-medium text-gray-700 mb-1">
+                      密码 {editingUser && '(留空则不修改)'}
+                    </label>
+                    <input
+                      type="password"
+                      value={form.password}
+                      onChange={(e) => setForm({ ...form, password: e.target.value })}
+                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                      placeholder={editingUser ? "留空则不修改" : "请输入密码"}
+                      required={!editingUser}
+                    />
+                  </div>
+
+                  <div>
+                    <label className="block text-sm font-medium text-gray-700 mb-1">邮箱</label>
+                    <input
+                      type="email"
+                      value={form.email}
+                      onChange={(e) => setForm({ ...form, email: e.target.value })}
+                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                      placeholder="请输入邮箱地址"
+                    />
+                  </div>
+
+                  <div>
+                    <label className="block text-sm font-medium text-gray-700 mb-1">姓名</label>
+                    <input
+                      type="text"
+                      value={form.fullName}
+                      onChange={(e) => setForm({ ...form, fullName: e.target.value })}
+                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900 placeholder-gray-500"
+                      placeholder="请输入全名"
+                    />
+                  </div>
+
+                  <div>
+                    <label className="block text-sm font-medium text-gray-700 mb-1">角色</label>
+                    <select
+                      value={form.role}
+                      onChange={(e) => setForm({ ...form, role: e.target.value as any })}
+                      className="w-full px-3 py-2 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent text-gray-900"
+                    >
+                      <option value="ADMIN">管理员</option>
+                      <option value="EDITOR">编辑员</option>
+                      <option value="SUPER_ADMIN">超级管理员</option>
+                    </select>
+                  </div>
+
+                  <div className="flex items-center">
+                    <input
+                      type="checkbox"
+                      id="enabled"
+                      checked={form.enabled}
+                      onChange={(e) => setForm({ ...form, enabled: e.target.checked })}
+                      className="h-4 w-4 text-blue-600 focus:ring-blue-500 border-gray-300 rounded"
+                    />
+                    <label htmlFor="enabled" className="ml-2 block text-sm text-gray-900">
+                      启用账户
+                    </label>
+                  </div>
+
+                  {error && (
+                    <div className="bg-red-50 border border-red-200 rounded-lg p-3 text-red-700 text-sm">
+                      {error}
+                    </div>
+                  )}
+
+                  <div className="flex space-x-3 pt-4">
+                    <button
+                      type="button"
+                      onClick={() => setShowModal(false)}
+                      className="flex-1 px-4 py-2 text-gray-700 bg-gray-100 rounded-lg hover:bg-gray-200 transition-colors"
+                    >
+                      取消
+                    </button>
+                    <button
+                      type="submit"
+                      className="flex-1 px-4 py-2 bg-blue-600 text-white rounded-lg hover:bg-blue-700 transition-colors"
+                    >
+                      {editingUser ? '更新' : '创建'}
+                    </button>
+                  </div>
+                </form>
+              </motion.div>
+            </div>
+          )}
+        </AnimatePresence>
+      </div>
+    </AdminLayout>
+  )
 }
\ No newline at end of file
@@ -1,158 +1,158 @@
-'use client'
-
-import { motion } from 'framer-motion'
-import { useInView } from 'framer-motion'
-import { useRef } from 'react'
-import { Target, Users, Award, Lightbulb } from 'lucide-react'
-
-const AboutSection = () => {
-  const ref = useRef(null)
-  const isInView = useInView(ref, { once: true, amount: 0.1 })
-
-  const features = [
-    {
-      icon: Target,
-      title: '专业专注',
-      description: '十年专注数字化转型领域，深耕行业解决方案',
-    },
-    {
-      icon: Users,
-      title: '团队实力',
-      description: '50+专业技术团队，覆盖前端、后端、移动端等全栈开发',
-    },
-    {
-      icon: Award,
-      title: '品质保障',
-      description: '500+成功案例，98%客户满意度，行业领先品质保障',
-    },
-    {
-      icon: Lightbulb,
-      title: '创新驱动',
-      description: '持续技术创新，紧跟前沿技术，为客户提供最优解决方案',
-    },
-  ]
-
-  const containerVariants = {
-    hidden: { opacity: 0 },
-    visible: {
-      opacity: 1,
-      transition: {
-        staggerChildren: 0.2,
-      },
-    },
-  }
-
-  const itemVariants = {
-    hidden: { opacity: 0, y: 50 },
-    visible: {
-      opacity: 1,
-      y: 0,
-      transition: {
-        duration: 0.6,
-      },
-    },
-  }
-
-  return (
-    <section id="about" className="py-20 bg-gray-50" ref={ref}>
-      <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8">
-        <motion.div
-          className="text-center mb-16"
-          initial={{ opacity: 0, y: 50 }}
-          animate={isInView ? { opacity: 1, y: 0 } : { opacity: 0, y: 50 }}
-          transition={{ duration: 0.6 }}
-        >
-          <h2 className="text-3xl sm:text-4xl font-bold text-gray-900 mb-4">
-            关于我们
-          </h2>
-          <div className="w-24 h-1 bg-blue-600 mx-auto mb-6"></div>
-          <p className="text-lg text-gray-600 max-w-3xl mx-auto">
-            宁波数字化解决方案领导者，致力于为企业提供专业的技术服务和创新的数字化转型解决方案
-          </p>
-        </motion.div>
-
-        <div className="grid lg:grid-cols-2 gap-12 items-center mb-16">
-          <motion.div
-            initial={{ opacity: 0, x: -50 }}
-            animate={isInView ? { opacity: 1, x: 0 } : { opacity: 0, x: -50 }}
-            transition={{ duration: 0.6, delay: 0.2 }}
-          >
-            <h3 className="text-2xl font-bold text-gray-900 mb-6">
-              我们的使命
-            </h3>
-            <p className="text-gray-600 mb-4 leading-relaxed">
-              通过先进的技术和专业的服务，帮助企业实现数字化转型，提升业务效率，创造更大价值。我们相信技术的力量能够改变企业的运营方式，推动业务增长。
-            </p>
-            <p className="text-gray-600 mb-6 leading-relaxed">
-              自成立以来，我们始终坚持以客户为中心，以技术为驱动，为众多企业提供了优质的数字化解决方案，赢得了客户的信赖和市场的认可。
-            </p>
-            <motion.button
-              className="bg-blue-600 text-white px-6 py-3 rounded-lg font-semibold hover:bg-blue-700 transition-colors"
-              whileHover={{ scale: 1.05 }}
-              whileTap={{ scale: 0.95 }}
-            >
-              了解更多
-            </motion.button>
-          </motion.div>
-
-          <motion.div
-            className="relative"
-            initial={{ opacity: 0, x: 50 }}
-            animate={isInView ? { opacity: 1, x: 0 } : { opacity: 0, x: 50 }}
-            transition={{ duration: 0.6, delay: 0.4 }}
-          >
-            <div className="relative bg-blue-600 rounded-lg p-8 text-white">
-              <h4 className="text-xl font-bold mb-4">为什么选择我们？</h4>
-              <ul className="space-y-3">
-                <li className="flex items-center">
-                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
-                  专业的技术团队和丰富的项目经验
-                </li>
-                <li className="flex items-center">
-                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
-                  完善的项目管理和质量保障体系
-                </li>
-                <li className="flex items-center">
-                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
-                  持续的技术支持和优化服务
-                </li>
-                <li className="flex items-center">
-                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
-                  灵活的合作模式和具有竞争力的价格
-                </li>
-              </ul>
-            </div>
-          </motion.div>
-        </div>
-
-        <motion.div
-          className="grid md:grid-cols-2 lg:grid-cols-4 gap-8"
-          variants={containerVariants}
-          initial="hidden"
-          animate={isInView ? "visible" : "hidden"}
-        >
-          {features.map((feature, index) => (
-            <motion.div
-              key={index}
-              className="bg-white p-6 rounded-lg shadow-lg text-center hover:shadow-xl transition-shadow"
-              variants={itemVariants}
-              whileHover={{ y: -10 }}
-            >
-              <div className="inline-flex items-center justify-center w-16 h-16 bg-blue-100 rounded-full mb-4">
-                <feature.icon className="w-8 h-8 text-blue-600" />
-              </div>
-              <h4 className="text-xl font-bold text-gray-900 mb-3">
-                {feature.title}
-              </h4>
-              <p className="text-gray-600 leading-relaxed">
-                {feature.description}
-              </p>
-            </motion.div>
-          ))}
-        </motion.div>
-      </div>
-    </section>
-  )
-}
-
+'use client'
+
+import { motion } from 'framer-motion'
+import { useInView } from 'framer-motion'
+import { useRef } from 'react'
+import { Target, Users, Award, Lightbulb } from 'lucide-react'
+
+const AboutSection = () => {
+  const ref = useRef(null)
+  const isInView = useInView(ref, { once: true, amount: 0.1 })
+
+  const features = [
+    {
+      icon: Target,
+      title: '专业专注',
+      description: '十年专注数字化转型领域，深耕行业解决方案',
+    },
+    {
+      icon: Users,
+      title: '团队实力',
+      description: '50+专业技术团队，覆盖前端、后端、移动端等全栈开发',
+    },
+    {
+      icon: Award,
+      title: '品质保障',
+      description: '500+成功案例，98%客户满意度，行业领先品质保障',
+    },
+    {
+      icon: Lightbulb,
+      title: '创新驱动',
+      description: '持续技术创新，紧跟前沿技术，为客户提供最优解决方案',
+    },
+  ]
+
+  const containerVariants = {
+    hidden: { opacity: 0 },
+    visible: {
+      opacity: 1,
+      transition: {
+        staggerChildren: 0.2,
+      },
+    },
+  }
+
+  const itemVariants = {
+    hidden: { opacity: 0, y: 50 },
+    visible: {
+      opacity: 1,
+      y: 0,
+      transition: {
+        duration: 0.6,
+      },
+    },
+  }
+
+  return (
+    <section id="about" className="py-20 bg-gray-50" ref={ref}>
+      <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8">
+        <motion.div
+          className="text-center mb-16"
+          initial={{ opacity: 0, y: 50 }}
+          animate={isInView ? { opacity: 1, y: 0 } : { opacity: 0, y: 50 }}
+          transition={{ duration: 0.6 }}
+        >
+          <h2 className="text-3xl sm:text-4xl font-bold text-gray-900 mb-4">
+            关于我们
+          </h2>
+          <div className="w-24 h-1 bg-blue-600 mx-auto mb-6"></div>
+          <p className="text-lg text-gray-600 max-w-3xl mx-auto">
+            宁波数字化解决方案领导者，致力于为企业提供专业的技术服务和创新的数字化转型解决方案
+          </p>
+        </motion.div>
+
+        <div className="grid lg:grid-cols-2 gap-12 items-center mb-16">
+          <motion.div
+            initial={{ opacity: 0, x: -50 }}
+            animate={isInView ? { opacity: 1, x: 0 } : { opacity: 0, x: -50 }}
+            transition={{ duration: 0.6, delay: 0.2 }}
+          >
+            <h3 className="text-2xl font-bold text-gray-900 mb-6">
+              我们的使命
+            </h3>
+            <p className="text-gray-600 mb-4 leading-relaxed">
+              通过先进的技术和专业的服务，帮助企业实现数字化转型，提升业务效率，创造更大价值。我们相信技术的力量能够改变企业的运营方式，推动业务增长。
+            </p>
+            <p className="text-gray-600 mb-6 leading-relaxed">
+              自成立以来，我们始终坚持以客户为中心，以技术为驱动，为众多企业提供了优质的数字化解决方案，赢得了客户的信赖和市场的认可。
+            </p>
+            <motion.button
+              className="bg-blue-600 text-white px-6 py-3 rounded-lg font-semibold hover:bg-blue-700 transition-colors"
+              whileHover={{ scale: 1.05 }}
+              whileTap={{ scale: 0.95 }}
+            >
+              了解更多
+            </motion.button>
+          </motion.div>
+
+          <motion.div
+            className="relative"
+            initial={{ opacity: 0, x: 50 }}
+            animate={isInView ? { opacity: 1, x: 0 } : { opacity: 0, x: 50 }}
+            transition={{ duration: 0.6, delay: 0.4 }}
+          >
+            <div className="relative bg-blue-600 rounded-lg p-8 text-white">
+              <h4 className="text-xl font-bold mb-4">为什么选择我们？</h4>
+              <ul className="space-y-3">
+                <li className="flex items-center">
+                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
+                  专业的技术团队和丰富的项目经验
+                </li>
+                <li className="flex items-center">
+                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
+                  完善的项目管理和质量保障体系
+                </li>
+                <li className="flex items-center">
+                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
+                  持续的技术支持和优化服务
+                </li>
+                <li className="flex items-center">
+                  <div className="w-2 h-2 bg-blue-300 rounded-full mr-3"></div>
+                  灵活的合作模式和具有竞争力的价格
+                </li>
+              </ul>
+            </div>
+          </motion.div>
+        </div>
+
+        <motion.div
+          className="grid md:grid-cols-2 lg:grid-cols-4 gap-8"
+          variants={containerVariants}
+          initial="hidden"
+          animate={isInView ? "visible" : "hidden"}
+        >
+          {features.map((feature, index) => (
+            <motion.div
+              key={index}
+              className="bg-white p-6 rounded-lg shadow-lg text-center hover:shadow-xl transition-shadow"
+              variants={itemVariants}
+              whileHover={{ y: -10 }}
+            >
+              <div className="inline-flex items-center justify-center w-16 h-16 bg-blue-100 rounded-full mb-4">
+                <feature.icon className="w-8 h-8 text-blue-600" />
+              </div>
+              <h4 className="text-xl font-bold text-gray-900 mb-3">
+                {feature.title}
+              </h4>
+              <p className="text-gray-600 leading-relaxed">
+                {feature.description}
+              </p>
+            </motion.div>
+          ))}
+        </motion.div>
+      </div>
+    </section>
+  )
+}
+
 export default AboutSection
\ No newline at end of file
@@ -1,365 +1,367 @@
-'use client'
-
-import { motion } from 'framer-motion'
-import { useInView } from 'framer-motion'
-import { useRef, useState } from 'react'
-import { 
-  Mail, 
-  Phone, 
-  MapPin, 
-  Clock, 
-  Send,
-  MessageSquare,
-  User,
-  Building
-} from 'lucide-react'
-import { messageAPI } from '../../lib/admin-api'
-
-const ContactSection = () => {
-  const ref = useRef(null)
-  const isInView = useInView(ref, { once: true, amount: 0.1 })
-  const [formData, setFormData] = useState({
-    name: '',
-    company: '',
-    email: '',
-    phone: '',
-    subject: '',
-    content: ''
-  })
-  const [loading, setLoading] = useState(false)
-  const [message, setMessage] = useState<{ type: 'success' | 'error'; text: string } | null>(null)
-
-  const contactInfo = [
-    {
-      icon: Phone,
-      title: '联系电话',
-      content: '+86 574-8888-8888',
-      link: 'tel:+8657488888888',
-    },
-    {
-      icon: Mail,
-      title: '邮箱地址',
-      content: 'contact@ningbo-tech.com',
-      link: 'mailto:contact@ningbo-tech.com',
-    },
-    {
-      icon: MapPin,
-      title: '公司地址',
-      content: '浙江省宁波市高新区创新路123号',
-      link: null,
-    },
-    {
-      icon: Clock,
-      title: '工作时间',
-      content: '周一至周五 9:00-18:00',
-      link: null,
-    },
-  ]
-
-  const handleInputChange = (e: React.ChangeEvent<HTMLInputElement | HTMLTextAreaElement>) => {
-    const { name, value } = e.target
-    setFormData(prev => ({
-      ...prev,
-      [name]: value
-    }))
-  }
-
-  const handleSubmit = async (e: React.FormEvent) => {
-    e.preventDefault()
-    
-    // 验证必填字段
-    if (!formData.name || !formData.email || !formData.content) {
-      setMessage({ type: 'error', text: '请填写所有必填字段' })
-      return
-    }
-
-    try {
-      setLoading(true)
-      setMessage(null)
-      
-      // 提交留言
-      await messageAPI.createMessage({
-        name: formData.name,
-        email: formData.email,
-        phone: formData.phone,
-        company: formData.company,
-        subject: formData.subject || '首页留言',
-        content: formData.content
-      })
-      
-      setMessage({ type: 'success', text: '感谢您的留言，我们会尽快与您联系！' })
-      
-      // 清空表单
-      setFormData({
-        name: '',
-        company: '',
-        email: '',
-        phone: '',
-        subject: '',
-        content: ''
-      })
-    } catch (error: any) {
-      console.error('提交留言失败:', error)
-      setMessage({ type: 'error', text: error.message || '提交失败，请稍后重试' })
-    } finally {
-      setLoading(false)
-    }
-  }
-
-  const containerVariants = {
-    hidden: { opacity: 0 },
-    visible: {
-      opacity: 1,
-      transition: {
-        staggerChildren: 0.1,
-      },
-    },
-  }
-
-  const itemVariants = {
-    hidden: { opacity: 0, y: 50 },
-    visible: {
-      opacity: 1,
-      y: 0,
-      transition: {
-        duration: 0.6,
-      },
-    },
-  }
-
-  return (
-    <section id="contact" className="py-20 bg-white" ref={ref}>
-      <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8">
-        <motion.div
-          className="text-center mb-16"
-          initial={{ opacity: 0, y: 50 }}
-          animate={isInView ? { opacity: 1, y: 0 } : { opacity: 0, y: 50 }}
-          transition={{ duration: 0.6 }}
-        >
-          <h2 className="text-3xl sm:text-4xl font-bold text-gray-900 mb-4">
-            联系我们
-          </h2>
-          <div className="w-24 h-1 bg-blue-600 mx-auto mb-6"></div>
-          <p className="text-lg text-gray-600 max-w-3xl mx-auto">
-            有任何问题或需求？我们的专业团队随时为您提供咨询和服务
-          </p>
-        </motion.div>
-
-        <div className="grid lg:grid-cols-2 gap-12">
-          {/* Contact Information */}
-          <motion.div
-            variants={containerVariants}
-            initial="hidden"
-            animate={isInView ? "visible" : "hidden"}
-          >
-            <motion.h3 
-              className="text-2xl font-bold text-gray-900 mb-8"
-              variants={itemVariants}
-            >
-              联系方式
-            </motion.h3>
-            
-            <div className="space-y-6">
-              {contactInfo.map((info, index) => (
-                <motion.div
-                  key={index}
-                  className="flex items-start space-x-4 group"
-                  variants={itemVariants}
-                  whileHover={{ x: 10 }}
-                >
-                  <div className="flex-shrink-0 w-12 h-12 bg-blue-100 rounded-lg flex items-center justify-center group-hover:bg-blue-200 transition-colors">
-                    <info.icon className="w-6 h-6 text-blue-600" />
-                  </div>
-                  <div>
-                    <h4 className="text-lg font-semibold text-gray-900 mb-1">
-                      {info.title}
-                    </h4>
-                    {info.link ? (
-                      <a
-                        href={info.link}
-                        className="text-gray-600 hover:text-blue-600 transition-colors"
-                      >
-                        {info.content}
-                      </a>
-                    ) : (
-                      <p className="text-gray-600">{info.content}</p>
-                    )}
-                  </div>
-                </motion.div>
-              ))}
-            </div>
-
-            {/* Map placeholder */}
-            {/* <motion.div
-              className="mt-8 bg-gray-100 rounded-lg h-64 flex items-center justify-center"
-              variants={itemVariants}
-            >
-              <div className="text-center text-gray-500">
-                <MapPin className="w-12 h-12 mx-auto mb-4" />
-                <p>地图位置</p>
-                <p className="text-sm">浙江省宁波市高新区创新路123号</p>
-              </div>
-            </motion.div> */}
-          </motion.div>
-
-          {/* Contact Form */}
-          <motion.div
-            initial={{ opacity: 0, x: 50 }}
-            animate={isInView ? { opacity: 1, x: 0 } : { opacity: 0, x: 50 }}
-            transition={{ duration: 0.6, delay: 0.2 }}
-          >
-            <h3 className="text-2xl font-bold text-gray-900 mb-8">
-              发送消息
-            </h3>
-            
-            {message && (
-              <div className={`mb-6 p-4 rounded-lg ${
-                message.type === 'success' 
-                  ? 'bg-green-50 border border-green-200 text-green-800'
-                  : 'bg-red-50 border border-red-200 text-red-800'
-              }`}>
-                {message.text}
-              </div>
-            )}
-            
-            <form onSubmit={handleSubmit} className="space-y-6">
-              <div className="grid md:grid-cols-2 gap-6">
-                <motion.div
-                  whileFocus={{ scale: 1.02 }}
-                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
-                >
-                  <label htmlFor="name" className="block text-sm font-medium text-gray-700 mb-2">
-                    <User className="w-4 h-4 inline mr-2" />
-                    姓名 *
-                  </label>
-                  <input
-                    type="text"
-                    id="name"
-                    name="name"
-                    value={formData.name}
-                    onChange={handleInputChange}
-                    required
-                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
-                    placeholder="请输入您的姓名"
-                  />
-                </motion.div>
-
-                <motion.div
-                  whileFocus={{ scale: 1.02 }}
-                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
-                >
-                  <label htmlFor="company" className="block text-sm font-medium text-gray-700 mb-2">
-                    <Building className="w-4 h-4 inline mr-2" />
-                    公司名称
-                  </label>
-                  <input
-                    type="text"
-                    id="company"
-                    name="company"
-                    value={formData.company}
-                    onChange={handleInputChange}
-                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
-                    placeholder="请输入公司名称"
-                  />
-                </motion.div>
-              </div>
-
-              <div className="grid md:grid-cols-2 gap-6">
-                <motion.div
-                  whileFocus={{ scale: 1.02 }}
-                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
-                >
-                  <label htmlFor="email" className="block text-sm font-medium text-gray-700 mb-2">
-                    <Mail className="w-4 h-4 inline mr-2" />
-                    邮箱地址 *
-                  </label>
-                  <input
-                    type="email"
-                    id="email"
-                    name="email"
-                    value={formData.email}
-                    onChange={handleInputChange}
-                    required
-                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
-                    placeholder="请输入邮箱地址"
-                  />
-                </motion.div>
-
-                <motion.div
-                  whileFocus={{ scale: 1.02 }}
-                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
-                >
-                  <label htmlFor="phone" className="block text-sm font-medium text-gray-700 mb-2">
-                    <Phone className="w-4 h-4 inline mr-2" />
-                    联系电话
-                  </label>
-                  <input
-                    type="tel"
-                    id="phone"
-                    name="phone"
-                    value={formData.phone}
-                    onChange={handleInputChange}
-                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
-                    placeholder="请输入联系电话"
-                  />
-                </motion.div>
-              </div>
-
-              <motion.div
-                whileFocus={{ scale: 1.02 }}
-                transition={{ type: "spring", stiffness: 300, damping: 20 }}
-              >
-                <label htmlFor="subject" className="block text-sm font-medium text-gray-700 mb-2">
-                  <MessageSquare className="w-4 h-4 inline mr-2" />
-                  留言主题
-                </label>
-                <input
-                  type="text"
-                  id="subject"
-                  name="subject"
-                  value={formData.subject}
-                  onChange={handleInputChange}
-                  className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
-                  placeholder="请输入留言主题"
-                />
-              </motion.div>
-
-              <motion.div
-                whileFocus={{ scale: 1.02 }}
-                transition={{ type: "spring", stiffness: 300, damping: 20 }}
-              >
-                <label htmlFor="message" className="block text-sm font-medium text-gray-700 mb-2">
-                  <MessageSquare className="w-4 h-4 inline mr-2" />
-                  留言内容 *
-                </label>
-                <textarea
-                  id="content"
-                  name="content"
-                  value={formData.content}
-                  onChange={handleInputChange}
-                  required
-                  rows={6}
-                  className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all resize-none text-gray-900 placeholder-gray-500"
-                  placeholder="请详细描述您的需求或问题..."
-                ></textarea>
-              </motion.div>
-
-              <motion.button
-                type="submit"
-                disabled={loading}
-                className="w-full bg-blue-600 text-white py-3 px-6 rounded-lg font-semibold hover:bg-blue-700 transition-colors flex items-center justify-center disabled:opacity-50 disabled:cursor-not-allowed"
-                whileHover={{ scale: loading ? 1 : 1.02 }}
-                whileTap={{ scale: loading ? 1 : 0.98 }}
-              >
-                <Send className="w-5 h-5 mr-2" />
-                {loading ? '提交中...' : '发送消息'}
-              </motion.button>
-            </form>
-          </motion.div>
-        </div>
-      </div>
-    </section>
-  )
-}
-
+'use client'
+
+import { motion } from 'framer-motion'
+import { useInView } from 'framer-motion'
+import { useRef, useState } from 'react'
+import { 
+  Mail, 
+  Phone, 
+  MapPin, 
+  Clock, 
+  Send,
+  MessageSquare,
+  User,
+  Building
+} from 'lucide-react'
+import { messageAPI } from '../../lib/admin-api'
+
+const ContactSection = () => {
+  const ref = useRef(null)
+  const isInView = useInView(ref, { once: true, amount: 0.1 })
+  const [formData, setFormData] = useState({
+    name: '',
+    company: '',
+    email: '',
+    phone: '',
+    subject: '',
+    content: ''
+  })
+  const [loading, setLoading] = useState(false)
+  const [message, setMessage] = useState<{ type: 'success' | 'error'; text: string } | null>(null)
+
+  const contactInfo = [
+    {
+      icon: Phone,
+      title: '联系电话',
+      content: '+86 574-8888-8888',
+      link: 'tel:+8657488888888',
+    },
+    {
+      icon: Mail,
+      title: '邮箱地址',
+      content: 'contact@ningbo-tech.com',
+      link: 'mailto:contact@ningbo-tech.com',
+    },
+    {
+      icon: MapPin,
+      title: '公司地址',
+      content: '浙江省宁波市高新区创新路123号',
+      link: null,
+    },
+    {
+      icon: Clock,
+      title: '工作时间',
+      content: '周一至周五 9:00-18:00',
+      link: null,
+    },
+  ]
+
+  const handleInputChange = (e: React.ChangeEvent<HTMLInputElement | HTMLTextAreaElement>) => {
+    const { name, value } = e.target
+    setFormData(prev => ({
+      ...prev,
+      [name]: value
+    }))
+  }
+
+  const handleSubmit = async (e: React.FormEvent) => {
+    e.preventDefault()
+    
+    // 验证必填字段
+    if (!formData.name || !formData.email || !formData.content) {
+      setMessage({ type: 'error', text: '请填写所有必填字段' })
+      return
+    }
+
+    try {
+      setLoading(true)
+      setMessage(null)
+      
+      // 提交留言
+      await messageAPI.createMessage({
+        name: formData.name,
+        email: formData.email,
+        phone: formData.phone,
+        company: formData.company,
+        subject: formData.subject || '首页留言',
+        content: formData.content
+      })
+      
+      setMessage({ type: 'success', text: '感谢您的留言，我们会尽快与您联系！' })
+      
+      // 清空表单
+      setFormData({
+        name: '',
+        company: '',
+        email: '',
+        phone: '',
+        subject: '',
+        content: ''
+      })
+    } catch (error: any) {
+      console.error('提交留言失败:', error)
+      // 429：服务端留言队列已满
+      const busy = error.message?.includes('429')
+      setMessage({ type: 'error', text: busy ? '当前提交人数较多，请稍后重试' : (error.message || '提交失败，请稍后重试') })
+    } finally {
+      setLoading(false)
+    }
+  }
+
+  const containerVariants = {
+    hidden: { opacity: 0 },
+    visible: {
+      opacity: 1,
+      transition: {
+        staggerChildren: 0.1,
+      },
+    },
+  }
+
+  const itemVariants = {
+    hidden: { opacity: 0, y: 50 },
+    visible: {
+      opacity: 1,
+      y: 0,
+      transition: {
+        duration: 0.6,
+      },
+    },
+  }
+
+  return (
+    <section id="contact" className="py-20 bg-white" ref={ref}>
+      <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8">
+        <motion.div
+          className="text-center mb-16"
+          initial={{ opacity: 0, y: 50 }}
+          animate={isInView ? { opacity: 1, y: 0 } : { opacity: 0, y: 50 }}
+          transition={{ duration: 0.6 }}
+        >
+          <h2 className="text-3xl sm:text-4xl font-bold text-gray-900 mb-4">
+            联系我们
+          </h2>
+          <div className="w-24 h-1 bg-blue-600 mx-auto mb-6"></div>
+          <p className="text-lg text-gray-600 max-w-3xl mx-auto">
+            有任何问题或需求？我们的专业团队随时为您提供咨询和服务
+          </p>
+        </motion.div>
+
+        <div className="grid lg:grid-cols-2 gap-12">
+          {/* Contact Information */}
+          <motion.div
+            variants={containerVariants}
+            initial="hidden"
+            animate={isInView ? "visible" : "hidden"}
+          >
+            <motion.h3 
+              className="text-2xl font-bold text-gray-900 mb-8"
+              variants={itemVariants}
+            >
+              联系方式
+            </motion.h3>
+            
+            <div className="space-y-6">
+              {contactInfo.map((info, index) => (
+                <motion.div
+                  key={index}
+                  className="flex items-start space-x-4 group"
+                  variants={itemVariants}
+                  whileHover={{ x: 10 }}
+                >
+                  <div className="flex-shrink-0 w-12 h-12 bg-blue-100 rounded-lg flex items-center justify-center group-hover:bg-blue-200 transition-colors">
+                    <info.icon className="w-6 h-6 text-blue-600" />
+                  </div>
+                  <div>
+                    <h4 className="text-lg font-semibold text-gray-900 mb-1">
+                      {info.title}
+                    </h4>
+                    {info.link ? (
+                      <a
+                        href={info.link}
+                        className="text-gray-600 hover:text-blue-600 transition-colors"
+                      >
+                        {info.content}
+                      </a>
+                    ) : (
+                      <p className="text-gray-600">{info.content}</p>
+                    )}
+                  </div>
+                </motion.div>
+              ))}
+            </div>
+
+            {/* Map placeholder */}
+            {/* <motion.div
+              className="mt-8 bg-gray-100 rounded-lg h-64 flex items-center justify-center"
+              variants={itemVariants}
+            >
+              <div className="text-center text-gray-500">
+                <MapPin className="w-12 h-12 mx-auto mb-4" />
+                <p>地图位置</p>
+                <p className="text-sm">浙江省宁波市高新区创新路123号</p>
+              </div>
+            </motion.div> */}
+          </motion.div>
+
+          {/* Contact Form */}
+          <motion.div
+            initial={{ opacity: 0, x: 50 }}
+            animate={isInView ? { opacity: 1, x: 0 } : { opacity: 0, x: 50 }}
+            transition={{ duration: 0.6, delay: 0.2 }}
+          >
+            <h3 className="text-2xl font-bold text-gray-900 mb-8">
+              发送消息
+            </h3>
+            
+            {message && (
+              <div className={`mb-6 p-4 rounded-lg ${
+                message.type === 'success' 
+                  ? 'bg-green-50 border border-green-200 text-green-800'
+                  : 'bg-red-50 border border-red-200 text-red-800'
+              }`}>
+                {message.text}
+              </div>
+            )}
+            
+            <form onSubmit={handleSubmit} className="space-y-6">
+              <div className="grid md:grid-cols-2 gap-6">
+                <motion.div
+                  whileFocus={{ scale: 1.02 }}
+                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
+                >
+                  <label htmlFor="name" className="block text-sm font-medium text-gray-700 mb-2">
+                    <User className="w-4 h-4 inline mr-2" />
+                    姓名 *
+                  </label>
+                  <input
+                    type="text"
+                    id="name"
+                    name="name"
+                    value={formData.name}
+                    onChange={handleInputChange}
+                    required
+                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
+                    placeholder="请输入您的姓名"
+                  />
+                </motion.div>
+
+                <motion.div
+                  whileFocus={{ scale: 1.02 }}
+                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
+                >
+                  <label htmlFor="company" className="block text-sm font-medium text-gray-700 mb-2">
+                    <Building className="w-4 h-4 inline mr-2" />
+                    公司名称
+                  </label>
+                  <input
+                    type="text"
+                    id="company"
+                    name="company"
+                    value={formData.company}
+                    onChange={handleInputChange}
+                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
+                    placeholder="请输入公司名称"
+                  />
+                </motion.div>
+              </div>
+
+              <div className="grid md:grid-cols-2 gap-6">
+                <motion.div
+                  whileFocus={{ scale: 1.02 }}
+                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
+                >
+                  <label htmlFor="email" className="block text-sm font-medium text-gray-700 mb-2">
+                    <Mail className="w-4 h-4 inline mr-2" />
+                    邮箱地址 *
+                  </label>
+                  <input
+                    type="email"
+                    id="email"
+                    name="email"
+                    value={formData.email}
+                    onChange={handleInputChange}
+                    required
+                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
+                    placeholder="请输入邮箱地址"
+                  />
+                </motion.div>
+
+                <motion.div
+                  whileFocus={{ scale: 1.02 }}
+                  transition={{ type: "spring", stiffness: 300, damping: 20 }}
+                >
+                  <label htmlFor="phone" className="block text-sm font-medium text-gray-700 mb-2">
+                    <Phone className="w-4 h-4 inline mr-2" />
+                    联系电话
+                  </label>
+                  <input
+                    type="tel"
+                    id="phone"
+                    name="phone"
+                    value={formData.phone}
+                    onChange={handleInputChange}
+                    className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
+                    placeholder="请输入联系电话"
+                  />
+                </motion.div>
+              </div>
+
+              <motion.div
+                whileFocus={{ scale: 1.02 }}
+                transition={{ type: "spring", stiffness: 300, damping: 20 }}
+              >
+                <label htmlFor="subject" className="block text-sm font-medium text-gray-700 mb-2">
+                  <MessageSquare className="w-4 h-4 inline mr-2" />
+                  留言主题
+                </label>
+                <input
+                  type="text"
+                  id="subject"
+                  name="subject"
+                  value={formData.subject}
+                  onChange={handleInputChange}
+                  className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all text-gray-900 placeholder-gray-500"
+                  placeholder="请输入留言主题"
+                />
+              </motion.div>
+
+              <motion.div
+                whileFocus={{ scale: 1.02 }}
+                transition={{ type: "spring", stiffness: 300, damping: 20 }}
+              >
+                <label htmlFor="message" className="block text-sm font-medium text-gray-700 mb-2">
+                  <MessageSquare className="w-4 h-4 inline mr-2" />
+                  留言内容 *
+                </label>
+                <textarea
+                  id="content"
+                  name="content"
+                  value={formData.content}
+                  onChange={handleInputChange}
+                  required
+                  rows={6}
+                  className="w-full px-4 py-3 border border-gray-300 rounded-lg focus:ring-2 focus:ring-blue-500 focus:border-transparent transition-all resize-none text-gray-900 placeholder-gray-500"
+                  placeholder="请详细描述您的需求或问题..."
+                ></textarea>
+              </motion.div>
+
+              <motion.button
+                type="submit"
+                disabled={loading}
+                className="w-full bg-blue-600 text-white py-3 px-6 rounded-lg font-semibold hover:bg-blue-700 transition-colors flex items-center justify-center disabled:opacity-50 disabled:cursor-not-allowed"
+                whileHover={{ scale: loading ? 1 : 1.02 }}
+                whileTap={{ scale: loading ? 1 : 0.98 }}
+              >
+                <Send className="w-5 h-5 mr-2" />
+                {loading ? '提交中...' : '发送消息'}
+              </motion.button>
+            </form>
+          </motion.div>
+        </div>
+      </div>
+    </section>
+  )
+}
+
 export default ContactSection
\ No newline at end of file
@@ -1,169 +1,169 @@
-'use client'
-
-import { motion } from 'framer-motion'
-import { ChevronDown } from 'lucide-react'
-import { useEffect, useState } from 'react'
-import { companyApi } from '../../lib/api'
-
-const HeroSection = () => {
-  const [dimensions, setDimensions] = useState({ width: 1200, height: 800 })
-  const [companyInfo, setCompanyInfo] = useState<any>(null)
-
-  useEffect(() => {
-    // 获取企业信息
-    const fetchCompanyInfo = async () => {
-      try {
-        const data = await companyApi.getMainCompanyInfo()
-        setCompanyInfo(data)
-      } catch (error) {
-        console.error('获取企业信息失败:', error)
-      }
-    }
-    
-    fetchCompanyInfo()
-  }, [])
-
-  useEffect(() => {
-    if (typeof window !== 'undefined') {
-      setDimensions({
-        width: window.innerWidth,
-        height: window.innerHeight
-      })
-
-      const handleResize = () => {
-        setDimensions({
-          width: window.innerWidth,
-          height: window.innerHeight
-        })
-      }
-
-      window.addEventListener('resize', handleResize)
-      return () => window.removeEventListener('resize', handleResize)
-    }
-  }, [])
-
-  const scrollToNext = () => {
-    const nextSection = document.getElementById('about')
-    if (nextSection) {
-      nextSection.scrollIntoView({ behavior: 'smooth' })
-    }
-  }
-
-  return (
-    <section id="home" className="relative min-h-screen flex items-center justify-center overflow-hidden">
-      {/* Background with gradient overlay */}
-      <div className="absolute inset-0 bg-gradient-to-br from-blue-900 via-blue-800 to-indigo-900"></div>
-      
-      {/* Animated background elements */}
-      <div className="absolute inset-0">
-        {[...Array(50)].map((_, i) => (
-          <motion.div
-            key={i}
-            className="absolute w-1 h-1 bg-white/20 rounded-full"
-            initial={{
-              x: Math.random() * dimensions.width,
-              y: Math.random() * dimensions.height,
-            }}
-            animate={{
-              x: Math.random() * dimensions.width,
-              y: Math.random() * dimensions.height,
-            }}
-            transition={{
-              duration: Math.random() * 10 + 10,
-              repeat: Infinity,
-              repeatType: "reverse",
-            }}
-          />
-        ))}
-      </div>
-
-      {/* Content */}
-      <div className="relative z-10 text-center px-4 sm:px-6 lg:px-8 max-w-4xl mx-auto">
-        <motion.h1
-          className="text-4xl sm:text-6xl md:text-7xl font-bold text-white mb-6"
-          initial={{ opacity: 0, y: 50 }}
-          animate={{ opacity: 1, y: 0 }}
-          transition={{ duration: 0.8, delay: 0.2 }}
-        >
-          {companyInfo?.name || '数字化转型'}
-          <br />
-          <span className="text-blue-300">引领未来</span>
-        </motion.h1>
-
-        <motion.p
-          className="text-xl sm:text-2xl text-blue-100 mb-8 max-w-2xl mx-auto leading-relaxed"
-          initial={{ opacity: 0, y: 30 }}
-          animate={{ opacity: 1, y: 0 }}
-          transition={{ duration: 0.8, delay: 0.4 }}
-        >
-          {companyInfo?.description || '专业的技术团队，创新的解决方案，为您的企业提供全方位的数字化升级服务'}
-        </motion.p>
-
-        <motion.div
-          className="flex flex-col sm:flex-row gap-4 justify-center items-center"
-          initial={{ opacity: 0, y: 30 }}
-          animate={{ opacity: 1, y: 0 }}
-          transition={{ duration: 0.8, delay: 0.6 }}
-        >
-          <motion.button
-            className="bg-blue-600 hover:bg-blue-700 text-white font-semibold py-3 px-8 rounded-lg text-lg transition-colors"
-            whileHover={{ scale: 1.05 }}
-            whileTap={{ scale: 0.95 }}
-          >
-            了解服务
-          </motion.button>
-          <motion.button
-            className="border-2 border-white text-white hover:bg-white hover:text-blue-900 font-semibold py-3 px-8 rounded-lg text-lg transition-colors"
-            whileHover={{ scale: 1.05 }}
-            whileTap={{ scale: 0.95 }}
-          >
-            联系我们
-          </motion.button>
-        </motion.div>
-
-        {/* Statistics */}
-        <motion.div
-          className="mt-16 grid grid-cols-2 md:grid-cols-4 gap-8"
-          initial={{ opacity: 0, y: 50 }}
-          animate={{ opacity: 1, y: 0 }}
-          transition={{ duration: 0.8, delay: 0.8 }}
-        >
-          {[
-            { number: '500+', label: '成功案例' },
-            { number: '98%', label: '客户满意度' },
-            { number: '10+', label: '年经验' },
-            { number: '50+', label: '专业团队' },
-          ].map((stat, index) => (
-            <motion.div
-              key={index}
-              className="text-center"
-              initial={{ opacity: 0, scale: 0.5 }}
-              animate={{ opacity: 1, scale: 1 }}
-              transition={{ duration: 0.5, delay: 1 + index * 0.1 }}
-            >
-              <div className="text-3xl sm:text-4xl font-bold text-blue-300 mb-2">
-                {stat.number}
-              </div>
-              <div className="text-blue-100 text-sm sm:text-base">
-                {stat.label}
-              </div>
-            </motion.div>
-          ))}
-        </motion.div>
-      </div>
-
-      {/* Scroll indicator */}
-      <motion.button
-        className="absolute bottom-8 left-1/2 transform -translate-x-1/2 text-white"
-        onClick={scrollToNext}
-        animate={{ y: [0, 10, 0] }}
-        transition={{ duration: 2, repeat: Infinity }}
-        whileHover={{ scale: 1.1 }}
-      >
-        <ChevronDown className="w-8 h-8" />
-      </motion.button>
-    </section>
-  )
-}
-
+'use client'
+
+import { motion } from 'framer-motion'
+import { ChevronDown } from 'lucide-react'
+import { useEffect, useState } from 'react'
+import { companyApi } from '../../lib/api'
+
+const HeroSection = () => {
+  const [dimensions, setDimensions] = useState({ width: 1200, height: 800 })
+  const [companyInfo, setCompanyInfo] = useState<any>(null)
+
+  useEffect(() => {
+    // 获取企业信息
+    const fetchCompanyInfo = async () => {
+      try {
+        const data = await companyApi.getMainCompanyInfo()
+        setCompanyInfo(data)
+      } catch (error) {
+        console.error('获取企业信息失败:', error)
+      }
+    }
+    
+    fetchCompanyInfo()
+  }, [])
+
+  useEffect(() => {
+    if (typeof window !== 'undefined') {
+      setDimensions({
+        width: window.innerWidth,
+        height: window.innerHeight
+      })
+
+      const handleResize = () => {
+        setDimensions({
+          width: window.innerWidth,
+          height: window.innerHeight
+        })
+      }
+
+      window.addEventListener('resize', handleResize)
+      return () => window.removeEventListener('resize', handleResize)
+    }
+  }, [])
+
+  const scrollToNext = () => {
+    const nextSection = document.getElementById('about')
+    if (nextSection) {
+      nextSection.scrollIntoView({ behavior: 'smooth' })
+    }
+  }
+
+  return (
+    <section id="home" className="relative min-h-screen flex items-center justify-center overflow-hidden">
+      {/* Background with gradient overlay */}
+      <div className="absolute inset-0 bg-gradient-to-br from-blue-900 via-blue-800 to-indigo-900"></div>
+      
+      {/* Animated background elements */}
+      <div className="absolute inset-0">
+        {[...Array(50)].map((_, i) => (
+          <motion.div
+            key={i}
+            className="absolute w-1 h-1 bg-white/20 rounded-full"
+            initial={{
+              x: Math.random() * dimensions.width,
+              y: Math.random() * dimensions.height,
+            }}
+            animate={{
+              x: Math.random() * dimensions.width,
+              y: Math.random() * dimensions.height,
+            }}
+            transition={{
+              duration: Math.random() * 10 + 10,
+              repeat: Infinity,
+              repeatType: "reverse",
+            }}
+          />
+        ))}
+      </div>
+
+      {/* Content */}
+      <div className="relative z-10 text-center px-4 sm:px-6 lg:px-8 max-w-4xl mx-auto">
+        <motion.h1
+          className="text-4xl sm:text-6xl md:text-7xl font-bold text-white mb-6"
+          initial={{ opacity: 0, y: 50 }}
+          animate={{ opacity: 1, y: 0 }}
+          transition={{ duration: 0.8, delay: 0.2 }}
+        >
+          {companyInfo?.name || '数字化转型'}
+          <br />
+          <span className="text-blue-300">引领未来</span>
+        </motion.h1>
+
+        <motion.p
+          className="text-xl sm:text-2xl text-blue-100 mb-8 max-w-2xl mx-auto leading-relaxed"
+          initial={{ opacity: 0, y: 30 }}
+          animate={{ opacity: 1, y: 0 }}
+          transition={{ duration: 0.8, delay: 0.4 }}
+        >
+          {companyInfo?.description || '专业的技术团队，创新的解决方案，为您的企业提供全方位的数字化升级服务'}
+        </motion.p>
+
+        <motion.div
+          className="flex flex-col sm:flex-row gap-4 justify-center items-center"
+          initial={{ opacity: 0, y: 30 }}
+          animate={{ opacity: 1, y: 0 }}
+          transition={{ duration: 0.8, delay: 0.6 }}
+        >
+          <motion.button
+            className="bg-blue-600 hover:bg-blue-700 text-white font-semibold py-3 px-8 rounded-lg text-lg transition-colors"
+            whileHover={{ scale: 1.05 }}
+            whileTap={{ scale: 0.95 }}
+          >
+            了解服务
+          </motion.button>
+          <motion.button
+            className="border-2 border-white text-white hover:bg-white hover:text-blue-900 font-semibold py-3 px-8 rounded-lg text-lg transition-colors"
+            whileHover={{ scale: 1.05 }}
+            whileTap={{ scale: 0.95 }}
+          >
+            联系我们
+          </motion.button>
+        </motion.div>
+
+        {/* Statistics */}
+        <motion.div
+          className="mt-16 grid grid-cols-2 md:grid-cols-4 gap-8"
+          initial={{ opacity: 0, y: 50 }}
+          animate={{ opacity: 1, y: 0 }}
+          transition={{ duration: 0.8, delay: 0.8 }}
+        >
+          {[
+            { number: '500+', label: '成功案例' },
+            { number: '98%', label: '客户满意度' },
+            { number: '10+', label: '年经验' },
+            { number: '50+', label: '专业团队' },
+          ].map((stat, index) => (
+            <motion.div
+              key={index}
+              className="text-center"
+              initial={{ opacity: 0, scale: 0.5 }}
+              animate={{ opacity: 1, scale: 1 }}
+              transition={{ duration: 0.5, delay: 1 + index * 0.1 }}
+            >
+              <div className="text-3xl sm:text-4xl font-bold text-blue-300 mb-2">
+                {stat.number}
+              </div>
+              <div className="text-blue-100 text-sm sm:text-base">
+                {stat.label}
+              </div>
+            </motion.div>
+          ))}
+        </motion.div>
+      </div>
+
+      {/* Scroll indicator */}
+      <motion.button
+        className="absolute bottom-8 left-1/2 transform -translate-x-1/2 text-white"
+        onClick={scrollToNext}
+        animate={{ y: [0, 10, 0] }}
+        transition={{ duration: 2, repeat: Infinity }}
+        whileHover={{ scale: 1.1 }}
+      >
+        <ChevronDown className="w-8 h-8" />
+      </motion.button>
+    </section>
+  )
+}
+
 export default HeroSection
\ No newline at end of file
@@ -1,230 +1,230 @@
-'use client'
-
-import { motion } from 'framer-motion'
-import { useState, useEffect } from 'react'
-import { companyApi } from '../../lib/api'
-import { 
-  Mail, 
-  Phone, 
-  MapPin, 
-  Github, 
-  Linkedin, 
-  Twitter,
-  ChevronUp
-} from 'lucide-react'
-
-const Footer = () => {
-  const [companyInfo, setCompanyInfo] = useState<any>(null)
-
-  useEffect(() => {
-    // 获取企业信息
-    const fetchCompanyInfo = async () => {
-      try {
-        const data = await companyApi.getMainCompanyInfo()
-        setCompanyInfo(data)
-      } catch (error) {
-        console.error('获取企业信息失败:', error)
-      }
-    }
-    
-    fetchCompanyInfo()
-  }, [])
-  const scrollToTop = () => {
-    window.scrollTo({ top: 0, behavior: 'smooth' })
-  }
-
-  const footerLinks = {
-    services: [
-      { name: '网站开发', href: '#services' },
-      { name: '移动应用', href: '#services' },
-      { name: '系统集成', href: '#services' },
-      { name: '云端部署', href: '#services' },
-    ],
-    company: [
-      { name: '关于我们', href: '#about' },
-      { name: '团队介绍', href: '#about' },
-      { name: '企业文化', href: '#about' },
-      { name: '发展历程', href: '#about' },
-    ],
-    resources: [
-      { name: '技术博客', href: '#news' },
-      { name: '案例研究', href: '#news' },
-      { name: '行业报告', href: '#news' },
-      { name: '技术文档', href: '#news' },
-    ],
-    support: [
-      { name: '联系我们', href: '#contact' },
-      { name: '在线咨询', href: '#contact' },
-      { name: '技术支持', href: '#contact' },
-      { name: '服务条款', href: '#contact' },
-    ],
-  }
-
-  const socialLinks = [
-    { icon: Github, href: 'https://github.com', label: 'GitHub' },
-    { icon: Linkedin, href: 'https://linkedin.com', label: 'LinkedIn' },
-    { icon: Twitter, href: 'https://twitter.com', label: 'Twitter' },
-  ]
-
-  return (
-    <footer className="bg-gray-900 text-white">
-      {/* Main footer content */}
-      <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8 py-12">
-        <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-4 gap-8">
-          {/* Company info */}
-          <motion.div
-            className="lg:col-span-1"
-            initial={{ opacity: 0, y: 20 }}
-            whileInView={{ opacity: 1, y: 0 }}
-            transition={{ duration: 0.6 }}
-            viewport={{ once: true }}
-          >
-            <h3 className="text-2xl font-bold text-blue-400 mb-4">
-              {companyInfo?.name || '宁波企业'}
-            </h3>
-            <p className="text-gray-400 mb-6 leading-relaxed">
-              {companyInfo?.description || '专业的数字化转型服务提供商，致力于为企业提供创新的技术解决方案和优质的咨询服务。'}
-            </p>
-            
-            <div className="space-y-3">
-              <div className="flex items-center text-gray-400">
-                <Phone className="w-4 h-4 mr-3" />
-                <span>{companyInfo?.phoneNumber || '+86 574-8888-8888'}</span>
-              </div>
-              <div className="flex items-center text-gray-400">
-                <Mail className="w-4 h-4 mr-3" />
-                <span>{companyInfo?.email || 'contact@ningbo-tech.com'}</span>
-              </div>
-              <div className="flex items-start text-gray-400">
-                <MapPin className="w-4 h-4 mr-3 mt-1" />
-                <span>{companyInfo?.address || '浙江省宁波市高新区创新路123号'}</span>
-              </div>
-            </div>
-          </motion.div>
-
-          {/* Services */}
-          <motion.div
-            initial={{ opacity: 0, y: 20 }}
-            whileInView={{ opacity: 1, y: 0 }}
-            transition={{ duration: 0.6, delay: 0.1 }}
-            viewport={{ once: true }}
-          >
-            <h4 className="text-lg font-semibold mb-4">产品服务</h4>
-            <ul className="space-y-2">
-              {footerLinks.services.map((link, index) => (
-                <li key={index}>
-                  <a
-                    href={link.href}
-                    className="text-gray-400 hover:text-blue-400 transition-colors"
-                  >
-                    {link.name}
-                  </a>
-                </li>
-              ))}
-            </ul>
-          </motion.div>
-
-          {/* Company */}
-          <motion.div
-            initial={{ opacity: 0, y: 20 }}
-            whileInView={{ opacity: 1, y: 0 }}
-            transition={{ duration: 0.6, delay: 0.2 }}
-            viewport={{ once: true }}
-          >
-            <h4 className="text-lg font-semibold mb-4">公司信息</h4>
-            <ul className="space-y-2">
-              {footerLinks.company.map((link, index) => (
-                <li key={index}>
-                  <a
-                    href={link.href}
-                    className="text-gray-400 hover:text-blue-400 transition-colors"
-                  >
-                    {link.name}
-                  </a>
-                </li>
-              ))}
-            </ul>
-          </motion.div>
-
-          {/* Resources & Support */}
-          <motion.div
-            initial={{ opacity: 0, y: 20 }}
-            whileInView={{ opacity: 1, y: 0 }}
-            transition={{ duration: 0.6, delay: 0.3 }}
-            viewport={{ once: true }}
-          >
-            <h4 className="text-lg font-semibold mb-4">资源中心</h4>
-            <ul className="space-y-2 mb-6">
-              {footerLinks.resources.map((link, index) => (
-                <li key={index}>
-                  <a
-                    href={link.href}
-                    className="text-gray-400 hover:text-blue-400 transition-colors"
-                  >
-                    {link.name}
-                  </a>
-                </li>
-              ))}
-            </ul>
-
-            {/* Social Links */}
-            <div>
-              <h5 className="text-sm font-semibold mb-3">关注我们</h5>
-              <div className="flex space-x-3">
-                {socialLinks.map((social, index) => (
-                  <motion.a
-                    key={index}
-                    href={social.href}
-                    className="w-8 h-8 bg-gray-800 rounded-full flex items-center justify-center text-gray-400 hover:text-blue-400 hover:bg-gray-700 transition-colors"
-                    whileHover={{ scale: 1.1 }}
-                    whileTap={{ scale: 0.9 }}
-                    aria-label={social.label}
-                  >
-                    <social.icon className="w-4 h-4" />
-                  </motion.a>
-                ))}
-              </div>
-            </div>
-          </motion.div>
-        </div>
-      </div>
-
-      {/* Bottom bar */}
-      <div className="border-t border-gray-800">
-        <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8 py-6">
-          <div className="flex flex-col md:flex-row justify-between items-center">
-            <motion.p
-              className="text-gray-400 text-sm"
-              initial={{ opacity: 0 }}
-              whileInView={{ opacity: 1 }}
-              transition={{ duration: 0.6 }}
-              viewport={{ once: true }}
-            >
-              © 2024 {companyInfo?.name || '宁波企业'}门户网站. 保留所有权利.
-            </motion.p>
-            
-            <div className="flex items-center space-x-6 mt-4 md:mt-0">
-              <a href="#" className="text-gray-400 hover:text-blue-400 text-sm transition-colors">
-                隐私政策
-              </a>
-              <a href="#" className="text-gray-400 hover:text-blue-400 text-sm transition-colors">
-                服务条款
-              </a>
-              <motion.button
-                onClick={scrollToTop}
-                className="w-8 h-8 bg-blue-600 rounded-full flex items-center justify-center text-white hover:bg-blue-700 transition-colors"
-                whileHover={{ scale: 1.1 }}
-                whileTap={{ scale: 0.9 }}
-                aria-label="回到顶部"
-              >
-                <ChevronUp className="w-4 h-4" />
-              </motion.button>
-            </div>
-          </div>
-        </div>
-      </div>
-    </footer>
-  )
-}
-
+'use client'
+
+import { motion } from 'framer-motion'
+import { useState, useEffect } from 'react'
+import { companyApi } from '../../lib/api'
+import { 
+  Mail, 
+  Phone, 
+  MapPin, 
+  Github, 
+  Linkedin, 
+  Twitter,
+  ChevronUp
+} from 'lucide-react'
+
+const Footer = () => {
+  const [companyInfo, setCompanyInfo] = useState<any>(null)
+
+  useEffect(() => {
+    // 获取企业信息
+    const fetchCompanyInfo = async () => {
+      try {
+        const data = await companyApi.getMainCompanyInfo()
+        setCompanyInfo(data)
+      } catch (error) {
+        console.error('获取企业信息失败:', error)
+      }
+    }
+    
+    fetchCompanyInfo()
+  }, [])
+  const scrollToTop = () => {
+    window.scrollTo({ top: 0, behavior: 'smooth' })
+  }
+
+  const footerLinks = {
+    services: [
+      { name: '网站开发', href: '#services' },
+      { name: '移动应用', href: '#services' },
+      { name: '系统集成', href: '#services' },
+      { name: '云端部署', href: '#services' },
+    ],
+    company: [
+      { name: '关于我们', href: '#about' },
+      { name: '团队介绍', href: '#about' },
+      { name: '企业文化', href: '#about' },
+      { name: '发展历程', href: '#about' },
+    ],
+    resources: [
+      { name: '技术博客', href: '#news' },
+      { name: '案例研究', href: '#news' },
+      { name: '行业报告', href: '#news' },
+      { name: '技术文档', href: '#news' },
+    ],
+    support: [
+      { name: '联系我们', href: '#contact' },
+      { name: '在线咨询', href: '#contact' },
+      { name: '技术支持', href: '#contact' },
+      { name: '服务条款', href: '#contact' },
+    ],
+  }
+
+  const socialLinks = [
+    { icon: Github, href: 'https://github.com', label: 'GitHub' },
+    { icon: Linkedin, href: 'https://linkedin.com', label: 'LinkedIn' },
+    { icon: Twitter, href: 'https://twitter.com', label: 'Twitter' },
+  ]
+
+  return (
+    <footer className="bg-gray-900 text-white">
+      {/* Main footer content */}
+      <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8 py-12">
+        <div className="grid grid-cols-1 md:grid-cols-2 lg:grid-cols-4 gap-8">
+          {/* Company info */}
+          <motion.div
+            className="lg:col-span-1"
+            initial={{ opacity: 0, y: 20 }}
+            whileInView={{ opacity: 1, y: 0 }}
+            transition={{ duration: 0.6 }}
+            viewport={{ once: true }}
+          >
+            <h3 className="text-2xl font-bold text-blue-400 mb-4">
+              {companyInfo?.name || '宁波企业'}
+            </h3>
+            <p className="text-gray-400 mb-6 leading-relaxed">
+              {companyInfo?.description || '专业的数字化转型服务提供商，致力于为企业提供创新的技术解决方案和优质的咨询服务。'}
+            </p>
+            
+            <div className="space-y-3">
+              <div className="flex items-center text-gray-400">
+                <Phone className="w-4 h-4 mr-3" />
+                <span>{companyInfo?.phoneNumber || '+86 574-8888-8888'}</span>
+              </div>
+              <div className="flex items-center text-gray-400">
+                <Mail className="w-4 h-4 mr-3" />
+                <span>{companyInfo?.email || 'contact@ningbo-tech.com'}</span>
+              </div>
+              <div className="flex items-start text-gray-400">
+                <MapPin className="w-4 h-4 mr-3 mt-1" />
+                <span>{companyInfo?.address || '浙江省宁波市高新区创新路123号'}</span>
+              </div>
+            </div>
+          </motion.div>
+
+          {/* Services */}
+          <motion.div
+            initial={{ opacity: 0, y: 20 }}
+            whileInView={{ opacity: 1, y: 0 }}
+            transition={{ duration: 0.6, delay: 0.1 }}
+            viewport={{ once: true }}
+          >
+            <h4 className="text-lg font-semibold mb-4">产品服务</h4>
+            <ul className="space-y-2">
+              {footerLinks.services.map((link, index) => (
+                <li key={index}>
+                  <a
+                    href={link.href}
+                    className="text-gray-400 hover:text-blue-400 transition-colors"
+                  >
+                    {link.name}
+                  </a>
+                </li>
+              ))}
+            </ul>
+          </motion.div>
+
+          {/* Company */}
+          <motion.div
+            initial={{ opacity: 0, y: 20 }}
+            whileInView={{ opacity: 1, y: 0 }}
+            transition={{ duration: 0.6, delay: 0.2 }}
+            viewport={{ once: true }}
+          >
+            <h4 className="text-lg font-semibold mb-4">公司信息</h4>
+            <ul className="space-y-2">
+              {footerLinks.company.map((link, index) => (
+                <li key={index}>
+                  <a
+                    href={link.href}
+                    className="text-gray-400 hover:text-blue-400 transition-colors"
+                  >
+                    {link.name}
+                  </a>
+                </li>
+              ))}
+            </ul>
+          </motion.div>
+
+          {/* Resources & Support */}
+          <motion.div
+            initial={{ opacity: 0, y: 20 }}
+            whileInView={{ opacity: 1, y: 0 }}
+            transition={{ duration: 0.6, delay: 0.3 }}
+            viewport={{ once: true }}
+          >
+            <h4 className="text-lg font-semibold mb-4">资源中心</h4>
+            <ul className="space-y-2 mb-6">
+              {footerLinks.resources.map((link, index) => (
+                <li key={index}>
+                  <a
+                    href={link.href}
+                    className="text-gray-400 hover:text-blue-400 transition-colors"
+                  >
+                    {link.name}
+                  </a>
+                </li>
+              ))}
+            </ul>
+
+            {/* Social Links */}
+            <div>
+              <h5 className="text-sm font-semibold mb-3">关注我们</h5>
+              <div className="flex space-x-3">
+                {socialLinks.map((social, index) => (
+                  <motion.a
+                    key={index}
+                    href={social.href}
+                    className="w-8 h-8 bg-gray-800 rounded-full flex items-center justify-center text-gray-400 hover:text-blue-400 hover:bg-gray-700 transition-colors"
+                    whileHover={{ scale: 1.1 }}
+                    whileTap={{ scale: 0.9 }}
+                    aria-label={social.label}
+                  >
+                    <social.icon className="w-4 h-4" />
+                  </motion.a>
+                ))}
+              </div>
+            </div>
+          </motion.div>
+        </div>
+      </div>
+
+      {/* Bottom bar */}
+      <div className="border-t border-gray-800">
+        <div className="max-w-7xl mx-auto px-4 sm:px-6 lg:px-8 py-6">
+          <div className="flex flex-col md:flex-row justify-between items-center">
+            <motion.p
+              className="text-gray-400 text-sm"
+              initial={{ opacity: 0 }}
+              whileInView={{ opacity: 1 }}
+              transition={{ duration: 0.6 }}
+              viewport={{ once: true }}
+            >
+              © 2024 {companyInfo?.name || '宁波企业'}门户网站. 保留所有权利.
+            </motion.p>
+            
+            <div className="flex items-center space-x-6 mt-4 md:mt-0">
+              <a href="#" className="text-gray-400 hover:text-blue-400 text-sm transition-colors">
+                隐私政策
+              </a>
+              <a href="#" className="text-gray-400 hover:text-blue-400 text-sm transition-colors">
+                服务条款
+              </a>
+              <motion.button
+                onClick={scrollToTop}
+                className="w-8 h-8 bg-blue-600 rounded-full flex items-center justify-center text-white hover:bg-blue-700 transition-colors"
+                whileHover={{ scale: 1.1 }}
+                whileTap={{ scale: 0.9 }}
+                aria-label="回到顶部"
+              >
+                <ChevronUp className="w-4 h-4" />
+              </motion.button>
+            </div>
+          </div>
+        </div>
+      </div>
+    </footer>
+  )
+}
+
 export default Footer
\ No newline at end of file
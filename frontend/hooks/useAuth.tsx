@@ -29,6 +29,10 @@ export function AuthProvider({ children }: { children: React.ReactNode }) {
 
   const logout = () => {
     console.log('执行退出登录')
+    // 通知后端吊销当前 token，失败不影响本地退出
+    if (localStorage.getItem('admin_token')) {
+      authAPI.logout().catch(error => console.error('吊销 token 失败:', error))
+    }
     setToken(null)
     setUser(null)
     localStorage.removeItem('admin_token')